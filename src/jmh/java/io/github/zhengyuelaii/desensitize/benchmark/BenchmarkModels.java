@@ -0,0 +1,191 @@
+package io.github.zhengyuelaii.desensitize.benchmark;
+
+import io.github.zhengyuelaii.desensitize.annotation.ResponseMasking;
+import io.github.zhengyuelaii.desensitize.core.annotation.MaskingField;
+import io.github.zhengyuelaii.desensitize.core.handler.FixedMaskHandler;
+import io.github.zhengyuelaii.desensitize.core.handler.KeepFirstAndLastHandler;
+import io.github.zhengyuelaii.desensitize.resolver.AbstractMaskingDataResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 基准测试数据模型
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class BenchmarkModels {
+
+    private BenchmarkModels() {
+    }
+
+    /**
+     * 基准测试载荷类型
+     */
+    public enum Payload {
+        FLAT, PAGE_1K, PAGE_10K, DEEP
+    }
+
+    public static Object payload(Payload payload) {
+        switch (payload) {
+            case FLAT:
+                return user(0);
+            case PAGE_1K:
+                return Result.ok(new Page<>(users(1_000)));
+            case PAGE_10K:
+                return Result.ok(new Page<>(users(10_000)));
+            case DEEP:
+                return Result.ok(deep(64));
+            default:
+                throw new IllegalArgumentException("Unknown payload " + payload);
+        }
+    }
+
+    public static User user(int i) {
+        User user = new User();
+        user.id = (long) i;
+        user.name = "李小龙" + i;
+        user.password = "12345678";
+        user.mobile = "137" + String.format("%08d", i);
+        user.address = "上海市浦东新区世纪大道" + i + "号";
+        user.remark = "remark-" + i;
+        return user;
+    }
+
+    public static List<User> users(int size) {
+        List<User> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            users.add(user(i));
+        }
+        return users;
+    }
+
+    public static Node deep(int depth) {
+        Node root = new Node();
+        Node current = root;
+        for (int i = 0; i < depth; i++) {
+            current.user = user(i);
+            current.child = new Node();
+            current = current.child;
+        }
+        return root;
+    }
+
+    public static class User {
+        private Long id;
+        @MaskingField(typeHandler = KeepFirstAndLastHandler.class)
+        private String name;
+        @MaskingField(typeHandler = FixedMaskHandler.class)
+        private String password;
+        private String mobile;
+        private String address;
+        private String remark;
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public String getMobile() {
+            return mobile;
+        }
+
+        public String getAddress() {
+            return address;
+        }
+
+        public String getRemark() {
+            return remark;
+        }
+    }
+
+    public static class Node {
+        private User user;
+        private Node child;
+
+        public User getUser() {
+            return user;
+        }
+
+        public Node getChild() {
+            return child;
+        }
+    }
+
+    public static class Result<T> {
+        private Integer code;
+        private String message;
+        private T data;
+
+        public static <T> Result<T> ok(T data) {
+            Result<T> result = new Result<>();
+            result.code = 0;
+            result.message = "success";
+            result.data = data;
+            return result;
+        }
+
+        public Integer getCode() {
+            return code;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public T getData() {
+            return data;
+        }
+    }
+
+    public static class Page<T> {
+        private final long total;
+        private final List<T> records;
+
+        public Page(List<T> records) {
+            this.total = records.size();
+            this.records = records;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public List<T> getRecords() {
+            return records;
+        }
+    }
+
+    public static class ResultResolver extends AbstractMaskingDataResolver<Result<?>> {
+        @Override
+        protected Object resolveInternal(Result<?> source) {
+            return source.getData();
+        }
+    }
+
+    public static class PageResolver extends AbstractMaskingDataResolver<Page<?>> {
+        @Override
+        protected Object resolveInternal(Page<?> source) {
+            return source.getRecords();
+        }
+    }
+
+    @ResponseMasking(fields = {
+            @MaskingField(name = "mobile", typeHandler = KeepFirstAndLastHandler.class)
+    }, excludeFields = {"remark"})
+    public static class UserController {
+
+        public Result<Page<User>> list() {
+            return null;
+        }
+    }
+}
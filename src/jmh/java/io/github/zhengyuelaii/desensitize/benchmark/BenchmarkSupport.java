@@ -0,0 +1,53 @@
+package io.github.zhengyuelaii.desensitize.benchmark;
+
+import io.github.zhengyuelaii.desensitize.advice.EasyDesensitizeResponseAdvice;
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingDefinitionCache;
+import io.github.zhengyuelaii.desensitize.config.EasyDesensitizeProperties;
+import io.github.zhengyuelaii.desensitize.interceptor.DesensitizeInterceptorChainResolver;
+import io.github.zhengyuelaii.desensitize.interceptor.DesensitizeInterceptorRegistry;
+import io.github.zhengyuelaii.desensitize.plan.PlanMaskingEngine;
+import io.github.zhengyuelaii.desensitize.resolver.GlobalMaskingResolverComposite;
+import org.springframework.core.MethodParameter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 基准测试装配工具，按自动配置的方式组装组件
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    public static GlobalMaskingResolverComposite resolverComposite() {
+        GlobalMaskingResolverComposite composite = new GlobalMaskingResolverComposite();
+        composite.addResolver(new BenchmarkModels.ResultResolver());
+        composite.addResolver(new BenchmarkModels.PageResolver());
+        return composite;
+    }
+
+    public static EasyDesensitizeResponseAdvice advice(EasyDesensitizeProperties properties,
+                                                       DesensitizeInterceptorRegistry registry) {
+        EasyDesensitizeResponseAdvice advice = new EasyDesensitizeResponseAdvice();
+        EasyDesensitizeProperties.DefinitionCache cache = properties.getDefinitionCache();
+        ReflectionTestUtils.setField(advice, "properties", properties);
+        ReflectionTestUtils.setField(advice, "globalMaskingDataResolver", resolverComposite());
+        ReflectionTestUtils.setField(advice, "definitionCache",
+                new ResponseMaskingDefinitionCache(cache.isEnabled(), cache.getMaxSize()));
+        ReflectionTestUtils.setField(advice, "interceptorChainResolver", new DesensitizeInterceptorChainResolver(
+                registry, properties.getInterceptorChainCache().getMaxSize()));
+        ReflectionTestUtils.setField(advice, "planMaskingEngine", new PlanMaskingEngine());
+        return advice;
+    }
+
+    public static MethodParameter returnType() {
+        try {
+            return new MethodParameter(BenchmarkModels.UserController.class.getMethod("list"), -1);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
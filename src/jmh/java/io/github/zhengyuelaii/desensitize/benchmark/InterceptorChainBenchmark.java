@@ -0,0 +1,62 @@
+package io.github.zhengyuelaii.desensitize.benchmark;
+
+import io.github.zhengyuelaii.desensitize.interceptor.DesensitizeInterceptorChain;
+import io.github.zhengyuelaii.desensitize.interceptor.DesensitizeInterceptorChainResolver;
+import io.github.zhengyuelaii.desensitize.interceptor.DesensitizeInterceptorRegistry;
+import io.github.zhengyuelaii.desensitize.interceptor.EasyDesensitizeInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 拦截器链解析基准测试（40 个注册项）
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InterceptorChainBenchmark {
+
+    /**
+     * 拦截器链缓存大小，0 表示每次重新匹配
+     */
+    @Param({"0", "1024"})
+    public int cacheSize;
+
+    private DesensitizeInterceptorChainResolver resolver;
+
+    @Setup
+    public void setUp() {
+        DesensitizeInterceptorRegistry registry = new DesensitizeInterceptorRegistry();
+        for (int i = 0; i < 40; i++) {
+            registry.addInterceptor(new EasyDesensitizeInterceptor() {
+            }).addPathPatterns("/api/module" + i + "/**", "/admin/module" + i + "/*/detail")
+                    .excludePatterns("/api/module" + i + "/public/**")
+                    .order(40 - i);
+        }
+        registry.addInterceptor(new EasyDesensitizeInterceptor() {
+        }).addPathPatterns("/**");
+        resolver = new DesensitizeInterceptorChainResolver(registry, cacheSize);
+    }
+
+    @Benchmark
+    public DesensitizeInterceptorChain getChain() {
+        return resolver.getChain("/api/module7/user/42/detail");
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.zhengyuelaii.desensitize.benchmark;
+
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingContext;
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingDefinition;
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingDefinitionCache;
+import io.github.zhengyuelaii.desensitize.core.handler.FixedMaskHandler;
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.MethodParameter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 脱敏定义构建与上下文合并基准测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MaskingDefinitionBenchmark {
+
+    private final MaskingHandler handler = new FixedMaskHandler();
+
+    private MethodParameter returnType;
+    private ResponseMaskingDefinitionCache cache;
+
+    @Setup
+    public void setUp() {
+        returnType = BenchmarkSupport.returnType();
+        cache = new ResponseMaskingDefinitionCache(true, 1024);
+    }
+
+    @Benchmark
+    public ResponseMaskingDefinition newDefinition() {
+        return new ResponseMaskingDefinition(returnType);
+    }
+
+    @Benchmark
+    public ResponseMaskingDefinition cachedDefinition() {
+        return cache.get(returnType);
+    }
+
+    @Benchmark
+    public void effectiveRulesUnmodified(Blackhole blackhole) {
+        ResponseMaskingContext context = new ResponseMaskingContext(cache.get(returnType));
+        blackhole.consume(context.getEffectiveHandlers());
+        blackhole.consume(context.getEffectiveExcludedFields());
+    }
+
+    @Benchmark
+    public void effectiveRulesModified(Blackhole blackhole) {
+        ResponseMaskingContext context = new ResponseMaskingContext(cache.get(returnType))
+                .addHandler("password", handler)
+                .addExcludedField("address");
+        blackhole.consume(context.getEffectiveHandlers());
+        blackhole.consume(context.getEffectiveExcludedFields());
+    }
+}
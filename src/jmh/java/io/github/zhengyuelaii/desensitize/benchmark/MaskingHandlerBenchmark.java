@@ -0,0 +1,127 @@
+package io.github.zhengyuelaii.desensitize.benchmark;
+
+import io.github.zhengyuelaii.desensitize.core.handler.FixedMaskHandler;
+import io.github.zhengyuelaii.desensitize.core.handler.KeepFirstAndLastHandler;
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+import io.github.zhengyuelaii.desensitize.handler.EmailMaskHandler;
+import io.github.zhengyuelaii.desensitize.handler.FixedLengthMaskHandler;
+import io.github.zhengyuelaii.desensitize.handler.MobileMaskHandler;
+import io.github.zhengyuelaii.desensitize.handler.NameMaskHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 内置字符数组脱敏处理器与核心库/常见 StringBuilder 实现的对比基准测试
+ * <p>
+ * 建议配合 {@code -prof gc} 观察 {@code gc.alloc.rate.norm}。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MaskingHandlerBenchmark {
+
+    private final String name = "李小龙";
+    private final String mobile = "13800138000";
+    private final String email = "zhangsan@example.com";
+
+    private final MaskingHandler coreKeepFirstAndLast = new KeepFirstAndLastHandler();
+    private final MaskingHandler coreFixed = new FixedMaskHandler();
+    private final MaskingHandler builderMobile = new StringBuilderMobileHandler();
+    private final MaskingHandler builderEmail = new SubstringEmailHandler();
+
+    private final MaskingHandler charName = new NameMaskHandler();
+    private final MaskingHandler charMobile = new MobileMaskHandler();
+    private final MaskingHandler charEmail = new EmailMaskHandler();
+    private final MaskingHandler charFixedLength = new FixedLengthMaskHandler();
+
+    @Benchmark
+    public String nameCoreKeepFirstAndLast() {
+        return coreKeepFirstAndLast.getMaskingValue(name);
+    }
+
+    @Benchmark
+    public String nameCharArray() {
+        return charName.getMaskingValue(name);
+    }
+
+    @Benchmark
+    public String mobileStringBuilder() {
+        return builderMobile.getMaskingValue(mobile);
+    }
+
+    @Benchmark
+    public String mobileCharArray() {
+        return charMobile.getMaskingValue(mobile);
+    }
+
+    @Benchmark
+    public String emailSubstring() {
+        return builderEmail.getMaskingValue(email);
+    }
+
+    @Benchmark
+    public String emailCharArray() {
+        return charEmail.getMaskingValue(email);
+    }
+
+    @Benchmark
+    public String fixedCore() {
+        return coreFixed.getMaskingValue(mobile);
+    }
+
+    @Benchmark
+    public String fixedLengthCharArray() {
+        return charFixedLength.getMaskingValue(mobile);
+    }
+
+    /**
+     * 常见的自定义处理器写法：StringBuilder 逐字符拼接
+     */
+    static class StringBuilderMobileHandler implements MaskingHandler {
+
+        @Override
+        public String getMaskingValue(String value) {
+            if (value == null || value.length() < 7) {
+                return value;
+            }
+            StringBuilder builder = new StringBuilder(value.substring(0, 3));
+            for (int i = 3; i < value.length() - 4; i++) {
+                builder.append('*');
+            }
+            return builder.append(value.substring(value.length() - 4)).toString();
+        }
+    }
+
+    /**
+     * 常见的自定义处理器写法：子串与重复掩码拼接
+     */
+    static class SubstringEmailHandler implements MaskingHandler {
+
+        @Override
+        public String getMaskingValue(String value) {
+            int at = value == null ? -1 : value.indexOf('@');
+            if (at <= 1) {
+                return value;
+            }
+            String local = value.substring(0, 1) + new String(new char[at - 1]).replace('\0', '*');
+            return local + value.substring(at);
+        }
+    }
+}
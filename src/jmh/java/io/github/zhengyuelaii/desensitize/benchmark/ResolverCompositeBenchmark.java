@@ -0,0 +1,45 @@
+package io.github.zhengyuelaii.desensitize.benchmark;
+
+import io.github.zhengyuelaii.desensitize.resolver.GlobalMaskingResolverComposite;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 全局解析器组合基准测试（Result&lt;Page&lt;User&gt;&gt;）
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResolverCompositeBenchmark {
+
+    private GlobalMaskingResolverComposite composite;
+    private Object body;
+
+    @Setup
+    public void setUp() {
+        composite = BenchmarkSupport.resolverComposite();
+        body = BenchmarkModels.payload(BenchmarkModels.Payload.PAGE_1K);
+    }
+
+    @Benchmark
+    public Object resolve() {
+        return composite.resolve(body);
+    }
+}
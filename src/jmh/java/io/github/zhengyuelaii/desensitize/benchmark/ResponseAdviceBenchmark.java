@@ -0,0 +1,73 @@
+package io.github.zhengyuelaii.desensitize.benchmark;
+
+import io.github.zhengyuelaii.desensitize.advice.EasyDesensitizeResponseAdvice;
+import io.github.zhengyuelaii.desensitize.config.EasyDesensitizeProperties;
+import io.github.zhengyuelaii.desensitize.config.MaskingMode;
+import io.github.zhengyuelaii.desensitize.interceptor.DesensitizeInterceptorRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EasyDesensitizeResponseAdvice#beforeBodyWrite} 基准测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResponseAdviceBenchmark {
+
+    @Param({"FLAT", "PAGE_1K", "PAGE_10K", "DEEP"})
+    public BenchmarkModels.Payload payload;
+
+    @Param({"REFLECTION", "PLAN"})
+    public MaskingMode mode;
+
+    private EasyDesensitizeResponseAdvice advice;
+    private Object body;
+    private MethodParameter returnType;
+    private ServerHttpRequest request;
+    private ServerHttpResponse response;
+
+    @Setup
+    public void setUp() {
+        EasyDesensitizeProperties properties = new EasyDesensitizeProperties();
+        properties.setMode(mode);
+        advice = BenchmarkSupport.advice(properties, new DesensitizeInterceptorRegistry());
+        body = BenchmarkModels.payload(payload);
+        returnType = BenchmarkSupport.returnType();
+        request = new ServletServerHttpRequest(new MockHttpServletRequest("GET", "/user/list"));
+        response = new ServletServerHttpResponse(new MockHttpServletResponse());
+    }
+
+    @Benchmark
+    public Object beforeBodyWrite() {
+        return advice.beforeBodyWrite(body, returnType, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class, request, response);
+    }
+}
@@ -1,29 +1,37 @@
 package io.github.zhengyuelaii.desensitize.advice;
 
-import io.github.zhengyuelaii.desensitize.annotation.IgnoreResponseMasking;
-import io.github.zhengyuelaii.desensitize.annotation.ResponseMasking;
-import io.github.zhengyuelaii.desensitize.config.EasyDesensitizeProperties;
-import io.github.zhengyuelaii.desensitize.config.FailureStrategy;
-import io.github.zhengyuelaii.desensitize.core.EasyDesensitize;
-import io.github.zhengyuelaii.desensitize.interceptor.DesensitizeInterceptorChain;
-import io.github.zhengyuelaii.desensitize.interceptor.DesensitizeInterceptorRegistration;
-import io.github.zhengyuelaii.desensitize.interceptor.DesensitizeInterceptorRegistry;
-import io.github.zhengyuelaii.desensitize.interceptor.EasyDesensitizeInterceptor;
-import io.github.zhengyuelaii.desensitize.resolver.GlobalMaskingResolverComposite;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import io.github.zhengyuelaii.desensitize.cache.MaskedResponseCache;
+import io.github.zhengyuelaii.desensitize.streaming.StreamingMaskingSupport;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.method.ControllerAdviceBean;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
-import java.util.Comparator;
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 响应结果脱敏
@@ -33,31 +41,24 @@ import java.util.stream.Collectors;
  * @since 2026-01-15
  */
 @ControllerAdvice
-public class EasyDesensitizeResponseAdvice implements ResponseBodyAdvice<Object> {
+public class EasyDesensitizeResponseAdvice extends ResponseMaskingProcessor implements ResponseBodyAdvice<Object> {
 
-    private static final Logger logger = LoggerFactory.getLogger(EasyDesensitizeResponseAdvice.class);
+    @Autowired(required = false)
+    private ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter;
+    @Autowired(required = false)
+    private ApplicationContext applicationContext;
 
-    @Autowired
-    private DesensitizeInterceptorRegistry interceptorRegistry;
-    @Autowired
-    private GlobalMaskingResolverComposite globalMaskingDataResolver;
-    @Autowired
-    private EasyDesensitizeProperties properties;
+    /**
+     * 排在本 Advice 之后的 {@link ResponseBodyAdvice}，首次使用响应缓存时查找
+     */
+    private volatile List<ControllerAdviceBean> followingAdvice;
 
     /**
      * 判断是否支持拦截 这里检查方法或类上是否带有 @ResponseMasking 注解
      */
     @Override
     public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
-        // 1. 忽略脱敏（最高优先级）
-        if (returnType.hasMethodAnnotation(IgnoreResponseMasking.class)
-                || returnType.getContainingClass().isAnnotationPresent(IgnoreResponseMasking.class)) {
-            return false;
-        }
-
-        // 2. 显式开启脱敏
-        return returnType.hasMethodAnnotation(ResponseMasking.class)
-                || returnType.getContainingClass().isAnnotationPresent(ResponseMasking.class);
+        return supports(returnType);
     }
 
     /**
@@ -75,62 +76,177 @@ public class EasyDesensitizeResponseAdvice implements ResponseBodyAdvice<Object>
     public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
                                   Class<? extends HttpMessageConverter<?>> selectedConverterType,
                                   ServerHttpRequest request, ServerHttpResponse response) {
-        if (body == null) {
+        if (body != null && isStreamingWrapped(body, request)) {
+            // 流式响应已在返回值处理阶段包装
+            return body;
+        }
+        boolean rawJson = isRawJson(body, selectedContentType);
+        MaskedResponseWriter writer = body != null && !rawJson && isResponseCacheEnabled()
+                ? responseWriter(body, returnType, selectedContentType, selectedConverterType, response) : null;
+        return process(body, returnType, request, response, rawJson, writer);
+    }
+
+    @Override
+    protected boolean supportsSerializerMode() {
+        return true;
+    }
+
+    /**
+     * 使用本次选中的消息转换器序列化并直接写出脱敏结果，返回 null 使框架不再写出响应体
+     * <p>
+     * 直接写出会跳过之后的 {@link ResponseBodyAdvice}：Spring 自带的 {@code JsonViewResponseBodyAdvice}
+     * 由序列化时应用 {@code @JsonView} 代替，存在其他适用于该接口的 {@code @ControllerAdvice} 时不缓存。
+     * </p>
+     */
+    @SuppressWarnings("unchecked")
+    private MaskedResponseWriter responseWriter(Object body, MethodParameter returnType, MediaType contentType,
+                                                Class<? extends HttpMessageConverter<?>> converterType,
+                                                ServerHttpResponse response) {
+        RequestMappingHandlerAdapter adapter = handlerAdapter != null ? handlerAdapter.getIfAvailable() : null;
+        if (adapter == null || contentType == null || converterType == null || hasFollowingAdvice(returnType)) {
             return null;
         }
+        for (HttpMessageConverter<?> candidate : adapter.getMessageConverters()) {
+            if (candidate.getClass() == converterType && candidate.canWrite(body.getClass(), contentType)) {
+                return new ConverterResponseWriter((HttpMessageConverter<Object>) candidate, contentType,
+                        bodyType(returnType), getSerializationView(returnType), response);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 与 Spring MVC 写出响应体时一致，HttpEntity 取其泛型参数作为响应体类型
+     */
+    private static Type bodyType(MethodParameter returnType) {
+        if (HttpEntity.class.isAssignableFrom(returnType.getParameterType())) {
+            return ResolvableType.forType(returnType.getGenericParameterType()).getGeneric().getType();
+        }
+        return returnType.getGenericParameterType();
+    }
 
-        DesensitizeInterceptorChain chain = null;
-
-        try {
-            // 拦截器处理
-            String path = request.getURI().getPath();
-            chain = buildInterceptorChain(path);
-
-            ResponseMaskingContext context = new ResponseMaskingContext(new ResponseMaskingDefinition(returnType));
-            boolean shouldMask = chain.preHandle(body, context, returnType, request, response);
-            if (shouldMask) {
-                Object data = body;
-                if (properties.isUseGlobalResolver() && context.isUseGlobalResolver()) {
-                    // 全局数据解析
-                    data = globalMaskingDataResolver.resolve(data);
-                }
-                // 执行脱敏
-                EasyDesensitize.mask(data, null, context.getEffectiveHandlers(),
-                        context.getEffectiveExcludedFields(), properties.isUseGlobalCache());
+    private boolean hasFollowingAdvice(MethodParameter returnType) {
+        List<ControllerAdviceBean> following = followingAdvice;
+        if (following == null) {
+            following = findFollowingAdvice();
+            followingAdvice = following;
+        }
+        for (ControllerAdviceBean adviceBean : following) {
+            if (adviceBean.isApplicableToBeanType(returnType.getContainingClass())) {
+                return true;
             }
-            chain.postHandle(body, context, returnType, request, response);
-        } catch (Exception e) {
-            if (chain != null) {
-                chain.onException(e, body, returnType, request, response);
+        }
+        return false;
+    }
+
+    /**
+     * 按框架的排序查找本 Advice 之后的 {@link ResponseBodyAdvice}
+     */
+    private List<ControllerAdviceBean> findFollowingAdvice() {
+        if (applicationContext == null) {
+            return Collections.emptyList();
+        }
+        List<ControllerAdviceBean> following = new ArrayList<>();
+        boolean found = false;
+        for (ControllerAdviceBean adviceBean : ControllerAdviceBean.findAnnotatedBeans(applicationContext)) {
+            Class<?> beanType = adviceBean.getBeanType();
+            if (beanType == null || !ResponseBodyAdvice.class.isAssignableFrom(beanType)) {
+                continue;
             }
-            logger.error(
-                    "Desensitization failed. strategy={}, path={}",
-                    properties.getFailureStrategy(),
-                    request.getURI().getPath(),
-                    e
-            );
-            if (properties.getFailureStrategy() == FailureStrategy.FAIL_CLOSE) {
-                throw new IllegalStateException("An exception occurred during desensitization processing", e);
+            if (found) {
+                following.add(adviceBean);
+            } else if (adviceBean.resolveBean() == this) {
+                found = true;
             }
         }
-        return body;
+        return following;
     }
 
     /**
-     * 构建脱敏拦截器链。
-     *
-     * @param path 请求路径，用于匹配注册的拦截器。
-     * @return 返回构建好的脱敏拦截器链，包含按顺序排序的匹配拦截器。
+     * 响应体是否为返回值处理阶段已包装的流式返回值或其异步结果（如 Flux 收集的列表），命中后移除标记
      */
-    private DesensitizeInterceptorChain buildInterceptorChain(String path) {
-        // 筛选出与给定路径匹配的拦截器，并按照优先级排序后收集到列表中
-        List<EasyDesensitizeInterceptor> matchInterceptor = interceptorRegistry.getRegistrations().stream()
-                .filter(r -> r.match(path))
-                .sorted(Comparator.comparingInt(DesensitizeInterceptorRegistration::getOrder))
-                .map(DesensitizeInterceptorRegistration::getInterceptor)
-                .collect(Collectors.toList());
-
-        // 使用匹配的拦截器列表创建并返回拦截器链
-        return new DesensitizeInterceptorChain(matchInterceptor);
+    private static boolean isStreamingWrapped(Object body, ServerHttpRequest request) {
+        if (!(request instanceof ServletServerHttpRequest)) {
+            return false;
+        }
+        HttpServletRequest servletRequest = ((ServletServerHttpRequest) request).getServletRequest();
+        Object wrapped = servletRequest.getAttribute(StreamingMaskingSupport.WRAPPED_ATTRIBUTE);
+        if (wrapped == null || (wrapped != body && servletRequest.getDispatcherType() != DispatcherType.ASYNC)) {
+            return false;
+        }
+        servletRequest.removeAttribute(StreamingMaskingSupport.WRAPPED_ATTRIBUTE);
+        return true;
+    }
+
+    private static final class ConverterResponseWriter implements MaskedResponseWriter {
+
+        private final HttpMessageConverter<Object> converter;
+
+        private final MediaType contentType;
+
+        private final Type bodyType;
+
+        private final Class<?> serializationView;
+
+        private final ServerHttpResponse response;
+
+        ConverterResponseWriter(HttpMessageConverter<Object> converter, MediaType contentType, Type bodyType,
+                                Class<?> serializationView, ServerHttpResponse response) {
+            this.converter = converter;
+            this.contentType = contentType;
+            this.bodyType = bodyType;
+            this.serializationView = serializationView;
+            this.response = response;
+        }
+
+        @Override
+        public String getContentType() {
+            return contentType.toString();
+        }
+
+        @Override
+        public byte[] serialize(Object body) throws IOException {
+            BufferedOutputMessage output = new BufferedOutputMessage();
+            Object value = body;
+            if (serializationView != null && converter instanceof AbstractJackson2HttpMessageConverter) {
+                MappingJacksonValue container = new MappingJacksonValue(body);
+                container.setSerializationView(serializationView);
+                value = container;
+            }
+            if (converter instanceof GenericHttpMessageConverter) {
+                ((GenericHttpMessageConverter<Object>) converter).write(value, bodyType, contentType, output);
+            } else {
+                converter.write(value, contentType, output);
+            }
+            return output.body.toByteArray();
+        }
+
+        @Override
+        public Object write(MaskedResponseCache.CachedResponse cached) throws IOException {
+            HttpHeaders headers = response.getHeaders();
+            if (headers.getContentType() == null) {
+                headers.setContentType(contentType);
+            }
+            headers.setContentLength(cached.getLength());
+            cached.writeTo(response.getBody());
+            return null;
+        }
+    }
+
+    private static final class BufferedOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
     }
 }
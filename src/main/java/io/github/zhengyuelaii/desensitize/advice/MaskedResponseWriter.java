@@ -0,0 +1,43 @@
+package io.github.zhengyuelaii.desensitize.advice;
+
+import io.github.zhengyuelaii.desensitize.cache.MaskedResponseCache;
+
+import java.io.IOException;
+
+/**
+ * 脱敏响应的序列化与写出
+ * <p>
+ * 由 Web 栈针对本次响应的媒体类型与消息转换器提供，启用响应缓存时用于生成缓存字节并直接写出缓存的响应。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public interface MaskedResponseWriter {
+
+    /**
+     * 写出的媒体类型，参与缓存键
+     *
+     * @return 媒体类型
+     */
+    String getContentType();
+
+    /**
+     * 按本次响应选中的方式序列化脱敏后的响应体
+     *
+     * @param body 脱敏后的响应体
+     * @return 序列化后的字节
+     * @throws IOException 序列化异常
+     */
+    byte[] serialize(Object body) throws IOException;
+
+    /**
+     * 将缓存的响应写出到当前响应
+     *
+     * @param cached 缓存的响应
+     * @return 交回框架继续写出的响应体，已写出时返回 null
+     * @throws IOException 写出异常
+     */
+    Object write(MaskedResponseCache.CachedResponse cached) throws IOException;
+}
@@ -2,6 +2,7 @@ package io.github.zhengyuelaii.desensitize.advice;
 
 import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -9,6 +10,10 @@ import java.util.Set;
 
 /**
  * 响应脱敏上下文
+ * <p>
+ * 采用写时复制：未被拦截器修改时直接返回 {@link ResponseMaskingDefinition} 中的不可变集合，
+ * 仅在首次调用修改方法时才创建对应的覆盖集合。
+ * </p>
  *
  * @author zhengyuelaii
  * @version 1.0.0
@@ -18,20 +23,24 @@ public class ResponseMaskingContext {
 
     private final ResponseMaskingDefinition definition;
 
-    private final Map<String, MaskingHandler> overrideHandlers;
+    private Map<String, MaskingHandler> overrideHandlers;
 
-    private final Set<String> removeHandlers;
+    private Set<String> removeHandlers;
 
-    private final Set<String> excludedFields;
+    private Set<String> excludedFields;
 
-    private final Set<String> includedFields;
+    private Set<String> includedFields;
+
+    private Map<String, MaskingHandler> effectiveHandlers;
+
+    private Set<String> effectiveExcludedFields;
+
+    private ResponseMaskingOverlay.Recorder recorder;
+
+    private Object cacheVersion;
 
     public ResponseMaskingContext(ResponseMaskingDefinition definition) {
         this.definition = definition;
-        this.overrideHandlers = new HashMap<>();
-        this.removeHandlers = new HashSet<>();
-        this.excludedFields = new HashSet<>();
-        this.includedFields = new HashSet<>();
     }
 
     public Map<String, MaskingHandler> getBaseHandlers() {
@@ -43,48 +52,198 @@ public class ResponseMaskingContext {
     }
 
     public ResponseMaskingContext addHandler(String field, MaskingHandler handler) {
+        if (recorder != null) {
+            recorder.addHandler(field, handler);
+        }
+        if (overrideHandlers == null) {
+            overrideHandlers = new HashMap<>();
+        }
         overrideHandlers.put(field, handler);
-        removeHandlers.remove(field);
+        if (removeHandlers != null) {
+            removeHandlers.remove(field);
+        }
+        effectiveHandlers = null;
         return this;
     }
 
     public ResponseMaskingContext removeHandler(String field) {
-        overrideHandlers.remove(field);
+        if (recorder != null) {
+            recorder.removeHandler(field);
+        }
+        if (overrideHandlers != null) {
+            overrideHandlers.remove(field);
+        }
+        if (removeHandlers == null) {
+            removeHandlers = new HashSet<>();
+        }
         removeHandlers.add(field);
+        effectiveHandlers = null;
         return this;
     }
 
     public ResponseMaskingContext addExcludedField(String field) {
+        if (recorder != null) {
+            recorder.addExcludedField(field);
+        }
+        if (excludedFields == null) {
+            excludedFields = new HashSet<>();
+        }
         excludedFields.add(field);
-        includedFields.remove(field);
+        if (includedFields != null) {
+            includedFields.remove(field);
+        }
+        effectiveExcludedFields = null;
         return this;
     }
 
     public ResponseMaskingContext removeExcludedField(String field) {
-        excludedFields.remove(field);
+        if (recorder != null) {
+            recorder.removeExcludedField(field);
+        }
+        if (excludedFields != null) {
+            excludedFields.remove(field);
+        }
+        if (includedFields == null) {
+            includedFields = new HashSet<>();
+        }
         includedFields.add(field);
+        effectiveExcludedFields = null;
         return this;
     }
 
+    /**
+     * 获取合并后的脱敏处理器（只读）
+     *
+     * @return 未修改时为注解定义的处理器，否则为合并结果
+     */
     public Map<String, MaskingHandler> getEffectiveHandlers() {
-        Map<String, MaskingHandler> handlers = new HashMap<>(getBaseHandlers());
-        // 移除被标记删除的 Handler
-        removeHandlers.forEach(handlers::remove);
-        // 合并自定义 Handler
-        handlers.putAll(overrideHandlers);
+        if (overrideHandlers == null && removeHandlers == null) {
+            return getBaseHandlers();
+        }
+        Map<String, MaskingHandler> handlers = effectiveHandlers;
+        if (handlers == null) {
+            handlers = new HashMap<>(getBaseHandlers());
+            // 移除被标记删除的 Handler
+            if (removeHandlers != null) {
+                removeHandlers.forEach(handlers::remove);
+            }
+            // 合并自定义 Handler
+            if (overrideHandlers != null) {
+                handlers.putAll(overrideHandlers);
+            }
+            handlers = Collections.unmodifiableMap(handlers);
+            effectiveHandlers = handlers;
+        }
         return handlers;
     }
 
+    /**
+     * 获取合并后的排除字段（只读）
+     *
+     * @return 未修改时为注解定义的排除字段，否则为合并结果
+     */
     public Set<String> getEffectiveExcludedFields() {
-        Set<String> merged = new HashSet<>(getBaseExcludedFields());
-        // 移除被标记删除的字段
-        merged.removeAll(includedFields);
-        // 添加被标记保留的字段
-        merged.addAll(excludedFields);
+        if (excludedFields == null && includedFields == null) {
+            return getBaseExcludedFields();
+        }
+        Set<String> merged = effectiveExcludedFields;
+        if (merged == null) {
+            merged = new HashSet<>(getBaseExcludedFields());
+            // 移除被标记删除的字段
+            if (includedFields != null) {
+                merged.removeAll(includedFields);
+            }
+            // 添加被标记保留的字段
+            if (excludedFields != null) {
+                merged.addAll(excludedFields);
+            }
+            merged = Collections.unmodifiableSet(merged);
+            effectiveExcludedFields = merged;
+        }
         return merged;
     }
 
+    /**
+     * 上下文是否被拦截器修改过
+     *
+     * @return 存在任意覆盖规则时返回 true
+     */
+    public boolean isModified() {
+        return overrideHandlers != null || removeHandlers != null
+                || excludedFields != null || includedFields != null;
+    }
+
+    /**
+     * 开始记录后续对上下文的修改
+     *
+     * @return 覆盖层记录器，调用 {@link #stopRecording()} 后通过 {@link ResponseMaskingOverlay.Recorder#toOverlay()} 获取结果
+     */
+    public ResponseMaskingOverlay.Recorder startRecording() {
+        this.recorder = new ResponseMaskingOverlay.Recorder();
+        return this.recorder;
+    }
+
+    /**
+     * 停止记录修改
+     */
+    public void stopRecording() {
+        this.recorder = null;
+    }
+
+    /**
+     * 回放覆盖层中记录的修改
+     *
+     * @param overlay 覆盖层
+     * @return 当前上下文
+     */
+    public ResponseMaskingContext apply(ResponseMaskingOverlay overlay) {
+        if (overlay != null) {
+            overlay.applyTo(this);
+        }
+        return this;
+    }
+
     public boolean isUseGlobalResolver() {
         return definition.isUseGlobalResolver();
     }
+
+    /**
+     * 设置响应体版本，启用响应缓存时作为缓存键的一部分
+     * <p>
+     * 设置后即使未声明 {@code @ResponseMasking(cacheable = true)} 也会缓存本次响应；
+     * 版本需要随响应体内容变化，通常为数据的修改时间或版本号。与其他修改一样会被 {@link #startRecording()} 记录。
+     * </p>
+     *
+     * @param cacheVersion 响应体版本，null 表示不指定
+     * @return 当前上下文
+     */
+    public ResponseMaskingContext setCacheVersion(Object cacheVersion) {
+        if (recorder != null) {
+            recorder.setCacheVersion(cacheVersion);
+        }
+        this.cacheVersion = cacheVersion;
+        return this;
+    }
+
+    public Object getCacheVersion() {
+        return cacheVersion;
+    }
+
+    /**
+     * 是否声明了缓存脱敏后的响应
+     *
+     * @return 注解声明 cacheable 时返回 true
+     */
+    public boolean isCacheable() {
+        return definition.isCacheable();
+    }
+
+    /**
+     * 处理方法声明的序列化视图
+     *
+     * @return 未声明 {@code @JsonView} 时返回 null
+     */
+    public Class<?> getSerializationView() {
+        return definition.getSerializationView();
+    }
 }
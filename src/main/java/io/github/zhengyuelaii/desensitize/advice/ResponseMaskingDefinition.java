@@ -1,15 +1,20 @@
 package io.github.zhengyuelaii.desensitize.advice;
 
+import com.fasterxml.jackson.annotation.JsonView;
 import io.github.zhengyuelaii.desensitize.annotation.ResponseMasking;
 import io.github.zhengyuelaii.desensitize.core.annotation.MaskingField;
 import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
 import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandlerFactory;
+import io.github.zhengyuelaii.desensitize.plan.FieldPathAutomaton;
 import org.springframework.core.MethodParameter;
 
 import java.util.*;
 
 /**
  * 响应数据脱敏包装器
+ * <p>
+ * 实例创建后不可变，可在多个请求间共享（参见 {@link ResponseMaskingDefinitionCache}）。
+ * </p>
  *
  * @author zhengyuelaii
  * @version 1.0.0
@@ -20,12 +25,22 @@ public class ResponseMaskingDefinition {
     private final boolean useGlobalResolver;
     private final Map<String, MaskingHandler> handlers;
     private final Set<String> excludedFields;
+    private final ReturnTypeMaskingAnalyzer.Maskability maskability;
+    private final boolean cacheable;
+    private final Class<?> serializationView;
+    private final Class<?> declaredType;
+    private final boolean declaredTypeMaskable;
 
     protected ResponseMaskingDefinition(boolean useGlobalResolver, Map<String, MaskingHandler> handlers,
                                         Set<String> excludedFields) {
         this.useGlobalResolver = useGlobalResolver;
-        this.handlers = handlers;
-        this.excludedFields = excludedFields;
+        this.handlers = Collections.unmodifiableMap(handlers);
+        this.excludedFields = Collections.unmodifiableSet(excludedFields);
+        this.maskability = ReturnTypeMaskingAnalyzer.Maskability.POSSIBLE;
+        this.cacheable = false;
+        this.serializationView = null;
+        this.declaredType = null;
+        this.declaredTypeMaskable = true;
     }
 
     public ResponseMaskingDefinition(MethodParameter returnType) {
@@ -53,29 +68,58 @@ public class ResponseMaskingDefinition {
         }
 
         if (effectiveFields != null) {
-            this.handlers = new HashMap<>(effectiveFields.length);
+            Map<String, MaskingHandler> fieldHandlers = new HashMap<>(effectiveFields.length);
             for (MaskingField field : effectiveFields) {
-                this.handlers.put(
+                fieldHandlers.put(
                         field.name(),
                         MaskingHandlerFactory.getHandler(field.typeHandler())
                 );
             }
+            this.handlers = Collections.unmodifiableMap(fieldHandlers);
         } else {
             this.handlers = Collections.emptyMap();
         }
 
         /* ---------- 3. excludeFields：方法覆盖类 ---------- */
         if (methodMasking != null && methodMasking.excludeFields().length > 0) {
-            this.excludedFields = new HashSet<>(
+            this.excludedFields = Collections.unmodifiableSet(new HashSet<>(
                     Arrays.asList(methodMasking.excludeFields())
-            );
+            ));
         } else if (classMasking != null && classMasking.excludeFields().length > 0) {
-            this.excludedFields = new HashSet<>(
+            this.excludedFields = Collections.unmodifiableSet(new HashSet<>(
                     Arrays.asList(classMasking.excludeFields())
-            );
+            ));
         } else {
             this.excludedFields = Collections.emptySet();
         }
+
+        // 路径规则在定义阶段校验格式
+        if (FieldPathAutomaton.containsPath(this.handlers.keySet())
+                || FieldPathAutomaton.containsPath(this.excludedFields)) {
+            FieldPathAutomaton.compile(this.handlers.keySet(), this.excludedFields);
+        }
+
+        /* ---------- 4. cacheable：方法覆盖类 ---------- */
+        this.cacheable = methodMasking != null ? methodMasking.cacheable()
+                : classMasking != null && classMasking.cacheable();
+
+        /* ---------- 5. 序列化视图：与 Spring MVC 一致，仅支持声明单个视图 ---------- */
+        JsonView jsonView = returnType.getMethodAnnotation(JsonView.class);
+        this.serializationView = jsonView != null && jsonView.value().length == 1 ? jsonView.value()[0] : null;
+
+        /* ---------- 6. 返回值类型分析：声明了 fields 时 Map 与任意对象均可能按名称脱敏 ---------- */
+        this.maskability = this.handlers.isEmpty()
+                ? ReturnTypeMaskingAnalyzer.analyze(returnType)
+                : ReturnTypeMaskingAnalyzer.Maskability.POSSIBLE;
+
+        /* ---------- 7. 非 final 的声明类型：响应体恰为该类型时按声明的泛型再分析一次 ---------- */
+        if (this.handlers.isEmpty() && this.maskability == ReturnTypeMaskingAnalyzer.Maskability.POSSIBLE) {
+            this.declaredType = ReturnTypeMaskingAnalyzer.declaredType(returnType).resolve();
+            this.declaredTypeMaskable = ReturnTypeMaskingAnalyzer.analyzeExact(returnType);
+        } else {
+            this.declaredType = null;
+            this.declaredTypeMaskable = true;
+        }
     }
 
     public boolean isUseGlobalResolver() {
@@ -89,4 +133,42 @@ public class ResponseMaskingDefinition {
     public Set<String> getExcludedFields() {
         return excludedFields;
     }
+
+    /**
+     * 是否缓存脱敏后的响应（{@link ResponseMasking#cacheable()}）
+     *
+     * @return 声明缓存时返回 true
+     */
+    public boolean isCacheable() {
+        return cacheable;
+    }
+
+    /**
+     * 方法声明的序列化视图（{@link JsonView}）
+     *
+     * @return 未声明时返回 null
+     */
+    public Class<?> getSerializationView() {
+        return serializationView;
+    }
+
+    /**
+     * 返回值类型分析结果
+     *
+     * @return 静态类型中不可能存在脱敏字段时为 {@link ReturnTypeMaskingAnalyzer.Maskability#NONE}
+     */
+    public ReturnTypeMaskingAnalyzer.Maskability getMaskability() {
+        return maskability;
+    }
+
+    /**
+     * 按响应体的实际类型判断是否可能存在脱敏字段：响应体恰为声明类型（不是其子类）时，
+     * 非 final 的声明类型（如 {@code Result<Long>}）也可以确定不需要脱敏
+     *
+     * @param body 响应体
+     * @return 可能存在脱敏字段时返回 true
+     */
+    public boolean mayContainMaskingFields(Object body) {
+        return declaredTypeMaskable || body.getClass() != declaredType;
+    }
 }
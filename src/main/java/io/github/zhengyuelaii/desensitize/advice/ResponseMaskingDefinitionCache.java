@@ -0,0 +1,70 @@
+package io.github.zhengyuelaii.desensitize.advice;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.MethodParameter;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * 响应脱敏定义缓存
+ * <p>
+ * 以 Controller 方法的返回值参数为键，缓存解析完成的 {@link ResponseMaskingDefinition}，
+ * 避免每次响应都重新读取注解并创建脱敏处理器集合。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class ResponseMaskingDefinitionCache implements DisposableBean {
+
+    private final boolean enabled;
+
+    private final ConcurrentLruCache<MethodParameter, ResponseMaskingDefinition> cache;
+
+    public ResponseMaskingDefinitionCache(boolean enabled, int maxSize) {
+        this.enabled = enabled && maxSize > 0;
+        this.cache = new ConcurrentLruCache<>(Math.max(maxSize, 0), ResponseMaskingDefinition::new);
+    }
+
+    /**
+     * 获取返回值对应的脱敏定义，未启用缓存时每次重新解析
+     *
+     * @param returnType 方法返回值参数
+     * @return 脱敏定义
+     */
+    public ResponseMaskingDefinition get(MethodParameter returnType) {
+        if (!enabled) {
+            return new ResponseMaskingDefinition(returnType);
+        }
+        return cache.get(returnType);
+    }
+
+    /**
+     * 移除指定方法的缓存定义
+     *
+     * @param returnType 方法返回值参数
+     */
+    public void evict(MethodParameter returnType) {
+        cache.remove(returnType);
+    }
+
+    /**
+     * 清空全部缓存（如 devtools 重启、热部署场景）
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void destroy() {
+        clear();
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.zhengyuelaii.desensitize.advice;
+
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 脱敏上下文覆盖层
+ * <p>
+ * 按调用顺序记录拦截器对 {@link ResponseMaskingContext} 的修改，可在后续请求中原样回放。
+ * 实例不可变，可在线程间共享。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class ResponseMaskingOverlay {
+
+    /**
+     * 不包含任何修改的覆盖层
+     */
+    public static final ResponseMaskingOverlay EMPTY = new ResponseMaskingOverlay(Collections.emptyList());
+
+    private final List<Operation> operations;
+
+    private ResponseMaskingOverlay(List<Operation> operations) {
+        this.operations = operations;
+    }
+
+    /**
+     * 将记录的修改依次应用到上下文
+     *
+     * @param context 脱敏上下文
+     */
+    public void applyTo(ResponseMaskingContext context) {
+        for (Operation operation : operations) {
+            operation.applyTo(context);
+        }
+    }
+
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    public int size() {
+        return operations.size();
+    }
+
+    @Override
+    public String toString() {
+        return "ResponseMaskingOverlay{operations=" + operations.size() + '}';
+    }
+
+    /**
+     * 覆盖层记录器，由 {@link ResponseMaskingContext#startRecording()} 创建
+     */
+    public static final class Recorder {
+
+        private final List<Operation> operations = new ArrayList<>();
+
+        Recorder() {
+        }
+
+        void addHandler(String field, MaskingHandler handler) {
+            operations.add(context -> context.addHandler(field, handler));
+        }
+
+        void removeHandler(String field) {
+            operations.add(context -> context.removeHandler(field));
+        }
+
+        void addExcludedField(String field) {
+            operations.add(context -> context.addExcludedField(field));
+        }
+
+        void removeExcludedField(String field) {
+            operations.add(context -> context.removeExcludedField(field));
+        }
+
+        void setCacheVersion(Object cacheVersion) {
+            operations.add(context -> context.setCacheVersion(cacheVersion));
+        }
+
+        /**
+         * 生成不可变的覆盖层
+         *
+         * @return 覆盖层，未记录任何修改时返回 {@link #EMPTY}
+         */
+        public ResponseMaskingOverlay toOverlay() {
+            if (operations.isEmpty()) {
+                return EMPTY;
+            }
+            return new ResponseMaskingOverlay(Collections.unmodifiableList(new ArrayList<>(operations)));
+        }
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+
+        void applyTo(ResponseMaskingContext context);
+    }
+}
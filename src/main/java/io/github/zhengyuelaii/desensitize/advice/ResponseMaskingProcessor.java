@@ -0,0 +1,704 @@
+package io.github.zhengyuelaii.desensitize.advice;
+
+import io.github.zhengyuelaii.desensitize.annotation.IgnoreResponseMasking;
+import io.github.zhengyuelaii.desensitize.annotation.ResponseMasking;
+import io.github.zhengyuelaii.desensitize.cache.MaskedResponseCache;
+import io.github.zhengyuelaii.desensitize.config.EasyDesensitizeProperties;
+import io.github.zhengyuelaii.desensitize.config.FailureStrategy;
+import io.github.zhengyuelaii.desensitize.config.MaskingMode;
+import io.github.zhengyuelaii.desensitize.core.EasyDesensitize;
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+import io.github.zhengyuelaii.desensitize.handler.MaskingHandlerDecorator;
+import io.github.zhengyuelaii.desensitize.handler.MaskingHandlerMemoizer;
+import io.github.zhengyuelaii.desensitize.interceptor.DesensitizeInterceptorChain;
+import io.github.zhengyuelaii.desensitize.interceptor.DesensitizeInterceptorChainResolver;
+import io.github.zhengyuelaii.desensitize.jackson.MaskingSerializationContext;
+import io.github.zhengyuelaii.desensitize.json.JsonMaskingFilter;
+import io.github.zhengyuelaii.desensitize.metrics.DesensitizeMetrics;
+import io.github.zhengyuelaii.desensitize.metrics.DesensitizeMetrics.MaskingObservation;
+import io.github.zhengyuelaii.desensitize.metrics.DesensitizeMetrics.Outcome;
+import io.github.zhengyuelaii.desensitize.metrics.DesensitizeMetrics.Phase;
+import io.github.zhengyuelaii.desensitize.parallel.ParallelMaskingExecutor;
+import io.github.zhengyuelaii.desensitize.plan.FieldPathAutomaton;
+import io.github.zhengyuelaii.desensitize.plan.MaskingTraversal;
+import io.github.zhengyuelaii.desensitize.plan.PlanMaskingEngine;
+import io.github.zhengyuelaii.desensitize.plan.SharedTraversalState;
+import io.github.zhengyuelaii.desensitize.plan.TraversalLimits;
+import io.github.zhengyuelaii.desensitize.resolver.GlobalMaskingResolverComposite;
+import io.github.zhengyuelaii.desensitize.streaming.ElementMasker;
+import io.github.zhengyuelaii.desensitize.streaming.OutputMasker;
+import io.github.zhengyuelaii.desensitize.streaming.StreamingMaskingSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 响应脱敏处理流程
+ * <p>
+ * 与具体 Web 栈无关：拦截器链、脱敏定义、全局解析器、脱敏引擎与失败策略均在此处理，
+ * 由 Spring MVC 的 {@link EasyDesensitizeResponseAdvice} 与 WebFlux 的结果处理器共用。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class ResponseMaskingProcessor {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    protected final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Autowired
+    private DesensitizeInterceptorChainResolver interceptorChainResolver;
+    @Autowired
+    private GlobalMaskingResolverComposite globalMaskingDataResolver;
+    @Autowired
+    private EasyDesensitizeProperties properties;
+    @Autowired
+    private ResponseMaskingDefinitionCache definitionCache;
+    @Autowired
+    private PlanMaskingEngine planMaskingEngine;
+    @Autowired(required = false)
+    private ParallelMaskingExecutor parallelMaskingExecutor;
+    @Autowired(required = false)
+    private MaskingHandlerMemoizer handlerMemoizer;
+    @Autowired(required = false)
+    private DesensitizeMetrics metrics = DesensitizeMetrics.NOOP;
+    @Autowired(required = false)
+    private JsonMaskingFilter jsonMaskingFilter = new JsonMaskingFilter();
+    @Autowired(required = false)
+    private MaskedResponseCache responseCache;
+
+    /**
+     * 判断是否支持拦截 这里检查方法或类上是否带有 @ResponseMasking 注解
+     *
+     * @param returnType 返回值类型参数
+     * @return 需要脱敏时返回 true
+     */
+    public boolean supports(MethodParameter returnType) {
+        // 1. 忽略脱敏（最高优先级）
+        if (returnType.hasMethodAnnotation(IgnoreResponseMasking.class)
+                || returnType.getContainingClass().isAnnotationPresent(IgnoreResponseMasking.class)) {
+            if (hasResponseMasking(returnType)) {
+                metrics.recordIgnored(returnType);
+            }
+            return false;
+        }
+
+        // 2. 显式开启脱敏
+        return hasResponseMasking(returnType);
+    }
+
+    private static boolean hasResponseMasking(MethodParameter returnType) {
+        return returnType.hasMethodAnnotation(ResponseMasking.class)
+                || returnType.getContainingClass().isAnnotationPresent(ResponseMasking.class);
+    }
+
+    /**
+     * 执行数据脱敏处理
+     *
+     * @param body       响应体对象
+     * @param returnType 返回值类型参数
+     * @param request    服务器HTTP请求
+     * @param response   服务器HTTP响应
+     * @return 脱敏后的响应体对象，如果原响应体为空则返回null
+     */
+    public Object process(Object body, MethodParameter returnType, ServerHttpRequest request,
+                          ServerHttpResponse response) {
+        return process(body, returnType, request, response, false);
+    }
+
+    /**
+     * 执行响应脱敏
+     *
+     * @param body       响应体对象
+     * @param returnType 返回值类型参数
+     * @param request    服务器HTTP请求
+     * @param response   服务器HTTP响应
+     * @param rawJson    响应体是否为已序列化的 JSON（String、byte[] 或 Resource），是时按 JSON token 脱敏
+     * @return 脱敏后的响应体对象，如果原响应体为空则返回null
+     */
+    public Object process(Object body, MethodParameter returnType, ServerHttpRequest request,
+                          ServerHttpResponse response, boolean rawJson) {
+        return process(body, returnType, request, response, rawJson, null);
+    }
+
+    /**
+     * 执行响应脱敏，启用响应缓存时通过 writer 序列化并写出脱敏结果
+     *
+     * @param body       响应体对象
+     * @param returnType 返回值类型参数
+     * @param request    服务器HTTP请求
+     * @param response   服务器HTTP响应
+     * @param rawJson    响应体是否为已序列化的 JSON（String、byte[] 或 Resource），是时按 JSON token 脱敏
+     * @param writer     脱敏响应的序列化与写出方式，为 null 时不使用响应缓存
+     * @return 脱敏后的响应体对象；由 writer 写出时返回其结果
+     */
+    public Object process(Object body, MethodParameter returnType, ServerHttpRequest request,
+                          ServerHttpResponse response, boolean rawJson, MaskedResponseWriter writer) {
+        return process(body, null, returnType, request, response, rawJson, writer);
+    }
+
+    /**
+     * 执行响应脱敏，使用调用方已通过 {@link #resolvePayload} 解析的数据，不再重复调用全局解析器
+     *
+     * @param body       响应体对象
+     * @param resolved   {@link #resolvePayload} 的结果
+     * @param returnType 返回值类型参数
+     * @param request    服务器HTTP请求
+     * @param response   服务器HTTP响应
+     * @return 脱敏后的响应体对象，如果原响应体为空则返回null
+     */
+    public Object process(Object body, Object resolved, MethodParameter returnType, ServerHttpRequest request,
+                          ServerHttpResponse response) {
+        return process(body, resolved, returnType, request, response, false, null);
+    }
+
+    private Object process(Object body, Object resolved, MethodParameter returnType, ServerHttpRequest request,
+                           ServerHttpResponse response, boolean rawJson, MaskedResponseWriter writer) {
+        if (body == null) {
+            return null;
+        }
+
+        Object result = body;
+        DesensitizeInterceptorChain chain = null;
+        MaskingObservation observation = metrics.start(returnType, request);
+
+        try {
+            // 拦截器处理
+            String path = request.getURI().getPath();
+            chain = buildInterceptorChain(path);
+            observation.mark(Phase.CHAIN);
+
+            ResponseMaskingDefinition definition = definitionCache.get(returnType);
+            // JSON 文本中没有字段注解，只有声明了按名称或路径的规则时才需要处理
+            boolean traversable = rawJson ? !definition.getHandlers().isEmpty() : isTraversable(definition, body);
+            if (!traversable && chain.isEmpty()) {
+                // 返回值类型不含脱敏字段且无拦截器，原样返回
+                observation.outcome(Outcome.SKIPPED);
+                return body;
+            }
+
+            ResponseMaskingContext context = new ResponseMaskingContext(definition);
+            boolean shouldMask = chain.preHandle(body, context, returnType, request, response);
+            observation.mark(Phase.INTERCEPTOR);
+            // 拦截器未追加规则时无需遍历
+            boolean skipped = shouldMask && !traversable && !context.isModified();
+            MaskedResponseCache.Key cacheKey = shouldMask && !skipped && writer != null && !rawJson
+                    ? responseCacheKey(body, context, returnType, request, response, writer) : null;
+            MaskedResponseCache.CachedResponse cached = cacheKey != null ? responseCache.get(cacheKey) : null;
+            if (skipped) {
+                observation.outcome(Outcome.SKIPPED);
+            } else if (cached != null) {
+                // 命中响应缓存，直接写出脱敏并序列化后的字节
+                result = writer.write(cached);
+                observation.mark(Phase.MASK);
+            } else if (shouldMask && rawJson) {
+                // 已序列化的 JSON 响应体，逐个 token 复制并替换命中的字符串值
+                result = maskJson(body, context.getEffectiveHandlers(), context.getEffectiveExcludedFields(),
+                        openMemoizeSession(), response);
+                observation.mark(Phase.MASK);
+            } else if (shouldMask && StreamingMaskingSupport.isStreaming(body)) {
+                // 流式响应：规则只计算一次，元素发出时逐个脱敏
+                result = StreamingMaskingSupport.wrap(body,
+                        elementMasker(context, chain, returnType, request, response),
+                        outputMasker(context, returnType, response));
+                observation.mark(Phase.MASK);
+            } else if (shouldMask) {
+                Object data = body;
+                boolean pathRules = hasPathRules(context);
+                if (!pathRules && properties.isUseGlobalResolver() && context.isUseGlobalResolver()) {
+                    // 全局数据解析，路径规则相对于响应体根节点，不做解析
+                    data = resolved != null ? resolved : globalMaskingDataResolver.resolve(data);
+                    observation.mark(Phase.RESOLVE);
+                }
+                if (isSerializerMode() && !pathRules && data == body) {
+                    // 序列化阶段脱敏，不修改响应对象
+                    MaskingSerializationContext.bind(request, context, body, openMemoizeSession());
+                } else {
+                    // 全局解析器取出了内层数据时就地脱敏该数据，序列化阶段无法区分外层包装中的同名字段
+                    maskInPlace(data, context, pathRules, returnType, observation);
+                }
+                observation.mark(Phase.MASK);
+            }
+            if (cacheKey != null && cached == null) {
+                result = writer.write(responseCache.put(cacheKey, writer.serialize(result)));
+            }
+            if (cached != null) {
+                observation.outcome(Outcome.CACHED);
+            } else if (!skipped) {
+                observation.outcome(shouldMask ? Outcome.MASKED : Outcome.VETOED);
+            }
+            chain.postHandle(body, context, returnType, request, response);
+            observation.mark(Phase.INTERCEPTOR);
+        } catch (Exception e) {
+            observation.failure(properties.getFailureStrategy());
+            handleFailure(e, chain, body, returnType, request, response);
+        } finally {
+            observation.stop();
+        }
+        return result;
+    }
+
+    /**
+     * 遍历并就地脱敏响应数据，大集合按分片并行
+     */
+    private void maskInPlace(Object data, ResponseMaskingContext context, boolean pathRules,
+                             MethodParameter returnType, MaskingObservation observation) {
+        Map<String, MaskingHandler> handlers = context.getEffectiveHandlers();
+        Set<String> excludedFields = context.getEffectiveExcludedFields();
+        MaskingHandlerDecorator decorator = openMemoizeSession();
+        Class<?> view = context.getSerializationView();
+        TraversalLimits limits = traversalLimits();
+        if (isParallel(data, limits)) {
+            // 大集合分片并行脱敏，各分片共享已访问节点与遍历限制
+            SharedTraversalState shared = planMaskingEngine.share(data);
+            LongAdder masked = new LongAdder();
+            LongAdder guarded = new LongAdder();
+            AtomicReference<TraversalLimits.Limit> truncation = new AtomicReference<>();
+            parallelMaskingExecutor.execute(data, chunk -> {
+                MaskingTraversal traversal = planMaskingEngine.maskElements(chunk, shared, handlers,
+                        excludedFields, decorator, limits, view);
+                masked.add(traversal.getMaskedFields());
+                guarded.add(traversal.getSkippedNodes());
+                if (traversal.getTruncation() != null) {
+                    truncation.compareAndSet(null, traversal.getTruncation());
+                }
+            });
+            observation.traversal(shared.getVisitedObjects(), masked.sum());
+            if (guarded.sum() > 0) {
+                observation.guarded(guarded.sum());
+            }
+            if (truncation.get() != null) {
+                observation.truncated(truncation.get());
+                logTruncation(truncation.get(), limits, returnType);
+            }
+        } else {
+            MaskingTraversal traversal = mask(data, handlers, excludedFields, decorator, pathRules, view, limits);
+            if (traversal != null) {
+                observation.traversal(traversal.getVisitedObjects(), traversal.getMaskedFields());
+                if (traversal.getSkippedNodes() > 0) {
+                    observation.guarded(traversal.getSkippedNodes());
+                }
+                if (traversal.getTruncation() != null) {
+                    observation.truncated(traversal.getTruncation());
+                    logTruncation(traversal.getTruncation(), limits, returnType);
+                }
+            }
+        }
+    }
+
+    /**
+     * 遍历按 SKIP/STOP 被截断时，未遍历到的数据原样写出，记录告警便于发现
+     */
+    private void logTruncation(TraversalLimits.Limit limit, TraversalLimits limits, MethodParameter returnType) {
+        logger.warn("Masking traversal truncated by {} limit, remaining data is left unmasked. limits={}, handler={}",
+                limit, limits, returnType.getExecutable());
+    }
+
+    /**
+     * 按失败策略处理脱敏异常
+     */
+    private void handleFailure(Exception e, DesensitizeInterceptorChain chain, Object body,
+                               MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+        if (chain != null) {
+            chain.onException(e, body, returnType, request, response);
+        }
+        logger.error(
+                "Desensitization failed. strategy={}, path={}",
+                properties.getFailureStrategy(),
+                request.getURI().getPath(),
+                e
+        );
+        if (properties.getFailureStrategy() == FailureStrategy.FAIL_CLOSE) {
+            throw new IllegalStateException("An exception occurred during desensitization processing", e);
+        }
+    }
+
+    /**
+     * 构建流式响应的元素脱敏器，规则在此处一次性确定
+     */
+    private ElementMasker elementMasker(ResponseMaskingContext context, DesensitizeInterceptorChain chain,
+                                        MethodParameter returnType, ServerHttpRequest request,
+                                        ServerHttpResponse response) {
+        boolean pathRules = hasPathRules(context);
+        boolean useGlobalResolver = !pathRules && properties.isUseGlobalResolver() && context.isUseGlobalResolver();
+        Map<String, MaskingHandler> handlers = context.getEffectiveHandlers();
+        Set<String> excludedFields = context.getEffectiveExcludedFields();
+        MaskingHandlerDecorator decorator = openMemoizeSession();
+        Class<?> view = context.getSerializationView();
+        AtomicBoolean truncationLogged = new AtomicBoolean();
+        return new ElementMasker() {
+            @Override
+            public Object mask(Object element) {
+                return mask(element, resolve(element));
+            }
+
+            /**
+             * 全局解析失败时按失败策略处理，返回 null 表示不脱敏该元素
+             */
+            @Override
+            public Object resolve(Object element) {
+                if (!useGlobalResolver || element == null) {
+                    return element;
+                }
+                try {
+                    return globalMaskingDataResolver.resolve(element);
+                } catch (Exception e) {
+                    handleFailure(e, chain, element, returnType, request, response);
+                    return null;
+                }
+            }
+
+            @Override
+            public Object mask(Object element, Object data) {
+                if (data == null) {
+                    return element;
+                }
+                try {
+                    TraversalLimits limits = traversalLimits();
+                    MaskingTraversal traversal = ResponseMaskingProcessor.this.mask(data, handlers, excludedFields,
+                            decorator, pathRules, view, limits);
+                    if (traversal != null && traversal.getTruncation() != null
+                            && truncationLogged.compareAndSet(false, true)) {
+                        // 每个流式响应只告警一次
+                        logTruncation(traversal.getTruncation(), limits, returnType);
+                    }
+                } catch (Exception e) {
+                    handleFailure(e, chain, element, returnType, request, response);
+                }
+                return element;
+            }
+        };
+    }
+
+    /**
+     * {@code StreamingResponseBody} 写出字节的脱敏器：写出时输出为 JSON 则按 token 增量脱敏，否则返回 null，
+     * 由业务代码调用 {@code StreamingResponseMasker.mask} 逐元素脱敏
+     */
+    private OutputMasker outputMasker(ResponseMaskingContext context, MethodParameter returnType,
+                                      ServerHttpResponse response) {
+        Map<String, MaskingHandler> handlers = context.getEffectiveHandlers();
+        Set<String> excludedFields = context.getEffectiveExcludedFields();
+        if (handlers.isEmpty()) {
+            return null;
+        }
+        MaskingHandlerDecorator decorator = openMemoizeSession();
+        return output -> properties.getRawJson().isEnabled() && isJson(streamingContentType(returnType, response))
+                ? jsonMaskingFilter.wrap(output, handlers, excludedFields, decorator) : null;
+    }
+
+    /**
+     * 流式响应的媒体类型：优先使用响应中已设置的类型，其次为映射注解中唯一声明的 produces
+     */
+    private static MediaType streamingContentType(MethodParameter returnType, ServerHttpResponse response) {
+        MediaType contentType = response.getHeaders().getContentType();
+        if (contentType != null || returnType.getMethod() == null) {
+            return contentType;
+        }
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(returnType.getMethod(),
+                RequestMapping.class);
+        return mapping != null && mapping.produces().length == 1
+                ? MediaType.parseMediaType(mapping.produces()[0]) : null;
+    }
+
+    /**
+     * 解析脱敏负载：启用全局解析器时返回解析后的实际数据，使 {@code Result<List<T>>} 等包装结构按内部列表计算，
+     * 结果可传入 {@link #process(Object, Object, MethodParameter, ServerHttpRequest, ServerHttpResponse)} 复用
+     *
+     * @param body       响应体
+     * @param returnType 返回值类型参数
+     * @return 解析后的数据，未启用全局解析器时为响应体本身
+     */
+    public Object resolvePayload(Object body, MethodParameter returnType) {
+        if (body != null && properties.isUseGlobalResolver() && definitionCache.get(returnType).isUseGlobalResolver()) {
+            return globalMaskingDataResolver.resolve(body);
+        }
+        return body;
+    }
+
+    /**
+     * 脱敏负载的元素数
+     *
+     * @param data {@link #resolvePayload} 或 {@link ElementMasker#resolve} 解析后的数据
+     * @return 集合、Map 或数组的元素数，其他类型返回 0
+     */
+    public static int payloadSize(Object data) {
+        if (data instanceof Collection) {
+            return ((Collection<?>) data).size();
+        }
+        if (data instanceof Map) {
+            return ((Map<?, ?>) data).size();
+        }
+        return data instanceof Object[] ? ((Object[]) data).length : 0;
+    }
+
+    /**
+     * 为流式响应准备元素脱敏器
+     * <p>
+     * 解析脱敏定义并执行拦截器链，规则在此一次性确定，随后由调用方对逐个发出的元素调用。
+     * </p>
+     *
+     * @param body       流式响应体
+     * @param returnType 返回值类型参数
+     * @param request    服务器HTTP请求
+     * @param response   服务器HTTP响应
+     * @return 元素脱敏器，无需脱敏、拦截器中止脱敏或按 FAIL_OPEN 策略放行时返回 null
+     */
+    public ElementMasker prepareElementMasker(Object body, MethodParameter returnType, ServerHttpRequest request,
+                                              ServerHttpResponse response) {
+        DesensitizeInterceptorChain chain = null;
+        try {
+            chain = buildInterceptorChain(request.getURI().getPath());
+            ResponseMaskingDefinition definition = definitionCache.get(returnType);
+            boolean traversable = isTraversable(definition, body);
+            if (!traversable && chain.isEmpty()) {
+                return null;
+            }
+            ResponseMaskingContext context = new ResponseMaskingContext(definition);
+            if (!chain.preHandle(body, context, returnType, request, response)) {
+                return null;
+            }
+            if (!traversable && !context.isModified()) {
+                chain.postHandle(body, context, returnType, request, response);
+                return null;
+            }
+            ElementMasker masker = elementMasker(context, chain, returnType, request, response);
+            chain.postHandle(body, context, returnType, request, response);
+            return masker;
+        } catch (Exception e) {
+            handleFailure(e, chain, body, returnType, request, response);
+            return null;
+        }
+    }
+
+    /**
+     * 响应体是否需要遍历：返回值类型不含脱敏字段时跳过，声明为 Object 时按实际类型判断，
+     * 响应体恰为非 final 的声明类型时按声明的泛型判断
+     */
+    private static boolean isTraversable(ResponseMaskingDefinition definition, Object body) {
+        switch (definition.getMaskability()) {
+            case NONE:
+                return false;
+            case RUNTIME:
+                return StreamingMaskingSupport.isStreaming(body)
+                        || ReturnTypeMaskingAnalyzer.mayContainMaskingFields(body.getClass());
+            default:
+                return definition.mayContainMaskingFields(body);
+        }
+    }
+
+    /**
+     * 响应体是否为已序列化的 JSON：String、byte[] 或 Resource，且写出的媒体类型为 JSON
+     *
+     * @param body        响应体对象
+     * @param contentType 写出的媒体类型
+     * @return 需要按 JSON token 脱敏时返回 true
+     */
+    protected boolean isRawJson(Object body, MediaType contentType) {
+        if (!(body instanceof String || body instanceof byte[] || body instanceof Resource)
+                || !properties.getRawJson().isEnabled()) {
+            return false;
+        }
+        return isJson(contentType);
+    }
+
+    /**
+     * 媒体类型是否为 JSON：application/json、*+json 或 application/x-ndjson
+     */
+    private static boolean isJson(MediaType contentType) {
+        return contentType != null && (MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+                || contentType.getSubtype().endsWith("+json") || NDJSON.isCompatibleWith(contentType));
+    }
+
+    /**
+     * 是否启用了响应缓存
+     *
+     * @return 存在 {@link MaskedResponseCache} 时返回 true
+     */
+    protected boolean isResponseCacheEnabled() {
+        return responseCache != null;
+    }
+
+    /**
+     * 响应缓存键：优先使用拦截器提供的版本，其次为声明 cacheable 时响应头中的 ETag，均不存在时不缓存；
+     * 请求路径与查询参数作为键的一部分，同一方法下不同参数的响应分别缓存
+     */
+    private static MaskedResponseCache.Key responseCacheKey(Object body, ResponseMaskingContext context,
+                                                            MethodParameter returnType, ServerHttpRequest request,
+                                                            ServerHttpResponse response, MaskedResponseWriter writer) {
+        if (StreamingMaskingSupport.isStreaming(body)) {
+            return null;
+        }
+        Object version = context.getCacheVersion();
+        if (version == null && context.isCacheable()) {
+            version = response.getHeaders().getETag();
+        }
+        if (version == null || returnType.getMethod() == null) {
+            return null;
+        }
+        URI uri = request.getURI();
+        String resource = uri.getRawQuery() != null ? uri.getRawPath() + '?' + uri.getRawQuery() : uri.getRawPath();
+        return MaskedResponseCache.key(returnType.getMethod(), resource, writer.getContentType(),
+                context.getEffectiveHandlers(), context.getEffectiveExcludedFields(), version);
+    }
+
+    /**
+     * 当前 Web 栈是否支持序列化脱敏模式，不支持时退回写出前脱敏
+     *
+     * @return 支持时返回 true
+     */
+    protected boolean supportsSerializerMode() {
+        return false;
+    }
+
+    private boolean isSerializerMode() {
+        return properties.getMode() == MaskingMode.SERIALIZER && supportsSerializerMode();
+    }
+
+    /**
+     * 按脱敏模式执行脱敏
+     *
+     * @param data           待脱敏数据
+     * @param handlers       生效的脱敏处理器
+     * @param excludedFields 生效的排除字段
+     * @param decorator      记忆化装饰器，可为 null
+     * @param pathRules      规则中是否存在路径规则，存在时总是使用执行计划引擎
+     * @param view           序列化视图，可为 null
+     * @param limits         遍历限制
+     * @return 执行计划引擎的遍历结果，其他情况返回 null
+     */
+    private MaskingTraversal mask(Object data, Map<String, MaskingHandler> handlers, Set<String> excludedFields,
+                                  MaskingHandlerDecorator decorator, boolean pathRules, Class<?> view,
+                                  TraversalLimits limits) {
+        // 核心库内部解析字段注解上的处理器，无法装饰，开启记忆化时同样使用执行计划引擎
+        if (pathRules || decorator != null || requiresPlanEngine(limits)) {
+            return planMaskingEngine.mask(data, handlers, excludedFields, decorator, limits, view);
+        }
+        EasyDesensitize.mask(data, null, handlers, excludedFields, properties.isUseGlobalCache());
+        return null;
+    }
+
+    /**
+     * 与请求无关的执行计划引擎使用条件
+     * <p>
+     * 核心库无法限制遍历，配置了遍历限制、遍历守卫或序列化剪除时同样使用执行计划引擎；存在生成的访问器时优先使用。
+     * </p>
+     */
+    private boolean requiresPlanEngine(TraversalLimits limits) {
+        return !limits.isUnlimited() || properties.getMode() == MaskingMode.PLAN
+                || planMaskingEngine != null && (planMaskingEngine.hasTraversalGuard()
+                || planMaskingEngine.isSerializationAware() || planMaskingEngine.hasGeneratedAccessors());
+    }
+
+    /**
+     * 判断该脱敏定义的请求是否会使用执行计划引擎，用于决定是否预先编译执行计划
+     * <p>
+     * 拦截器在请求时追加的路径规则无法预知，仅按定义中的规则判断。
+     * </p>
+     *
+     * @param definition 脱敏定义
+     * @return 可能使用执行计划引擎时返回 true
+     */
+    public boolean usesPlanEngine(ResponseMaskingDefinition definition) {
+        if (planMaskingEngine == null) {
+            return false;
+        }
+        return FieldPathAutomaton.containsPath(definition.getHandlers().keySet())
+                || FieldPathAutomaton.containsPath(definition.getExcludedFields())
+                || handlerMemoizer != null || parallelMaskingExecutor != null
+                || requiresPlanEngine(traversalLimits());
+    }
+
+    private TraversalLimits traversalLimits() {
+        return TraversalLimits.of(properties.getMaxDepth(), properties.getMaxObjects(),
+                properties.getMaxCollectionSize(), properties.getLimitAction());
+    }
+
+    /**
+     * 是否分片并行脱敏
+     * <p>
+     * 分片由执行计划引擎遍历并共享访问记录；根容器超出单个容器的元素数限制或被遍历守卫拒绝时按串行处理，
+     * 由串行遍历负责截断与计数。
+     * </p>
+     */
+    private boolean isParallel(Object data, TraversalLimits limits) {
+        if (parallelMaskingExecutor == null || planMaskingEngine == null || !parallelMaskingExecutor.supports(data)) {
+            return false;
+        }
+        int size = data instanceof Collection ? ((Collection<?>) data).size() : ((Object[]) data).length;
+        return size <= limits.getMaxCollectionSize() && planMaskingEngine.getTraversalGuard().canTraverse(data);
+    }
+
+    /**
+     * 脱敏已序列化的 JSON 响应体；Resource 包装为边读边脱敏的流，并移除原有的 Content-Length
+     */
+    private Object maskJson(Object body, Map<String, MaskingHandler> handlers, Set<String> excludedFields,
+                            MaskingHandlerDecorator decorator, ServerHttpResponse response) throws IOException {
+        if (handlers.isEmpty()) {
+            return body;
+        }
+        if (body instanceof String) {
+            return jsonMaskingFilter.mask((String) body, handlers, excludedFields, decorator);
+        }
+        if (body instanceof byte[]) {
+            return jsonMaskingFilter.mask((byte[]) body, handlers, excludedFields, decorator);
+        }
+        Resource resource = (Resource) body;
+        response.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+        return new InputStreamResource(jsonMaskingFilter.wrap(resource.getInputStream(), handlers, excludedFields,
+                decorator), resource.getDescription());
+    }
+
+    /**
+     * 生效规则中是否存在 {@code data.records[*].mobile} 形式的路径规则，核心库仅支持按名称匹配
+     */
+    /**
+     * 接口声明的序列化视图（{@code @JsonView}）
+     *
+     * @param returnType 返回值类型参数
+     * @return 未声明时返回 null
+     */
+    protected Class<?> getSerializationView(MethodParameter returnType) {
+        return definitionCache.get(returnType).getSerializationView();
+    }
+
+    private static boolean hasPathRules(ResponseMaskingContext context) {
+        return FieldPathAutomaton.containsPath(context.getEffectiveHandlers().keySet())
+                || FieldPathAutomaton.containsPath(context.getEffectiveExcludedFields());
+    }
+
+    private MaskingHandlerDecorator openMemoizeSession() {
+        return handlerMemoizer != null ? handlerMemoizer.openSession() : null;
+    }
+
+    /**
+     * 构建脱敏拦截器链。
+     *
+     * @param path 请求路径，用于匹配注册的拦截器。
+     * @return 返回构建好的脱敏拦截器链，包含按顺序排序的匹配拦截器。
+     */
+    private DesensitizeInterceptorChain buildInterceptorChain(String path) {
+        // 基于冻结的路径索引解析，并按请求路径缓存
+        return interceptorChainResolver.getChain(path);
+    }
+}
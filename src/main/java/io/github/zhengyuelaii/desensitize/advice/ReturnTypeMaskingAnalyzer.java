@@ -0,0 +1,217 @@
+package io.github.zhengyuelaii.desensitize.advice;
+
+import io.github.zhengyuelaii.desensitize.core.annotation.MaskingField;
+import io.github.zhengyuelaii.desensitize.plan.MaskingPlanCompiler;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpEntity;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+
+/**
+ * 返回值类型脱敏分析
+ * <p>
+ * 根据方法的泛型返回值类型判断响应体中是否可能存在 {@link MaskingField} 标注的字段：
+ * 沿字段、数组组件、集合元素与 Map 值类型递归展开，{@code ResponseEntity}、{@code Optional}、
+ * 异步与响应式包装类型取其泛型参数。与执行计划按运行时类型分派一致，声明为接口、抽象类、Object
+ * 或非 final 类的位置在运行时可能是带有脱敏字段的子类，视为可能需要脱敏；只有 final 类及其可达的字段类型
+ * 均不含脱敏字段时才判定为不需要脱敏。返回值本身声明为 Object 时，交由运行时按响应体的实际类型再判断一次；
+ * 响应体恰为声明类型时，按 {@link #analyzeExact} 的结果判断。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class ReturnTypeMaskingAnalyzer {
+
+    /**
+     * 分析结果
+     */
+    public enum Maskability {
+        NONE,       // 静态类型中不可能存在脱敏字段
+        POSSIBLE,   // 可能存在脱敏字段
+        RUNTIME,    // 返回值声明为 Object，按运行时类型判断
+    }
+
+    private static final List<Class<?>> WRAPPER_TYPES = new ArrayList<>();
+
+    static {
+        WRAPPER_TYPES.add(HttpEntity.class);
+        WRAPPER_TYPES.add(Optional.class);
+        WRAPPER_TYPES.add(Callable.class);
+        WRAPPER_TYPES.add(Future.class);
+        WRAPPER_TYPES.add(CompletionStage.class);
+        ClassLoader classLoader = ReturnTypeMaskingAnalyzer.class.getClassLoader();
+        for (String name : new String[]{
+                "org.springframework.web.context.request.async.DeferredResult",
+                "org.springframework.web.context.request.async.WebAsyncTask",
+                "org.reactivestreams.Publisher"}) {
+            if (ClassUtils.isPresent(name, classLoader)) {
+                WRAPPER_TYPES.add(ClassUtils.resolveClassName(name, classLoader));
+            }
+        }
+    }
+
+    private static final Map<ResolvableType, Boolean> CACHE = new ConcurrentReferenceHashMap<>();
+
+    private static final Map<ResolvableType, Boolean> EXACT_CACHE = new ConcurrentReferenceHashMap<>();
+
+    private static final Map<Class<?>, Boolean> RUNTIME_CACHE = new ConcurrentReferenceHashMap<>();
+
+    private ReturnTypeMaskingAnalyzer() {
+    }
+
+    /**
+     * 分析方法返回值类型
+     *
+     * @param returnType 方法返回值参数
+     * @return 分析结果
+     */
+    public static Maskability analyze(MethodParameter returnType) {
+        ResolvableType type = declaredType(returnType);
+        if (type.resolve(Object.class) == Object.class) {
+            return Maskability.RUNTIME;
+        }
+        return mayContainMaskingFields(type) ? Maskability.POSSIBLE : Maskability.NONE;
+    }
+
+    /**
+     * 按声明的泛型返回值类型分析，且假定响应体恰为该类型（不是其子类）
+     * <p>
+     * {@link #analyze} 对非 final 的包装类型（如普通的 {@code Result<T>}）只能判定为可能需要脱敏，
+     * 运行时响应体的类型与声明类型相同时，可以按本方法的结果跳过，如 {@code Result<Long>}。
+     * </p>
+     *
+     * @param returnType 方法返回值参数
+     * @return 响应体恰为声明类型时可能存在脱敏字段则返回 true
+     */
+    public static boolean analyzeExact(MethodParameter returnType) {
+        ResolvableType type = declaredType(returnType);
+        Boolean cached = EXACT_CACHE.get(type);
+        if (cached == null) {
+            cached = inspect(type, new HashSet<>(), true);
+            EXACT_CACHE.put(type, cached);
+        }
+        return cached;
+    }
+
+    /**
+     * 去除 {@code ResponseEntity}、{@code Optional}、异步与响应式包装后的声明类型
+     *
+     * @param returnType 方法返回值参数
+     * @return 响应体的声明类型
+     */
+    public static ResolvableType declaredType(MethodParameter returnType) {
+        return unwrap(ResolvableType.forMethodParameter(returnType));
+    }
+
+    /**
+     * 按响应体的运行时类型判断是否可能存在脱敏字段
+     * <p>
+     * 响应体本身即为该类型，不考虑其子类；其字段仍按声明类型判断。
+     * </p>
+     *
+     * @param type 响应体的实际类型
+     * @return 可能存在时返回 true
+     */
+    public static boolean mayContainMaskingFields(Class<?> type) {
+        Boolean cached = RUNTIME_CACHE.get(type);
+        if (cached == null) {
+            cached = inspect(ResolvableType.forClass(type), new HashSet<>(), true);
+            RUNTIME_CACHE.put(type, cached);
+        }
+        return cached;
+    }
+
+    private static boolean mayContainMaskingFields(ResolvableType type) {
+        Boolean cached = CACHE.get(type);
+        if (cached == null) {
+            cached = inspect(type, new HashSet<>(), false);
+            CACHE.put(type, cached);
+        }
+        return cached;
+    }
+
+    private static ResolvableType unwrap(ResolvableType type) {
+        for (int depth = 0; depth < 4; depth++) {
+            ResolvableType wrapped = null;
+            for (Class<?> wrapper : WRAPPER_TYPES) {
+                ResolvableType candidate = type.as(wrapper);
+                if (candidate != ResolvableType.NONE) {
+                    wrapped = candidate.getGeneric(0);
+                    break;
+                }
+            }
+            if (wrapped == null) {
+                return type;
+            }
+            type = wrapped;
+        }
+        return type;
+    }
+
+    /**
+     * 检查类型中是否可能存在脱敏字段
+     *
+     * @param type     待检查的类型
+     * @param visiting 正在检查的类型，用于终止递归
+     * @param exact    类型是否为实际类型（运行时的响应体），为 false 时非 final 类按可能存在子类处理
+     * @return 可能存在时返回 true
+     */
+    private static boolean inspect(ResolvableType type, Set<Class<?>> visiting, boolean exact) {
+        Class<?> raw = type.resolve(Object.class);
+        if (raw.isArray()) {
+            return !raw.getComponentType().isPrimitive() && inspect(type.getComponentType(), visiting, false);
+        }
+        if (Map.class.isAssignableFrom(raw)) {
+            return inspect(type.asMap().getGeneric(1), visiting, false);
+        }
+        if (Iterable.class.isAssignableFrom(raw)) {
+            return inspect(type.as(Iterable.class).getGeneric(0), visiting, false);
+        }
+        if (Iterator.class.isAssignableFrom(raw)) {
+            return inspect(type.as(Iterator.class).getGeneric(0), visiting, false);
+        }
+        if (MaskingPlanCompiler.isLeafType(raw)) {
+            return false;
+        }
+        if (raw == Object.class || raw.isInterface() || Modifier.isAbstract(raw.getModifiers())
+                || (!exact && !Modifier.isFinal(raw.getModifiers()))) {
+            // 多态类型，运行时可能为带有脱敏字段的任意子类
+            return true;
+        }
+        if (!visiting.add(raw)) {
+            // 递归类型，由首次访问处负责判断
+            return false;
+        }
+        for (Class<?> current = raw; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+                if (field.isAnnotationPresent(MaskingField.class)) {
+                    return true;
+                }
+                if (field.getType() != String.class
+                        && inspect(ResolvableType.forField(field, type), visiting, false)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
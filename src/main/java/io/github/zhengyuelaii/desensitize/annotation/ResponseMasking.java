@@ -29,6 +29,9 @@ public @interface ResponseMasking {
 
     /**
      * 需要脱敏的字段配置，为空默认采用字段中配置的脱敏规则
+     * <p>
+     * 名称可以是字段名（任意深度匹配），也可以是相对于响应体的路径，如 {@code data.records[*].mobile}
+     * </p>
      * 
      * @return 脱敏字段配置数组
      */
@@ -37,9 +40,23 @@ public @interface ResponseMasking {
 
     /**
      * 不需要脱敏的字段名称数组，默认为空，表示所有字段都需要根据规则进行脱敏
+     * <p>
+     * 同样支持路径形式，如 {@code data.owner.mobile}
+     * </p>
      * 
      * @return 不需要脱敏的字段名称数组
      */
     String[] excludeFields() default {};
 
+    /**
+     * 是否缓存脱敏并序列化后的响应，默认为 false
+     * <p>
+     * 需要启用 {@code easy.desensitize.response-cache.enabled}，并以响应头 ETag（或拦截器通过
+     * {@code ResponseMaskingContext#setCacheVersion(Object)} 提供的版本）标识响应体内容，无版本时不缓存
+     * </p>
+     *
+     * @return 是否缓存脱敏结果
+     */
+    boolean cacheable() default false;
+
 }
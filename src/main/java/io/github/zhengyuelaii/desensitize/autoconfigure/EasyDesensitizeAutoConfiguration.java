@@ -1,19 +1,58 @@
 package io.github.zhengyuelaii.desensitize.autoconfigure;
 
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.zhengyuelaii.desensitize.advice.EasyDesensitizeResponseAdvice;
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingDefinitionCache;
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingProcessor;
+import io.github.zhengyuelaii.desensitize.cache.BoundedMaskingMetadataCache;
+import io.github.zhengyuelaii.desensitize.cache.MaskedResponseCache;
+import io.github.zhengyuelaii.desensitize.cache.MaskingMetadataCache;
 import io.github.zhengyuelaii.desensitize.config.EasyDesensitizeProperties;
+import io.github.zhengyuelaii.desensitize.handler.MaskingHandlerMemoizer;
+import io.github.zhengyuelaii.desensitize.hibernate.HibernateTraversalGuard;
+import io.github.zhengyuelaii.desensitize.interceptor.DesensitizeInterceptorChainResolver;
 import io.github.zhengyuelaii.desensitize.interceptor.DesensitizeInterceptorRegistry;
 import io.github.zhengyuelaii.desensitize.interceptor.EasyDesensitizeInterceptor;
+import io.github.zhengyuelaii.desensitize.jackson.JacksonSerializedPropertyResolver;
+import io.github.zhengyuelaii.desensitize.jackson.MaskingJacksonModule;
+import io.github.zhengyuelaii.desensitize.json.JsonMaskingFilter;
+import io.github.zhengyuelaii.desensitize.parallel.ParallelMaskingExecutor;
+import io.github.zhengyuelaii.desensitize.plan.GeneratedMaskingAccessors;
+import io.github.zhengyuelaii.desensitize.plan.MaskingPlanCompiler;
+import io.github.zhengyuelaii.desensitize.plan.PlanMaskingEngine;
+import io.github.zhengyuelaii.desensitize.plan.SerializedPropertyResolver;
+import io.github.zhengyuelaii.desensitize.plan.TraversalGuard;
+import io.github.zhengyuelaii.desensitize.prewarm.MaskingMetadataPrewarmer;
+import io.github.zhengyuelaii.desensitize.reactive.ReactiveResponseMaskingResultHandler;
 import io.github.zhengyuelaii.desensitize.resolver.AbstractMaskingDataResolver;
 import io.github.zhengyuelaii.desensitize.resolver.GlobalMaskingResolverComposite;
+import io.github.zhengyuelaii.desensitize.streaming.StreamingMaskingHandlerAdapterPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerResultHandler;
+import org.springframework.web.reactive.result.method.annotation.ResponseBodyResultHandler;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityResultHandler;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * 默认配置
@@ -28,9 +67,11 @@ import java.util.List;
 public class EasyDesensitizeAutoConfiguration {
 
     @Bean
-    EasyDesensitizeResponseAdvice easyDesensitizeResponseAdvice() {
-		return new EasyDesensitizeResponseAdvice();
-	}
+    @ConditionalOnMissingBean
+    ResponseMaskingDefinitionCache responseMaskingDefinitionCache(EasyDesensitizeProperties properties) {
+        EasyDesensitizeProperties.DefinitionCache config = properties.getDefinitionCache();
+        return new ResponseMaskingDefinitionCache(config.isEnabled(), config.getMaxSize());
+    }
 
     @Bean
     @ConditionalOnMissingBean
@@ -38,6 +79,67 @@ public class EasyDesensitizeAutoConfiguration {
 		return new DesensitizeInterceptorRegistry();
 	}
 
+    @Bean
+    @ConditionalOnMissingBean
+    DesensitizeInterceptorChainResolver desensitizeInterceptorChainResolver(
+            DesensitizeInterceptorRegistry registry, EasyDesensitizeProperties properties) {
+        return new DesensitizeInterceptorChainResolver(registry, properties.getInterceptorChainCache().getMaxSize());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    MaskingMetadataCache maskingMetadataCache(EasyDesensitizeProperties properties) {
+        return new BoundedMaskingMetadataCache(properties.getCache().getMaxSize());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    JsonMaskingFilter jsonMaskingFilter() {
+        return new JsonMaskingFilter();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    PlanMaskingEngine planMaskingEngine(MaskingMetadataCache maskingMetadataCache, EasyDesensitizeProperties properties,
+                                        ObjectProvider<TraversalGuard> traversalGuards,
+                                        ObjectProvider<SerializedPropertyResolver> serializedPropertyResolver) {
+        MaskingPlanCompiler compiler = new MaskingPlanCompiler(maskingMetadataCache);
+        serializedPropertyResolver.ifAvailable(compiler::setSerializedPropertyResolver);
+        if (properties.isUseGeneratedAccessors()) {
+            compiler.setGeneratedAccessors(GeneratedMaskingAccessors.load(ClassUtils.getDefaultClassLoader()));
+        }
+        PlanMaskingEngine engine = new PlanMaskingEngine(compiler);
+        engine.setTraversalGuard(TraversalGuard.composite(
+                traversalGuards.orderedStream().collect(Collectors.toList())));
+        return engine;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "easy.desensitize.parallel", name = "enabled", havingValue = "true")
+    ParallelMaskingExecutor parallelMaskingExecutor(EasyDesensitizeProperties properties) {
+        EasyDesensitizeProperties.Parallel config = properties.getParallel();
+        return new ParallelMaskingExecutor(config.getThreshold(), config.getParallelism(), config.getPoolName());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "easy.desensitize.memoize", name = "enabled", havingValue = "true")
+    MaskingHandlerMemoizer maskingHandlerMemoizer(EasyDesensitizeProperties properties) {
+        EasyDesensitizeProperties.Memoize config = properties.getMemoize();
+        return new MaskingHandlerMemoizer(config.getScope(), config.getFields(), config.getMaxSize(),
+                config.getRequestMaxSize(), config.getTtl());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "easy.desensitize.response-cache", name = "enabled", havingValue = "true")
+    MaskedResponseCache maskedResponseCache(EasyDesensitizeProperties properties) {
+        EasyDesensitizeProperties.ResponseCache config = properties.getResponseCache();
+        return new MaskedResponseCache(config.getMaxSize(), config.getMaxMemory().toBytes(), config.getTtl(),
+                config.isOffHeap());
+    }
+
     @Bean
     GlobalMaskingResolverComposite maskingResolverComposite(
             // Spring 会自动注入所有实现类，包括用户自定义的 @Component
@@ -49,4 +151,147 @@ public class EasyDesensitizeAutoConfiguration {
         return composite;
     }
 
+    /**
+     * 仅为会使用执行计划引擎的接口编译执行计划，判断条件与 {@link ResponseMaskingProcessor} 的引擎选择一致
+     */
+    static MaskingMetadataPrewarmer prewarmer(Supplier<Collection<HandlerMethod>> handlerMethods,
+                                              ResponseMaskingDefinitionCache definitionCache,
+                                              PlanMaskingEngine planMaskingEngine,
+                                              ResponseMaskingProcessor processor,
+                                              EasyDesensitizeProperties properties) {
+        EasyDesensitizeProperties.Prewarm config = properties.getPrewarm();
+        return new MaskingMetadataPrewarmer(handlerMethods, definitionCache, planMaskingEngine,
+                processor::usesPlanEngine, config.isWaitForCompletion(), config.getTimeout());
+    }
+
+    /**
+     * Spring MVC 响应脱敏
+     */
+    @Configuration
+    @ConditionalOnClass(ResponseBodyAdvice.class)
+    static class WebMvcMaskingConfiguration {
+
+        @Bean
+        EasyDesensitizeResponseAdvice easyDesensitizeResponseAdvice() {
+            return new EasyDesensitizeResponseAdvice();
+        }
+
+        /**
+         * 流式返回值（StreamingResponseBody / Flux）脱敏
+         */
+        @Bean
+        static StreamingMaskingHandlerAdapterPostProcessor streamingMaskingHandlerAdapterPostProcessor(
+                ObjectProvider<EasyDesensitizeResponseAdvice> advice) {
+            return new StreamingMaskingHandlerAdapterPostProcessor(advice);
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "easy.desensitize.prewarm", name = "enabled", havingValue = "true",
+                matchIfMissing = true)
+        MaskingMetadataPrewarmer maskingMetadataPrewarmer(
+                ObjectProvider<RequestMappingHandlerMapping> handlerMappings,
+                ResponseMaskingDefinitionCache definitionCache, PlanMaskingEngine planMaskingEngine,
+                EasyDesensitizeResponseAdvice advice, EasyDesensitizeProperties properties) {
+            return prewarmer(() -> handlerMappings.orderedStream()
+                            .flatMap(mapping -> mapping.getHandlerMethods().values().stream())
+                            .collect(Collectors.toList()),
+                    definitionCache, planMaskingEngine, advice, properties);
+        }
+
+    }
+
+    /**
+     * WebFlux 响应脱敏
+     */
+    @Configuration
+    @ConditionalOnClass({HandlerResultHandler.class, Flux.class})
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class WebFluxMaskingConfiguration {
+
+        /**
+         * classpath 中同时存在 Spring MVC 时也会注册 MVC 的 Advice，此处按名称区分
+         */
+        @Bean
+        ResponseMaskingProcessor reactiveResponseMaskingProcessor() {
+            return new ResponseMaskingProcessor();
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        ReactiveResponseMaskingResultHandler reactiveResponseMaskingResultHandler(
+                @Qualifier("reactiveResponseMaskingProcessor") ResponseMaskingProcessor processor,
+                ResponseBodyResultHandler responseBodyResultHandler,
+                ObjectProvider<ResponseEntityResultHandler> responseEntityResultHandler,
+                EasyDesensitizeProperties properties) {
+            return new ReactiveResponseMaskingResultHandler(processor, responseBodyResultHandler,
+                    responseEntityResultHandler.getIfAvailable(), Schedulers.boundedElastic(),
+                    properties.getReactive().getOffloadThreshold());
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "easy.desensitize.prewarm", name = "enabled", havingValue = "true",
+                matchIfMissing = true)
+        MaskingMetadataPrewarmer reactiveMaskingMetadataPrewarmer(
+                ObjectProvider<org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping> handlerMappings,
+                ResponseMaskingDefinitionCache definitionCache, PlanMaskingEngine planMaskingEngine,
+                @Qualifier("reactiveResponseMaskingProcessor") ResponseMaskingProcessor processor,
+                EasyDesensitizeProperties properties) {
+            return prewarmer(() -> handlerMappings.orderedStream()
+                            .flatMap(mapping -> mapping.getHandlerMethods().values().stream())
+                            .collect(Collectors.toList()),
+                    definitionCache, planMaskingEngine, processor, properties);
+        }
+
+    }
+
+    /**
+     * 存在 Hibernate 且显式开启时跳过未初始化的延迟加载代理与集合；遍历守卫仅由执行计划引擎支持，
+     * 开启后 REFLECTION 模式的请求同样改用执行计划引擎
+     */
+    @Configuration
+    @ConditionalOnClass(name = HibernateTraversalGuard.HIBERNATE_CLASS)
+    @ConditionalOnProperty(prefix = "easy.desensitize", name = "skip-lazy-loading", havingValue = "true")
+    static class HibernateMaskingConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        HibernateTraversalGuard hibernateTraversalGuard(ResourceLoader resourceLoader) {
+            // 与 @ConditionalOnClass 使用同一个类加载器
+            return new HibernateTraversalGuard(resourceLoader.getClassLoader());
+        }
+
+    }
+
+    /**
+     * 按 ObjectMapper 的序列化配置剪除不会写出的属性（easy.desensitize.prune-unserialized=true）
+     */
+    @Configuration
+    @ConditionalOnClass(ObjectMapper.class)
+    @ConditionalOnProperty(prefix = "easy.desensitize", name = "prune-unserialized", havingValue = "true")
+    static class SerializedPropertyConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        SerializedPropertyResolver serializedPropertyResolver(ObjectProvider<ObjectMapper> objectMapper) {
+            return new JacksonSerializedPropertyResolver(objectMapper.getIfAvailable(ObjectMapper::new));
+        }
+
+    }
+
+    /**
+     * 序列化脱敏模式（easy.desensitize.mode=SERIALIZER）
+     */
+    @Configuration
+    @ConditionalOnClass(Module.class)
+    @ConditionalOnProperty(prefix = "easy.desensitize", name = "mode", havingValue = "serializer")
+    static class JacksonMaskingConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        MaskingJacksonModule maskingJacksonModule() {
+            return new MaskingJacksonModule();
+        }
+
+    }
+
 }
@@ -0,0 +1,65 @@
+package io.github.zhengyuelaii.desensitize.autoconfigure;
+
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingProcessor;
+import io.github.zhengyuelaii.desensitize.cache.MaskedResponseCache;
+import io.github.zhengyuelaii.desensitize.cache.MaskingMetadataCache;
+import io.github.zhengyuelaii.desensitize.handler.MaskingHandlerMemoizer;
+import io.github.zhengyuelaii.desensitize.metrics.DesensitizeMetrics;
+import io.github.zhengyuelaii.desensitize.metrics.MaskedResponseCacheMetrics;
+import io.github.zhengyuelaii.desensitize.metrics.MaskingHandlerMemoizerMetrics;
+import io.github.zhengyuelaii.desensitize.metrics.MaskingMetadataCacheMetrics;
+import io.github.zhengyuelaii.desensitize.metrics.MicrometerDesensitizeMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 脱敏监控指标配置，存在 Micrometer MeterRegistry 时生效
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Configuration
+@AutoConfigureAfter(value = EasyDesensitizeAutoConfiguration.class, name = {
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration"
+})
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean({MeterRegistry.class, ResponseMaskingProcessor.class})
+@ConditionalOnProperty(prefix = "easy.desensitize.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class EasyDesensitizeMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(DesensitizeMetrics.class)
+    MicrometerDesensitizeMetrics micrometerDesensitizeMetrics(MeterRegistry meterRegistry) {
+        return new MicrometerDesensitizeMetrics(meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnBean(MaskingMetadataCache.class)
+    MaskingMetadataCacheMetrics maskingMetadataCacheMetrics(MeterRegistry meterRegistry,
+                                                            MaskingMetadataCache maskingMetadataCache) {
+        return new MaskingMetadataCacheMetrics(meterRegistry, maskingMetadataCache);
+    }
+
+    @Bean
+    @ConditionalOnBean(MaskingHandlerMemoizer.class)
+    MaskingHandlerMemoizerMetrics maskingHandlerMemoizerMetrics(MeterRegistry meterRegistry,
+                                                                MaskingHandlerMemoizer maskingHandlerMemoizer) {
+        return new MaskingHandlerMemoizerMetrics(meterRegistry, maskingHandlerMemoizer);
+    }
+
+    @Bean
+    @ConditionalOnBean(MaskedResponseCache.class)
+    MaskedResponseCacheMetrics maskedResponseCacheMetrics(MeterRegistry meterRegistry,
+                                                          MaskedResponseCache maskedResponseCache) {
+        return new MaskedResponseCacheMetrics(meterRegistry, maskedResponseCache);
+    }
+
+}
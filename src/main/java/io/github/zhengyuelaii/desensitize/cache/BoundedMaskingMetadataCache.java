@@ -0,0 +1,229 @@
+package io.github.zhengyuelaii.desensitize.cache;
+
+import org.springframework.util.Assert;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 有界的脱敏元数据缓存
+ * <p>
+ * 以弱引用持有类型，类型被回收后对应条目在下次访问时清除；条目数超过上限时按最近访问时间批量淘汰最久未使用的条目。
+ * 元数据（如执行计划中的 MethodHandle）可能强引用其类型，因此动态类及其类加载器在条目淘汰或
+ * {@link #evict(Class)} 后才能被回收，容量上限保证了这部分占用有界。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class BoundedMaskingMetadataCache implements MaskingMetadataCache {
+
+    /**
+     * 每次淘汰的条目比例，避免容量边界上频繁淘汰
+     */
+    private static final int EVICTION_BATCH_DIVISOR = 10;
+
+    private final int maxSize;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private final ReferenceQueue<Class<?>> collected = new ReferenceQueue<>();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private final Object evictionLock = new Object();
+
+    public BoundedMaskingMetadataCache(int maxSize) {
+        Assert.isTrue(maxSize > 0, "maxSize must be positive");
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public Object get(Class<?> type, Object qualifier) {
+        purgeCollected();
+        Entry entry = entries.get(new LookupKey(type, qualifier));
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        // 读取不推进时钟，记为晚于最近一次写入
+        entry.lastAccess = clock.get() + 1;
+        return entry.value;
+    }
+
+    @Override
+    public void put(Class<?> type, Object qualifier, Object metadata) {
+        purgeCollected();
+        entries.put(new WeakKey(type, qualifier, collected), new Entry(metadata, clock.addAndGet(2)));
+        if (entries.size() > maxSize) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    @Override
+    public void evict(Class<?> type) {
+        entries.keySet().removeIf(key -> key.type() == type);
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private void evictLeastRecentlyUsed() {
+        synchronized (evictionLock) {
+            int overflow = entries.size() - maxSize;
+            if (overflow <= 0) {
+                return;
+            }
+            int count = overflow + maxSize / EVICTION_BATCH_DIVISOR;
+            List<Map.Entry<Key, Entry>> candidates = new ArrayList<>(entries.entrySet());
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess));
+            for (int i = 0; i < count && i < candidates.size(); i++) {
+                Map.Entry<Key, Entry> candidate = candidates.get(i);
+                if (entries.remove(candidate.getKey(), candidate.getValue())) {
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    private void purgeCollected() {
+        Reference<? extends Class<?>> reference;
+        while ((reference = collected.poll()) != null) {
+            if (entries.remove(reference) != null) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        final Object value;
+
+        volatile long lastAccess;
+
+        Entry(Object value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    /**
+     * 缓存键：按类型同一性与限定键相等比较
+     */
+    private interface Key {
+
+        Class<?> type();
+
+        Object qualifier();
+
+        static int hash(Class<?> type, Object qualifier) {
+            return 31 * System.identityHashCode(type) + (qualifier != null ? qualifier.hashCode() : 0);
+        }
+
+        static boolean matches(Key key, Object other) {
+            if (key == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) other;
+            Class<?> type = key.type();
+            return type != null && type == that.type()
+                    && (key.qualifier() == null ? that.qualifier() == null : key.qualifier().equals(that.qualifier()));
+        }
+    }
+
+    private static final class WeakKey extends WeakReference<Class<?>> implements Key {
+
+        private final Object qualifier;
+        private final int hash;
+
+        WeakKey(Class<?> type, Object qualifier, ReferenceQueue<Class<?>> queue) {
+            super(type, queue);
+            this.qualifier = qualifier;
+            this.hash = Key.hash(type, qualifier);
+        }
+
+        @Override
+        public Class<?> type() {
+            return get();
+        }
+
+        @Override
+        public Object qualifier() {
+            return qualifier;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return Key.matches(this, o);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class LookupKey implements Key {
+
+        private final Class<?> type;
+        private final Object qualifier;
+
+        LookupKey(Class<?> type, Object qualifier) {
+            this.type = type;
+            this.qualifier = qualifier;
+        }
+
+        @Override
+        public Class<?> type() {
+            return type;
+        }
+
+        @Override
+        public Object qualifier() {
+            return qualifier;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return Key.matches(this, o);
+        }
+
+        @Override
+        public int hashCode() {
+            return Key.hash(type, qualifier);
+        }
+    }
+}
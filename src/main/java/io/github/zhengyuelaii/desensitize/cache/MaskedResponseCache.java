@@ -0,0 +1,308 @@
+package io.github.zhengyuelaii.desensitize.cache;
+
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 脱敏响应缓存
+ * <p>
+ * 保存脱敏并序列化后的响应字节，键由处理方法、请求资源（路径与查询参数）、写出的媒体类型、生效的脱敏规则
+ * 与调用方提供的版本（如 ETag）组成。同一方法下不同路径变量或查询参数的响应分别缓存。
+ * 命中时直接写出缓存的字节，不再遍历与序列化响应体。条目按最近访问顺序淘汰，同时受条目数、总字节数与存活时间限制。
+ * </p>
+ * <p>
+ * 脱敏规则按处理器实例的 {@code equals} 比较，注解声明的处理器为共享实例；拦截器追加的处理器需要复用同一实例才能命中。
+ * 启用堆外存储时响应字节保存在直接内存中，不占用堆空间，但写出时需要额外复制。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MaskedResponseCache {
+
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    private final int maxSize;
+
+    private final long maxBytes;
+
+    private final long ttlMillis;
+
+    private final boolean offHeap;
+
+    private final LinkedHashMap<Key, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long bytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param maxSize  最大条目数
+     * @param maxBytes 缓存字节总数上限，超过该值的单个响应不缓存
+     * @param ttl      存活时间，null 或非正数表示不过期
+     * @param offHeap  是否将响应字节保存在直接内存中
+     */
+    public MaskedResponseCache(int maxSize, long maxBytes, Duration ttl, boolean offHeap) {
+        Assert.isTrue(maxSize > 0, "maxSize must be positive");
+        Assert.isTrue(maxBytes > 0, "maxBytes must be positive");
+        this.maxSize = maxSize;
+        this.maxBytes = maxBytes;
+        this.ttlMillis = ttl == null || ttl.isNegative() ? 0 : ttl.toMillis();
+        this.offHeap = offHeap;
+    }
+
+    /**
+     * 构建缓存键
+     *
+     * @param method         Controller 方法
+     * @param resource       请求资源，即请求路径与查询参数，如 {@code /users/1?fields=mobile}
+     * @param contentType    写出的媒体类型
+     * @param handlers       生效的脱敏处理器
+     * @param excludedFields 生效的排除字段
+     * @param version        响应体版本，如 ETag 或数据的修改版本
+     * @return 缓存键
+     */
+    public static Key key(Method method, String resource, String contentType, Map<String, MaskingHandler> handlers,
+                          Set<String> excludedFields, Object version) {
+        return new Key(method, resource, contentType, handlers, excludedFields, version);
+    }
+
+    /**
+     * 查找缓存的响应
+     *
+     * @param key 缓存键
+     * @return 未命中或已过期时返回 null
+     */
+    public CachedResponse get(Key key) {
+        CachedResponse cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+            if (cached != null && ttlMillis > 0 && cached.expiresAt <= System.currentTimeMillis()) {
+                remove(key);
+                cached = null;
+            }
+        }
+        if (cached == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return cached;
+    }
+
+    /**
+     * 缓存序列化后的响应，超出容量时淘汰最久未访问的条目
+     *
+     * @param key  缓存键
+     * @param body 序列化后的响应字节
+     * @return 可写出的响应；超过字节上限时不缓存，仍返回包装后的响应
+     */
+    public CachedResponse put(Key key, byte[] body) {
+        if (body.length > maxBytes) {
+            return new CachedResponse(body, null, Long.MAX_VALUE);
+        }
+        long expiresAt = ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : Long.MAX_VALUE;
+        CachedResponse cached;
+        if (offHeap) {
+            ByteBuffer direct = ByteBuffer.allocateDirect(body.length);
+            direct.put(body);
+            // 兼容 Java 8 的 Buffer#flip 签名
+            ((Buffer) direct).flip();
+            cached = new CachedResponse(null, direct, expiresAt);
+        } else {
+            cached = new CachedResponse(body, null, expiresAt);
+        }
+        synchronized (entries) {
+            remove(key);
+            entries.put(key, cached);
+            bytes += cached.getLength();
+            Iterator<Map.Entry<Key, CachedResponse>> iterator = entries.entrySet().iterator();
+            while ((entries.size() > maxSize || bytes > maxBytes) && iterator.hasNext()) {
+                bytes -= iterator.next().getValue().getLength();
+                iterator.remove();
+            }
+        }
+        return cached;
+    }
+
+    private void remove(Key key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.getLength();
+        }
+    }
+
+    /**
+     * 清除指定方法的全部缓存，如数据批量变更后调用
+     *
+     * @param method Controller 方法
+     */
+    public void evict(Method method) {
+        synchronized (entries) {
+            Iterator<Map.Entry<Key, CachedResponse>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Key, CachedResponse> entry = iterator.next();
+                if (entry.getKey().method.equals(method)) {
+                    bytes -= entry.getValue().getLength();
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * 清除全部缓存
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            bytes = 0;
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 当前缓存的字节总数
+     *
+     * @return 字节数
+     */
+    public long getBytes() {
+        synchronized (entries) {
+            return bytes;
+        }
+    }
+
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 命中率
+     *
+     * @return 尚无查找时返回 0
+     */
+    public double getHitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    /**
+     * 缓存键，构造时计算哈希值
+     */
+    public static final class Key {
+
+        private final Method method;
+        private final String resource;
+        private final String contentType;
+        private final Map<String, MaskingHandler> handlers;
+        private final Set<String> excludedFields;
+        private final Object version;
+        private final int hash;
+
+        private Key(Method method, String resource, String contentType, Map<String, MaskingHandler> handlers,
+                    Set<String> excludedFields, Object version) {
+            Assert.notNull(version, "version must not be null");
+            this.method = method;
+            this.resource = resource;
+            this.contentType = contentType;
+            this.handlers = handlers;
+            this.excludedFields = excludedFields;
+            this.version = version;
+            this.hash = Objects.hash(method, resource, contentType, handlers, excludedFields, version);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hash == other.hash
+                    && Objects.equals(method, other.method)
+                    && Objects.equals(resource, other.resource)
+                    && Objects.equals(contentType, other.contentType)
+                    && version.equals(other.version)
+                    && handlers.equals(other.handlers)
+                    && excludedFields.equals(other.excludedFields);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * 缓存的响应字节
+     */
+    public static final class CachedResponse {
+
+        private final byte[] heap;
+
+        private final ByteBuffer direct;
+
+        private final long expiresAt;
+
+        private CachedResponse(byte[] heap, ByteBuffer direct, long expiresAt) {
+            this.heap = heap;
+            this.direct = direct;
+            this.expiresAt = expiresAt;
+        }
+
+        public int getLength() {
+            return heap != null ? heap.length : direct.remaining();
+        }
+
+        /**
+         * 将响应字节写出到输出流，可并发调用
+         *
+         * @param output 输出流
+         * @throws IOException 写出异常
+         */
+        public void writeTo(OutputStream output) throws IOException {
+            if (heap != null) {
+                output.write(heap);
+                return;
+            }
+            ByteBuffer buffer = direct.duplicate();
+            byte[] chunk = new byte[Math.min(COPY_BUFFER_SIZE, buffer.remaining())];
+            while (buffer.hasRemaining()) {
+                int length = Math.min(chunk.length, buffer.remaining());
+                buffer.get(chunk, 0, length);
+                output.write(chunk, 0, length);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.zhengyuelaii.desensitize.cache;
+
+/**
+ * 脱敏元数据缓存
+ * <p>
+ * 以（类型，限定键）为键缓存按类型编译的脱敏元数据（如执行计划），限定键用于区分同一类型在不同规则下的结果。
+ * 实现需线程安全，且不应阻止动态生成类及其类加载器被回收。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public interface MaskingMetadataCache {
+
+    /**
+     * 获取缓存的元数据
+     *
+     * @param type      类型
+     * @param qualifier 限定键
+     * @return 元数据，未命中时返回 null
+     */
+    Object get(Class<?> type, Object qualifier);
+
+    /**
+     * 缓存元数据
+     *
+     * @param type      类型
+     * @param qualifier 限定键
+     * @param metadata  元数据
+     */
+    void put(Class<?> type, Object qualifier, Object metadata);
+
+    /**
+     * 移除指定类型在所有限定键下的元数据（如插件卸载时）
+     *
+     * @param type 类型
+     */
+    void evict(Class<?> type);
+
+    /**
+     * 清空全部缓存
+     */
+    void clear();
+
+    /**
+     * 当前缓存条目数
+     *
+     * @return 条目数
+     */
+    int size();
+
+    /**
+     * 缓存统计
+     *
+     * @return 统计快照
+     */
+    Stats getStats();
+
+    /**
+     * 缓存统计快照
+     */
+    final class Stats {
+
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+
+        public Stats(long hitCount, long missCount, long evictionCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * 命中率
+         *
+         * @return 无访问时返回 0
+         */
+        public double getHitRatio() {
+            long total = hitCount + missCount;
+            return total == 0 ? 0 : (double) hitCount / total;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "hitCount=" + hitCount +
+                    ", missCount=" + missCount +
+                    ", evictionCount=" + evictionCount +
+                    '}';
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package io.github.zhengyuelaii.desensitize.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * EasyDesensitize 配置类
@@ -18,7 +23,7 @@ public class EasyDesensitizeProperties {
     private boolean enabled = true;
 
     /**
-     * 是否使用全局缓存，默认为true
+     * 是否使用核心库的全局反射缓存，默认为true（本 starter 的元数据缓存见 {@link #cache}）
      */
     private boolean useGlobalCache = true;
 
@@ -32,6 +37,97 @@ public class EasyDesensitizeProperties {
      */
     private FailureStrategy failureStrategy = FailureStrategy.FAIL_OPEN;
 
+    /**
+     * 脱敏执行模式，默认为REFLECTION
+     */
+    private MaskingMode mode = MaskingMode.REFLECTION;
+
+    /**
+     * 最大遍历深度（Bean、Map、集合与数组各计一层），小于等于0表示不限制，默认为0
+     */
+    private int maxDepth = 0;
+
+    /**
+     * 单次遍历最多访问的对象数，小于等于0表示不限制，默认为0
+     */
+    private int maxObjects = 0;
+
+    /**
+     * 单个集合、数组或 Map 最多遍历的元素数，小于等于0表示不限制，默认为0
+     */
+    private int maxCollectionSize = 0;
+
+    /**
+     * 超出遍历限制时的处理方式，默认为SKIP
+     */
+    private TraversalLimitAction limitAction = TraversalLimitAction.SKIP;
+
+    /**
+     * classpath 中存在 Hibernate 时是否跳过未初始化的延迟加载代理与集合，默认为false；
+     * 开启后 REFLECTION 模式改用执行计划引擎
+     */
+    private boolean skipLazyLoading = false;
+
+    /**
+     * 是否跳过 ObjectMapper 不会序列化的属性（@JsonIgnore、transient、不在当前 @JsonView 中），默认为false
+     */
+    private boolean pruneUnserialized = false;
+
+    /**
+     * 是否使用编译期生成的字段访问器（MaskingAccessorProcessor），默认为false；开启后 REFLECTION 模式改用执行计划引擎
+     */
+    private boolean useGeneratedAccessors = false;
+
+    /**
+     * 脱敏定义缓存配置
+     */
+    private final DefinitionCache definitionCache = new DefinitionCache();
+
+    /**
+     * 拦截器链缓存配置
+     */
+    private final InterceptorChainCache interceptorChainCache = new InterceptorChainCache();
+
+    /**
+     * 监控指标配置
+     */
+    private final Metrics metrics = new Metrics();
+
+    /**
+     * 大集合并行脱敏配置
+     */
+    private final Parallel parallel = new Parallel();
+
+    /**
+     * WebFlux 响应式脱敏配置
+     */
+    private final Reactive reactive = new Reactive();
+
+    /**
+     * 启动预热配置
+     */
+    private final Prewarm prewarm = new Prewarm();
+
+    /**
+     * 脱敏元数据缓存配置
+     */
+    private final Cache cache = new Cache();
+
+    /**
+     * 脱敏结果记忆化配置
+     */
+    private final Memoize memoize = new Memoize();
+
+    /**
+     * 已序列化 JSON 响应体脱敏配置
+     */
+    private final RawJson rawJson = new RawJson();
+
+    /**
+     * 脱敏响应缓存配置
+     */
+    private final ResponseCache responseCache = new ResponseCache();
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -64,6 +160,110 @@ public class EasyDesensitizeProperties {
         this.failureStrategy = failureStrategy;
     }
 
+    public MaskingMode getMode() {
+        return mode;
+    }
+
+    public void setMode(MaskingMode mode) {
+        this.mode = mode;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    public int getMaxObjects() {
+        return maxObjects;
+    }
+
+    public void setMaxObjects(int maxObjects) {
+        this.maxObjects = maxObjects;
+    }
+
+    public int getMaxCollectionSize() {
+        return maxCollectionSize;
+    }
+
+    public void setMaxCollectionSize(int maxCollectionSize) {
+        this.maxCollectionSize = maxCollectionSize;
+    }
+
+    public TraversalLimitAction getLimitAction() {
+        return limitAction;
+    }
+
+    public void setLimitAction(TraversalLimitAction limitAction) {
+        this.limitAction = limitAction;
+    }
+
+    public boolean isSkipLazyLoading() {
+        return skipLazyLoading;
+    }
+
+    public void setSkipLazyLoading(boolean skipLazyLoading) {
+        this.skipLazyLoading = skipLazyLoading;
+    }
+
+    public boolean isPruneUnserialized() {
+        return pruneUnserialized;
+    }
+
+    public void setPruneUnserialized(boolean pruneUnserialized) {
+        this.pruneUnserialized = pruneUnserialized;
+    }
+
+    public boolean isUseGeneratedAccessors() {
+        return useGeneratedAccessors;
+    }
+
+    public void setUseGeneratedAccessors(boolean useGeneratedAccessors) {
+        this.useGeneratedAccessors = useGeneratedAccessors;
+    }
+
+    public DefinitionCache getDefinitionCache() {
+        return definitionCache;
+    }
+
+    public InterceptorChainCache getInterceptorChainCache() {
+        return interceptorChainCache;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public Parallel getParallel() {
+        return parallel;
+    }
+
+    public Reactive getReactive() {
+        return reactive;
+    }
+
+    public Prewarm getPrewarm() {
+        return prewarm;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Memoize getMemoize() {
+        return memoize;
+    }
+
+    public RawJson getRawJson() {
+        return rawJson;
+    }
+
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
     @Override
     public String toString() {
         return "EasyDesensitizeProperties{" +
@@ -71,6 +271,494 @@ public class EasyDesensitizeProperties {
                 ", useGlobalCache=" + useGlobalCache +
                 ", useGlobalResolver=" + useGlobalResolver +
                 ", failureStrategy=" + failureStrategy +
+                ", mode=" + mode +
+                ", maxDepth=" + maxDepth +
+                ", maxObjects=" + maxObjects +
+                ", maxCollectionSize=" + maxCollectionSize +
+                ", limitAction=" + limitAction +
+                ", skipLazyLoading=" + skipLazyLoading +
+                ", pruneUnserialized=" + pruneUnserialized +
+                ", useGeneratedAccessors=" + useGeneratedAccessors +
+                ", definitionCache=" + definitionCache +
+                ", interceptorChainCache=" + interceptorChainCache +
+                ", metrics=" + metrics +
+                ", parallel=" + parallel +
+                ", reactive=" + reactive +
+                ", prewarm=" + prewarm +
+                ", cache=" + cache +
+                ", memoize=" + memoize +
+                ", rawJson=" + rawJson +
+                ", responseCache=" + responseCache +
                 '}';
     }
+
+    /**
+     * 脱敏定义（{@code @ResponseMasking} 解析结果）缓存配置
+     */
+    public static class DefinitionCache {
+
+        /**
+         * 是否缓存脱敏定义，默认为true
+         */
+        private boolean enabled = true;
+
+        /**
+         * 最大缓存方法数，默认为1024
+         */
+        private int maxSize = 1024;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public String toString() {
+            return "DefinitionCache{" +
+                    "enabled=" + enabled +
+                    ", maxSize=" + maxSize +
+                    '}';
+        }
+    }
+
+    /**
+     * 拦截器链（按请求路径）缓存配置
+     */
+    public static class InterceptorChainCache {
+
+        /**
+         * 最大缓存路径数，默认为1024，小于等于0表示不缓存
+         */
+        private int maxSize = 1024;
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public String toString() {
+            return "InterceptorChainCache{" +
+                    "maxSize=" + maxSize +
+                    '}';
+        }
+    }
+
+    /**
+     * Micrometer 监控指标配置
+     */
+    public static class Metrics {
+
+        /**
+         * 存在 MeterRegistry 时是否记录脱敏指标，默认为true
+         */
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        @Override
+        public String toString() {
+            return "Metrics{" +
+                    "enabled=" + enabled +
+                    '}';
+        }
+    }
+
+    /**
+     * 大集合并行脱敏配置
+     */
+    public static class Parallel {
+
+        /**
+         * 是否启用并行脱敏，默认为false
+         */
+        private boolean enabled = false;
+
+        /**
+         * 触发并行脱敏的最小元素数，默认为10000
+         */
+        private int threshold = 10000;
+
+        /**
+         * 并行度，默认为CPU核数
+         */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * 线程池名称（线程名前缀），默认为easy-desensitize
+         */
+        private String poolName = "easy-desensitize";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getThreshold() {
+            return threshold;
+        }
+
+        public void setThreshold(int threshold) {
+            this.threshold = threshold;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public String getPoolName() {
+            return poolName;
+        }
+
+        public void setPoolName(String poolName) {
+            this.poolName = poolName;
+        }
+
+        @Override
+        public String toString() {
+            return "Parallel{" +
+                    "enabled=" + enabled +
+                    ", threshold=" + threshold +
+                    ", parallelism=" + parallelism +
+                    ", poolName='" + poolName + '\'' +
+                    '}';
+        }
+    }
+
+    /**
+     * WebFlux 响应式脱敏配置
+     */
+    public static class Reactive {
+
+        /**
+         * 切换到 boundedElastic 线程执行脱敏的最小元素数（集合、Map 或数组），默认为1000，小于等于0表示始终在当前线程执行
+         */
+        private int offloadThreshold = 1000;
+
+        public int getOffloadThreshold() {
+            return offloadThreshold;
+        }
+
+        public void setOffloadThreshold(int offloadThreshold) {
+            this.offloadThreshold = offloadThreshold;
+        }
+
+        @Override
+        public String toString() {
+            return "Reactive{" +
+                    "offloadThreshold=" + offloadThreshold +
+                    '}';
+        }
+    }
+
+    /**
+     * 启动预热配置
+     */
+    public static class Prewarm {
+
+        /**
+         * 是否在应用就绪时预热脱敏元数据，默认为true
+         */
+        private boolean enabled = true;
+
+        /**
+         * 是否等待预热完成后再进入就绪状态，默认为false
+         */
+        private boolean waitForCompletion = false;
+
+        /**
+         * 等待预热完成的最长时间，默认为30秒
+         */
+        private Duration timeout = Duration.ofSeconds(30);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isWaitForCompletion() {
+            return waitForCompletion;
+        }
+
+        public void setWaitForCompletion(boolean waitForCompletion) {
+            this.waitForCompletion = waitForCompletion;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        @Override
+        public String toString() {
+            return "Prewarm{" +
+                    "enabled=" + enabled +
+                    ", waitForCompletion=" + waitForCompletion +
+                    ", timeout=" + timeout +
+                    '}';
+        }
+    }
+
+    /**
+     * 脱敏元数据缓存配置
+     */
+    public static class Cache {
+
+        /**
+         * 最大缓存条目数（类型与脱敏规则的组合），默认为4096
+         */
+        private int maxSize = 4096;
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public String toString() {
+            return "Cache{" +
+                    "maxSize=" + maxSize +
+                    '}';
+        }
+    }
+
+    /**
+     * 脱敏结果记忆化配置
+     */
+    public static class Memoize {
+
+        /**
+         * 是否开启脱敏结果记忆化，默认为false
+         */
+        private boolean enabled = false;
+
+        /**
+         * 记忆化范围，默认为REQUEST；GLOBAL 会在内存中以原值为键保留敏感数据，需显式配置
+         */
+        private MemoizeScope scope = MemoizeScope.REQUEST;
+
+        /**
+         * 参与记忆化的字段，为空时对所有字段生效
+         */
+        private Set<String> fields = new LinkedHashSet<>();
+
+        /**
+         * GLOBAL 范围下每个处理器缓存的最大值数，默认为10000
+         */
+        private int maxSize = 10000;
+
+        /**
+         * REQUEST 范围下每个处理器缓存的最大值数，默认为256
+         */
+        private int requestMaxSize = 256;
+
+        /**
+         * GLOBAL 范围下脱敏结果的存活时间，默认为10分钟
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public MemoizeScope getScope() {
+            return scope;
+        }
+
+        public void setScope(MemoizeScope scope) {
+            this.scope = scope;
+        }
+
+        public Set<String> getFields() {
+            return fields;
+        }
+
+        public void setFields(Set<String> fields) {
+            this.fields = fields;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public int getRequestMaxSize() {
+            return requestMaxSize;
+        }
+
+        public void setRequestMaxSize(int requestMaxSize) {
+            this.requestMaxSize = requestMaxSize;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        @Override
+        public String toString() {
+            return "Memoize{" +
+                    "enabled=" + enabled +
+                    ", scope=" + scope +
+                    ", fields=" + fields +
+                    ", maxSize=" + maxSize +
+                    ", requestMaxSize=" + requestMaxSize +
+                    ", ttl=" + ttl +
+                    '}';
+        }
+    }
+
+    /**
+     * 已序列化 JSON 响应体（String、byte[]、Resource）脱敏配置
+     */
+    public static class RawJson {
+
+        /**
+         * 是否对媒体类型为 JSON 的 String、byte[]、Resource 响应体按 JSON token 脱敏，默认为true
+         */
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        @Override
+        public String toString() {
+            return "RawJson{" +
+                    "enabled=" + enabled +
+                    '}';
+        }
+    }
+
+    /**
+     * 脱敏响应缓存配置，缓存脱敏并序列化后的响应字节
+     */
+    public static class ResponseCache {
+
+        /**
+         * 是否启用响应缓存，默认为false；启用后仍需通过注解或拦截器为响应提供版本
+         */
+        private boolean enabled = false;
+
+        /**
+         * 最大缓存条目数，默认为1000
+         */
+        private int maxSize = 1000;
+
+        /**
+         * 缓存字节总数上限，默认为64MB
+         */
+        private DataSize maxMemory = DataSize.ofMegabytes(64);
+
+        /**
+         * 缓存条目存活时间，默认为10分钟
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        /**
+         * 是否将响应字节保存在堆外直接内存中，默认为false
+         */
+        private boolean offHeap = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public DataSize getMaxMemory() {
+            return maxMemory;
+        }
+
+        public void setMaxMemory(DataSize maxMemory) {
+            this.maxMemory = maxMemory;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public boolean isOffHeap() {
+            return offHeap;
+        }
+
+        public void setOffHeap(boolean offHeap) {
+            this.offHeap = offHeap;
+        }
+
+        @Override
+        public String toString() {
+            return "ResponseCache{" +
+                    "enabled=" + enabled +
+                    ", maxSize=" + maxSize +
+                    ", maxMemory=" + maxMemory +
+                    ", ttl=" + ttl +
+                    ", offHeap=" + offHeap +
+                    '}';
+        }
+    }
 }
@@ -0,0 +1,14 @@
+package io.github.zhengyuelaii.desensitize.config;
+
+/**
+ * 脱敏执行模式
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public enum MaskingMode {
+    REFLECTION,    // 写出前反射遍历并修改响应对象（默认）
+    SERIALIZER,    // Jackson 序列化时脱敏，不修改响应对象
+    PLAN,          // 写出前按预编译执行计划遍历并修改响应对象
+}
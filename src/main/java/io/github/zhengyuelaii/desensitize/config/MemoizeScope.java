@@ -0,0 +1,14 @@
+package io.github.zhengyuelaii.desensitize.config;
+
+/**
+ * 脱敏结果记忆化范围
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public enum MemoizeScope {
+    NONE,       // 不缓存脱敏结果
+    REQUEST,    // 单次响应内缓存，响应结束即丢弃
+    GLOBAL,     // 全局有界缓存，按 TTL 过期；原值（明文）作为缓存键常驻内存，直到过期或被淘汰
+}
@@ -0,0 +1,14 @@
+package io.github.zhengyuelaii.desensitize.config;
+
+/**
+ * 遍历超出限制时的处理方式
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public enum TraversalLimitAction {
+    SKIP,    // 跳过超出限制的子树，继续遍历其余节点（默认）
+    STOP,    // 立即停止本次遍历，已脱敏的字段保持不变
+    FAIL,    // 抛出异常，按 FailureStrategy 处理
+}
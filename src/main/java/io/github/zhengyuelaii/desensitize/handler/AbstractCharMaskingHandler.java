@@ -0,0 +1,85 @@
+package io.github.zhengyuelaii.desensitize.handler;
+
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+
+import java.util.Arrays;
+
+/**
+ * 基于字符数组的脱敏处理器
+ * <p>
+ * 结果长度在脱敏前即可确定：保留区段直接从原字符串复制到线程本地缓冲区，其余位置填充掩码字符，
+ * 最终只创建结果字符串本身，不产生 StringBuilder、子串等中间对象；无需脱敏时直接返回原值。
+ * 超过 {@value #MAX_POOLED_LENGTH} 个字符的值使用一次性缓冲区，避免线程长期持有大数组。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public abstract class AbstractCharMaskingHandler implements MaskingHandler {
+
+    protected static final char MASK_CHAR = '*';
+
+    private static final int MAX_POOLED_LENGTH = 256;
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[64]);
+
+    @Override
+    public final String getMaskingValue(String value) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        return mask(value);
+    }
+
+    /**
+     * 对非空字符串脱敏
+     *
+     * @param value 原值，长度大于 0
+     * @return 脱敏结果
+     */
+    protected abstract String mask(String value);
+
+    /**
+     * 保留首尾指定长度的字符，中间替换为掩码字符
+     * <p>
+     * 保留长度之和不小于原值长度时不保留尾部，并至少遮盖一个字符。
+     * </p>
+     *
+     * @param value  原值
+     * @param prefix 保留的首部长度
+     * @param suffix 保留的尾部长度
+     * @return 脱敏结果，长度与原值一致
+     */
+    protected static String keep(String value, int prefix, int suffix) {
+        int length = value.length();
+        if (prefix + suffix >= length) {
+            suffix = 0;
+            prefix = Math.min(prefix, length - 1);
+        }
+        int maskEnd = length - suffix;
+        char[] buffer = buffer(length);
+        value.getChars(0, prefix, buffer, 0);
+        Arrays.fill(buffer, prefix, maskEnd, MASK_CHAR);
+        value.getChars(maskEnd, length, buffer, maskEnd);
+        return new String(buffer, 0, length);
+    }
+
+    /**
+     * 获取至少指定长度的缓冲区，内容未初始化
+     *
+     * @param length 所需长度
+     * @return 缓冲区
+     */
+    protected static char[] buffer(int length) {
+        if (length > MAX_POOLED_LENGTH) {
+            return new char[length];
+        }
+        char[] buffer = BUFFER.get();
+        if (buffer.length < length) {
+            buffer = new char[MAX_POOLED_LENGTH];
+            BUFFER.set(buffer);
+        }
+        return buffer;
+    }
+}
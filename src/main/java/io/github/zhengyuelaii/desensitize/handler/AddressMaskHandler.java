@@ -0,0 +1,18 @@
+package io.github.zhengyuelaii.desensitize.handler;
+
+/**
+ * 地址脱敏处理器：遮盖末尾 8 个字符（门牌等详细信息），如 {@code 北京市海淀区********}
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class AddressMaskHandler extends AbstractCharMaskingHandler {
+
+    private static final int SENSITIVE_LENGTH = 8;
+
+    @Override
+    protected String mask(String value) {
+        return keep(value, Math.max(value.length() - SENSITIVE_LENGTH, 0), 0);
+    }
+}
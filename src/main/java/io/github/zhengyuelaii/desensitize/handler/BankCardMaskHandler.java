@@ -0,0 +1,16 @@
+package io.github.zhengyuelaii.desensitize.handler;
+
+/**
+ * 银行卡号脱敏处理器：保留前 4 位与后 4 位，如 {@code 6222***********0123}
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class BankCardMaskHandler extends AbstractCharMaskingHandler {
+
+    @Override
+    protected String mask(String value) {
+        return keep(value, 4, 4);
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.zhengyuelaii.desensitize.handler;
+
+/**
+ * 邮箱脱敏处理器：保留用户名首字符与 {@code @} 及之后的域名，如 {@code z*******@example.com}
+ * <p>
+ * 不含 {@code @} 时仅保留首字符。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class EmailMaskHandler extends AbstractCharMaskingHandler {
+
+    @Override
+    protected String mask(String value) {
+        int at = value.indexOf('@');
+        if (at < 0) {
+            return keep(value, 1, 0);
+        }
+        if (at <= 1) {
+            // 用户名不超过 1 个字符，无可遮盖部分
+            return value;
+        }
+        return keep(value, 1, value.length() - at);
+    }
+}
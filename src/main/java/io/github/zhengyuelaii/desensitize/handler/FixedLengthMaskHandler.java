@@ -0,0 +1,35 @@
+package io.github.zhengyuelaii.desensitize.handler;
+
+import java.util.Arrays;
+
+/**
+ * 等长全遮盖处理器：所有字符替换为掩码字符并保持原长度，如 {@code ******}
+ * <p>
+ * 与核心库 {@code FixedMaskHandler} 返回固定 6 位掩码不同，本处理器保留长度信息；
+ * 不超过 {@value #CACHED_LENGTH} 位的结果直接复用常量字符串。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class FixedLengthMaskHandler extends AbstractCharMaskingHandler {
+
+    private static final int CACHED_LENGTH = 32;
+
+    private static final String[] MASKS = new String[CACHED_LENGTH + 1];
+
+    static {
+        char[] chars = new char[CACHED_LENGTH];
+        Arrays.fill(chars, MASK_CHAR);
+        for (int i = 0; i <= CACHED_LENGTH; i++) {
+            MASKS[i] = new String(chars, 0, i);
+        }
+    }
+
+    @Override
+    protected String mask(String value) {
+        int length = value.length();
+        return length <= CACHED_LENGTH ? MASKS[length] : keep(value, 0, 0);
+    }
+}
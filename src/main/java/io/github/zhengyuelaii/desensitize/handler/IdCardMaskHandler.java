@@ -0,0 +1,16 @@
+package io.github.zhengyuelaii.desensitize.handler;
+
+/**
+ * 身份证号脱敏处理器：保留首位与末 2 位，如 {@code 1***************2X}
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class IdCardMaskHandler extends AbstractCharMaskingHandler {
+
+    @Override
+    protected String mask(String value) {
+        return keep(value, 1, 2);
+    }
+}
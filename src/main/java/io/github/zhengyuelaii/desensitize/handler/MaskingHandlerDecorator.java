@@ -0,0 +1,23 @@
+package io.github.zhengyuelaii.desensitize.handler;
+
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+
+/**
+ * 脱敏处理器装饰器，在处理器被调用前按字段替换为装饰后的实现
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface MaskingHandlerDecorator {
+
+    /**
+     * 装饰字段生效的处理器
+     *
+     * @param field   字段名称
+     * @param handler 原处理器
+     * @return 装饰后的处理器，无需装饰时返回原处理器
+     */
+    MaskingHandler decorate(String field, MaskingHandler handler);
+}
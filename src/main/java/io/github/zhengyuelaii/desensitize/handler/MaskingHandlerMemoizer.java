@@ -0,0 +1,132 @@
+package io.github.zhengyuelaii.desensitize.handler;
+
+import io.github.zhengyuelaii.desensitize.config.MemoizeScope;
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 脱敏结果记忆化
+ * <p>
+ * 每次响应通过 {@link #openSession()} 获取装饰器，按字段将处理器替换为 {@link MemoizingMaskingHandler}。
+ * 同一处理器实例在不同字段间共享缓存（相同输入的脱敏结果与字段无关）；
+ * {@link MemoizeScope#REQUEST} 下缓存随响应丢弃，{@link MemoizeScope#GLOBAL} 下按处理器实例全局复用。
+ * 全局缓存以原值为键，明文敏感数据会在内存中保留到过期或被淘汰，因此默认范围为 {@link MemoizeScope#REQUEST}。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MaskingHandlerMemoizer {
+
+    private final MemoizeScope scope;
+
+    private final Set<String> fields;
+
+    private final int maxSize;
+
+    private final int requestMaxSize;
+
+    private final long ttlMillis;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final Map<MaskingHandler, MemoizingMaskingHandler> globalHandlers = new ConcurrentReferenceHashMap<>();
+
+    public MaskingHandlerMemoizer(MemoizeScope scope, Set<String> fields, int maxSize, int requestMaxSize,
+                                  Duration ttl) {
+        this.scope = scope != null ? scope : MemoizeScope.NONE;
+        this.fields = fields != null ? fields : Collections.emptySet();
+        this.maxSize = maxSize;
+        this.requestMaxSize = requestMaxSize;
+        this.ttlMillis = ttl != null ? ttl.toMillis() : 0;
+    }
+
+    /**
+     * 开启一次响应的记忆化会话
+     *
+     * @return 处理器装饰器，未启用时返回 null
+     */
+    public MaskingHandlerDecorator openSession() {
+        if (scope == MemoizeScope.GLOBAL) {
+            return this::decorateGlobal;
+        }
+        if (scope == MemoizeScope.REQUEST) {
+            Map<MaskingHandler, MemoizingMaskingHandler> requestHandlers = new ConcurrentHashMap<>();
+            return (field, handler) -> !supports(field, handler) ? handler
+                    : requestHandlers.computeIfAbsent(handler,
+                    key -> MemoizingMaskingHandler.perRequest(key, requestMaxSize, hits, misses));
+        }
+        return null;
+    }
+
+    /**
+     * 装饰按字段名称生效的处理器集合
+     *
+     * @param decorator 会话装饰器
+     * @param handlers  按字段名称的处理器
+     * @return 装饰后的只读集合
+     */
+    public static Map<String, MaskingHandler> decorate(MaskingHandlerDecorator decorator,
+                                                       Map<String, MaskingHandler> handlers) {
+        if (decorator == null || handlers.isEmpty()) {
+            return handlers;
+        }
+        Map<String, MaskingHandler> decorated = new HashMap<>(handlers.size() * 2);
+        handlers.forEach((field, handler) -> decorated.put(field, decorator.decorate(field, handler)));
+        return Collections.unmodifiableMap(decorated);
+    }
+
+    public MemoizeScope getScope() {
+        return scope;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 命中率
+     *
+     * @return 无访问时返回 0
+     */
+    public double getHitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    /**
+     * 清空全局缓存
+     */
+    public void clear() {
+        globalHandlers.clear();
+    }
+
+    private MaskingHandler decorateGlobal(String field, MaskingHandler handler) {
+        if (!supports(field, handler)) {
+            return handler;
+        }
+        return globalHandlers.computeIfAbsent(handler,
+                key -> MemoizingMaskingHandler.global(key, maxSize, ttlMillis, hits, misses));
+    }
+
+    private boolean supports(String field, MaskingHandler handler) {
+        return handler != null && !(handler instanceof MemoizingMaskingHandler)
+                && (fields.isEmpty() || fields.contains(field));
+    }
+}
@@ -0,0 +1,196 @@
+package io.github.zhengyuelaii.desensitize.handler;
+
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 记忆化脱敏处理器
+ * <p>
+ * 缓存原值到脱敏结果的映射，重复出现的值直接返回同一个结果字符串实例。
+ * 请求级实例使用有界 Map，写满后不再缓存新值；全局实例按 TTL 过期，超出容量时先清除过期条目，
+ * 再按最久未访问批量淘汰（近似 LRU，不统计访问频率）。
+ * </p>
+ * <p>
+ * 缓存键为脱敏前的原值：全局实例会在内存中保留明文敏感数据，直到过期或被淘汰，堆转储中可见。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MemoizingMaskingHandler implements MaskingHandler {
+
+    private final MaskingHandler delegate;
+
+    private final Store store;
+
+    private final LongAdder hits;
+
+    private final LongAdder misses;
+
+    private MemoizingMaskingHandler(MaskingHandler delegate, Store store, LongAdder hits, LongAdder misses) {
+        this.delegate = delegate;
+        this.store = store;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    /**
+     * 创建请求级记忆化处理器
+     *
+     * @param delegate 原处理器
+     * @param maxSize  最大缓存值数
+     * @param hits     命中计数
+     * @param misses   未命中计数
+     * @return 记忆化处理器
+     */
+    public static MemoizingMaskingHandler perRequest(MaskingHandler delegate, int maxSize,
+                                                     LongAdder hits, LongAdder misses) {
+        return new MemoizingMaskingHandler(delegate, new BoundedStore(maxSize), hits, misses);
+    }
+
+    /**
+     * 创建全局记忆化处理器
+     *
+     * @param delegate  原处理器
+     * @param maxSize   最大缓存值数
+     * @param ttlMillis 结果存活时间（毫秒），小于等于 0 表示不过期
+     * @param hits      命中计数
+     * @param misses    未命中计数
+     * @return 记忆化处理器
+     */
+    public static MemoizingMaskingHandler global(MaskingHandler delegate, int maxSize, long ttlMillis,
+                                                 LongAdder hits, LongAdder misses) {
+        return new MemoizingMaskingHandler(delegate, new ExpiringStore(maxSize, ttlMillis), hits, misses);
+    }
+
+    @Override
+    public String getMaskingValue(String value) {
+        if (value == null) {
+            return delegate.getMaskingValue(null);
+        }
+        return store.get(value, this);
+    }
+
+    public MaskingHandler getDelegate() {
+        return delegate;
+    }
+
+    private String compute(String value) {
+        misses.increment();
+        return delegate.getMaskingValue(value);
+    }
+
+    private interface Store {
+
+        String get(String value, MemoizingMaskingHandler handler);
+    }
+
+    private static final class BoundedStore implements Store {
+
+        private final int maxSize;
+
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+
+        BoundedStore(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public String get(String value, MemoizingMaskingHandler handler) {
+            String masked = values.get(value);
+            if (masked != null) {
+                handler.hits.increment();
+                return masked;
+            }
+            masked = handler.compute(value);
+            if (masked != null && values.size() < maxSize) {
+                String existing = values.putIfAbsent(value, masked);
+                if (existing != null) {
+                    return existing;
+                }
+            }
+            return masked;
+        }
+    }
+
+    private static final class ExpiringStore implements Store {
+
+        private final int maxSize;
+
+        private final long ttlMillis;
+
+        private final Map<String, Entry> values = new ConcurrentHashMap<>();
+
+        private final AtomicLong clock = new AtomicLong();
+
+        ExpiringStore(int maxSize, long ttlMillis) {
+            this.maxSize = maxSize;
+            this.ttlMillis = ttlMillis;
+        }
+
+        @Override
+        public String get(String value, MemoizingMaskingHandler handler) {
+            long now = ttlMillis > 0 ? System.currentTimeMillis() : 0;
+            Entry entry = values.get(value);
+            if (entry != null && (ttlMillis <= 0 || entry.expiresAt > now)) {
+                entry.lastAccess = clock.incrementAndGet();
+                handler.hits.increment();
+                return entry.masked;
+            }
+            String masked = handler.compute(value);
+            if (masked != null) {
+                Entry created = new Entry(masked, ttlMillis > 0 ? now + ttlMillis : Long.MAX_VALUE);
+                created.lastAccess = clock.incrementAndGet();
+                values.put(value, created);
+                if (values.size() > maxSize) {
+                    evict(now);
+                }
+            }
+            return masked;
+        }
+
+        /**
+         * 先清除过期条目，仍超出容量时按最久未访问淘汰至容量的四分之三
+         */
+        private synchronized void evict(long now) {
+            if (values.size() <= maxSize) {
+                return;
+            }
+            if (ttlMillis > 0) {
+                values.values().removeIf(entry -> entry.expiresAt <= now);
+            }
+            int count = values.size() - (maxSize - maxSize / 4);
+            if (count <= 0) {
+                return;
+            }
+            List<Map.Entry<String, Entry>> candidates = new ArrayList<>(values.entrySet());
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess));
+            for (int i = 0; i < count && i < candidates.size(); i++) {
+                Map.Entry<String, Entry> candidate = candidates.get(i);
+                values.remove(candidate.getKey(), candidate.getValue());
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        final String masked;
+
+        final long expiresAt;
+
+        volatile long lastAccess;
+
+        Entry(String masked, long expiresAt) {
+            this.masked = masked;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
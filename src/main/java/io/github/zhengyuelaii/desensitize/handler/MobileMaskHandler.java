@@ -0,0 +1,16 @@
+package io.github.zhengyuelaii.desensitize.handler;
+
+/**
+ * 手机号脱敏处理器：保留前 3 位与后 4 位，如 {@code 138****8000}
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MobileMaskHandler extends AbstractCharMaskingHandler {
+
+    @Override
+    protected String mask(String value) {
+        return keep(value, 3, 4);
+    }
+}
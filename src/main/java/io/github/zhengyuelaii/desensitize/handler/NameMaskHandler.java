@@ -0,0 +1,19 @@
+package io.github.zhengyuelaii.desensitize.handler;
+
+/**
+ * 姓名脱敏处理器：仅保留首字符，如 {@code 李**}
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class NameMaskHandler extends AbstractCharMaskingHandler {
+
+    @Override
+    protected String mask(String value) {
+        if (value.length() == 1) {
+            return value;
+        }
+        return keep(value, 1, 0);
+    }
+}
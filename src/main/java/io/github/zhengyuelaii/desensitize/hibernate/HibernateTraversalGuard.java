@@ -0,0 +1,63 @@
+package io.github.zhengyuelaii.desensitize.hibernate;
+
+import io.github.zhengyuelaii.desensitize.plan.TraversalGuard;
+import org.springframework.util.ClassUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * 跳过 Hibernate 未初始化的延迟加载代理与集合
+ * <p>
+ * 通过 {@code org.hibernate.Hibernate#isInitialized(Object)} 判断，覆盖 {@code HibernateProxy}、
+ * {@code PersistentCollection} 与字节码增强的延迟属性。以反射方式调用，本 starter 不依赖 Hibernate。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class HibernateTraversalGuard implements TraversalGuard {
+
+    /**
+     * Hibernate 工具类
+     */
+    public static final String HIBERNATE_CLASS = "org.hibernate.Hibernate";
+
+    private final MethodHandle isInitialized;
+
+    public HibernateTraversalGuard() {
+        this(ClassUtils.getDefaultClassLoader());
+    }
+
+    /**
+     * @param classLoader 加载 Hibernate 的类加载器
+     * @throws IllegalStateException classpath 中不存在 Hibernate
+     */
+    public HibernateTraversalGuard(ClassLoader classLoader) {
+        try {
+            Class<?> hibernate = ClassUtils.forName(HIBERNATE_CLASS, classLoader);
+            this.isInitialized = MethodHandles.publicLookup().findStatic(hibernate, "isInitialized",
+                    MethodType.methodType(boolean.class, Object.class));
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new IllegalStateException("Hibernate is not available on the classpath", e);
+        }
+    }
+
+    @Override
+    public boolean canTraverse(Object value) {
+        try {
+            return (boolean) isInitialized.invokeExact(value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to check Hibernate initialization state", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HibernateTraversalGuard";
+    }
+}
@@ -0,0 +1,228 @@
+package io.github.zhengyuelaii.desensitize.interceptor;
+
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingContext;
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingOverlay;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.util.Assert;
+
+import java.lang.reflect.Executable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 缓存 preHandle 决策的拦截器包装
+ * <p>
+ * 以请求属性（如请求头、当前用户、租户）计算缓存键，首次调用委托拦截器时记录返回值及其对
+ * {@link ResponseMaskingContext} 的全部修改（含 {@code setCacheVersion}）；同一处理方法下键相同的后续请求直接回放结果，
+ * 不再执行委托拦截器的逻辑。
+ * </p>
+ * <p>
+ * 决策按处理方法与缓存键分别缓存，缓存键需要覆盖委托拦截器决策所依赖的其余信息；键为 null 时不缓存。
+ * 超出容量时先清除过期条目，再按写入顺序淘汰最早的决策。postHandle 与 onException 始终直接调用委托拦截器。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class CachingDesensitizeInterceptor implements EasyDesensitizeInterceptor {
+
+    /**
+     * 默认最大缓存条目数
+     */
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final EasyDesensitizeInterceptor delegate;
+
+    private final Function<? super ServerHttpRequest, ?> keyFunction;
+
+    private final long ttlMillis;
+
+    private final int maxSize;
+
+    private final Map<DecisionKey, Decision> decisions = new ConcurrentHashMap<>();
+
+    /**
+     * 决策写入序号，用于按写入顺序淘汰
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    public CachingDesensitizeInterceptor(EasyDesensitizeInterceptor delegate,
+                                         Function<? super ServerHttpRequest, ?> keyFunction, Duration ttl) {
+        this(delegate, keyFunction, ttl, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param delegate    被包装的拦截器
+     * @param keyFunction 根据请求计算缓存键
+     * @param ttl         决策有效期，null 或非正数表示不过期
+     * @param maxSize     最大缓存条目数
+     */
+    public CachingDesensitizeInterceptor(EasyDesensitizeInterceptor delegate,
+                                         Function<? super ServerHttpRequest, ?> keyFunction, Duration ttl, int maxSize) {
+        Assert.notNull(delegate, "delegate must not be null");
+        Assert.notNull(keyFunction, "keyFunction must not be null");
+        Assert.isTrue(maxSize > 0, "maxSize must be greater than 0");
+        this.delegate = delegate;
+        this.keyFunction = keyFunction;
+        this.ttlMillis = ttl == null || ttl.isNegative() ? 0 : ttl.toMillis();
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public boolean preHandle(Object body, ResponseMaskingContext context, MethodParameter returnType,
+                             ServerHttpRequest request, ServerHttpResponse response) {
+        Object requestKey = keyFunction.apply(request);
+        if (requestKey == null) {
+            return delegate.preHandle(body, context, returnType, request, response);
+        }
+        DecisionKey key = new DecisionKey(returnType, requestKey);
+        long now = ttlMillis > 0 ? System.currentTimeMillis() : 0;
+        Decision decision = decisions.get(key);
+        if (decision != null && (ttlMillis <= 0 || decision.expiresAt > now)) {
+            context.apply(decision.overlay);
+            return decision.proceed;
+        }
+
+        ResponseMaskingOverlay.Recorder recorder = context.startRecording();
+        boolean proceed;
+        try {
+            proceed = delegate.preHandle(body, context, returnType, request, response);
+        } finally {
+            context.stopRecording();
+        }
+        decisions.put(key, new Decision(proceed, recorder.toOverlay(),
+                ttlMillis > 0 ? now + ttlMillis : Long.MAX_VALUE, sequence.incrementAndGet()));
+        if (decisions.size() > maxSize) {
+            evictOverflow(now);
+        }
+        return proceed;
+    }
+
+    @Override
+    public void postHandle(Object body, ResponseMaskingContext context, MethodParameter returnType,
+                           ServerHttpRequest request, ServerHttpResponse response) {
+        delegate.postHandle(body, context, returnType, request, response);
+    }
+
+    @Override
+    public void onException(Exception ex, Object body, MethodParameter returnType, ServerHttpRequest request,
+                            ServerHttpResponse response) {
+        delegate.onException(ex, body, returnType, request, response);
+    }
+
+    /**
+     * 清除指定缓存键在所有处理方法下的决策，如权限变更后调用
+     *
+     * @param key 缓存键
+     */
+    public void evict(Object key) {
+        decisions.keySet().removeIf(candidate -> candidate.requestKey.equals(key));
+    }
+
+    /**
+     * 清除全部缓存决策
+     */
+    public void clear() {
+        decisions.clear();
+    }
+
+    public int size() {
+        return decisions.size();
+    }
+
+    public EasyDesensitizeInterceptor getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 先清除过期条目，仍超出容量时按写入顺序淘汰最早的决策，直至容量的四分之三
+     */
+    private synchronized void evictOverflow(long now) {
+        if (decisions.size() <= maxSize) {
+            return;
+        }
+        if (ttlMillis > 0) {
+            decisions.values().removeIf(decision -> decision.expiresAt <= now);
+        }
+        int overflow = decisions.size() - (maxSize - maxSize / 4);
+        if (overflow <= 0) {
+            return;
+        }
+        List<Map.Entry<DecisionKey, Decision>> entries = new ArrayList<>(decisions.entrySet());
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue().sequence));
+        for (int i = 0; i < overflow && i < entries.size(); i++) {
+            Map.Entry<DecisionKey, Decision> entry = entries.get(i);
+            // 只移除快照中的决策，不影响期间重新写入的同键决策
+            decisions.remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CachingDesensitizeInterceptor{delegate=" + delegate + ", ttlMillis=" + ttlMillis + '}';
+    }
+
+    /**
+     * 处理方法与缓存键：不同接口的拦截器决策（如按方法注解调整规则）互不影响
+     */
+    private static final class DecisionKey {
+
+        private final Class<?> containingClass;
+
+        private final Executable method;
+
+        private final Object requestKey;
+
+        DecisionKey(MethodParameter returnType, Object requestKey) {
+            this.containingClass = returnType != null ? returnType.getContainingClass() : null;
+            this.method = returnType != null ? returnType.getExecutable() : null;
+            this.requestKey = requestKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof DecisionKey)) {
+                return false;
+            }
+            DecisionKey other = (DecisionKey) o;
+            return containingClass == other.containingClass && Objects.equals(method, other.method)
+                    && requestKey.equals(other.requestKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(containingClass, method, requestKey);
+        }
+    }
+
+    private static final class Decision {
+
+        private final boolean proceed;
+
+        private final ResponseMaskingOverlay overlay;
+
+        private final long expiresAt;
+
+        private final long sequence;
+
+        Decision(boolean proceed, ResponseMaskingOverlay overlay, long expiresAt, long sequence) {
+            this.proceed = proceed;
+            this.overlay = overlay;
+            this.expiresAt = expiresAt;
+            this.sequence = sequence;
+        }
+    }
+}
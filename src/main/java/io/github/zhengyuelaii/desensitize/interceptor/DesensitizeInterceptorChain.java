@@ -6,10 +6,16 @@ import org.springframework.core.MethodParameter;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * 脱敏拦截器链
+ * <p>
+ * 构建时按拦截器实际覆盖的方法拆分为 preHandle / postHandle / onException 三组，
+ * 未被任何拦截器实现的阶段直接跳过；仅含一个拦截器的阶段走单独的调用点。
+ * </p>
  *
  * @author zhengyuelaii
  * @version 1.0.0
@@ -17,19 +23,97 @@ import java.util.List;
  */
 public class DesensitizeInterceptorChain {
 
+    private static final EasyDesensitizeInterceptor[] NONE = new EasyDesensitizeInterceptor[0];
+
+    /**
+     * 共享的空拦截器链
+     */
+    public static final DesensitizeInterceptorChain EMPTY = new DesensitizeInterceptorChain(Collections.emptyList());
+
     private final List<EasyDesensitizeInterceptor> interceptors;
 
+    private final EasyDesensitizeInterceptor[] preHandlers;
+
+    private final EasyDesensitizeInterceptor[] postHandlers;
+
+    private final EasyDesensitizeInterceptor[] exceptionHandlers;
+
     public DesensitizeInterceptorChain(List<EasyDesensitizeInterceptor> interceptors) {
         this.interceptors = interceptors;
+        if (interceptors == null || interceptors.isEmpty()) {
+            this.preHandlers = NONE;
+            this.postHandlers = NONE;
+            this.exceptionHandlers = NONE;
+            return;
+        }
+        List<EasyDesensitizeInterceptor> pre = new ArrayList<>(interceptors.size());
+        List<EasyDesensitizeInterceptor> post = new ArrayList<>(interceptors.size());
+        List<EasyDesensitizeInterceptor> exception = new ArrayList<>(interceptors.size());
+        for (EasyDesensitizeInterceptor interceptor : interceptors) {
+            int phases = InterceptorPhases.of(interceptor);
+            if ((phases & InterceptorPhases.PRE_HANDLE) != 0) {
+                pre.add(interceptor);
+            }
+            if ((phases & InterceptorPhases.POST_HANDLE) != 0) {
+                post.add(interceptor);
+            }
+            if ((phases & InterceptorPhases.ON_EXCEPTION) != 0) {
+                exception.add(interceptor);
+            }
+        }
+        this.preHandlers = toArray(pre);
+        this.postHandlers = toArray(post);
+        this.exceptionHandlers = toArray(exception);
+    }
+
+    /**
+     * 构建拦截器链，无拦截器时返回 {@link #EMPTY}
+     *
+     * @param interceptors 按顺序排列的拦截器
+     * @return 拦截器链
+     */
+    public static DesensitizeInterceptorChain of(List<EasyDesensitizeInterceptor> interceptors) {
+        return interceptors == null || interceptors.isEmpty() ? EMPTY : new DesensitizeInterceptorChain(interceptors);
+    }
+
+    /**
+     * 当前请求路径是否未匹配任何拦截器
+     *
+     * @return 无拦截器时返回 true
+     */
+    public boolean isEmpty() {
+        return interceptors == null || interceptors.isEmpty();
+    }
+
+    /**
+     * 是否存在实现了 postHandle 的拦截器
+     *
+     * @return 存在时返回 true
+     */
+    public boolean hasPostHandlers() {
+        return postHandlers.length > 0;
+    }
+
+    /**
+     * 是否存在实现了 onException 的拦截器
+     *
+     * @return 存在时返回 true
+     */
+    public boolean hasExceptionHandlers() {
+        return exceptionHandlers.length > 0;
     }
 
     public boolean preHandle(Object body, ResponseMaskingContext context, MethodParameter returnType, ServerHttpRequest request,
                              ServerHttpResponse response) {
+        EasyDesensitizeInterceptor[] handlers = this.preHandlers;
         // 未定义任何拦截器，默认脱敏
-        if (interceptors == null || interceptors.isEmpty()) {
+        if (handlers.length == 0) {
             return true;
         }
-        for (EasyDesensitizeInterceptor interceptor : interceptors) {
+        if (handlers.length == 1) {
+            return handlers[0].preHandle(body, context, returnType, request, response);
+        }
+        for (EasyDesensitizeInterceptor interceptor : handlers) {
             if (!interceptor.preHandle(body, context, returnType, request, response)) {
                 return false;
             }
@@ -39,9 +123,15 @@ public class DesensitizeInterceptorChain {
 
     public void postHandle(Object body, ResponseMaskingContext context, MethodParameter returnType, ServerHttpRequest request,
                            ServerHttpResponse response) {
-        if (interceptors == null || interceptors.isEmpty())
+        EasyDesensitizeInterceptor[] handlers = this.postHandlers;
+        if (handlers.length == 0) {
             return;
-        for (EasyDesensitizeInterceptor interceptor : interceptors) {
+        }
+        if (handlers.length == 1) {
+            handlers[0].postHandle(body, context, returnType, request, response);
+            return;
+        }
+        for (EasyDesensitizeInterceptor interceptor : handlers) {
             interceptor.postHandle(body, context, returnType, request, response);
         }
     }
@@ -52,10 +142,20 @@ public class DesensitizeInterceptorChain {
             MethodParameter returnType,
             ServerHttpRequest request,
             ServerHttpResponse response) {
-        if (interceptors == null || interceptors.isEmpty())
+        EasyDesensitizeInterceptor[] handlers = this.exceptionHandlers;
+        if (handlers.length == 0) {
             return;
-        for (EasyDesensitizeInterceptor interceptor : interceptors) {
+        }
+        if (handlers.length == 1) {
+            handlers[0].onException(ex, body, returnType, request, response);
+            return;
+        }
+        for (EasyDesensitizeInterceptor interceptor : handlers) {
             interceptor.onException(ex, body, returnType, request, response);
         }
     }
+
+    private static EasyDesensitizeInterceptor[] toArray(List<EasyDesensitizeInterceptor> interceptors) {
+        return interceptors.isEmpty() ? NONE : interceptors.toArray(NONE);
+    }
 }
@@ -0,0 +1,174 @@
+package io.github.zhengyuelaii.desensitize.interceptor;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 脱敏拦截器链解析器
+ * <p>
+ * 启动完成后将 {@link DesensitizeInterceptorRegistry} 冻结为按路径分段索引的前缀树：
+ * 每个拦截器按其路径模式中不含通配符的前缀挂载到对应节点，请求时仅沿请求路径的分段
+ * 收集候选拦截器，再对候选项执行完整的路径匹配。解析出的拦截器链按请求路径缓存（LRU）。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class DesensitizeInterceptorChainResolver implements SmartInitializingSingleton {
+
+    private static final String PATH_SEPARATOR = "/";
+
+    private final DesensitizeInterceptorRegistry registry;
+
+    private final int cacheSize;
+
+    private volatile CompiledIndex index;
+
+    public DesensitizeInterceptorChainResolver(DesensitizeInterceptorRegistry registry, int cacheSize) {
+        this.registry = registry;
+        this.cacheSize = cacheSize;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        getIndex();
+    }
+
+    /**
+     * 获取与请求路径匹配的拦截器链
+     *
+     * @param path 请求路径
+     * @return 按 order 排序的拦截器链，无匹配时返回共享的空链
+     */
+    public DesensitizeInterceptorChain getChain(String path) {
+        CompiledIndex index = getIndex();
+        if (index.registrations.length == 0) {
+            return DesensitizeInterceptorChain.EMPTY;
+        }
+        if (index.cache == null) {
+            return index.buildChain(path);
+        }
+        return index.cache.get(path);
+    }
+
+    /**
+     * 丢弃已编译的索引与缓存，下次请求时根据注册表重新编译
+     */
+    public void reset() {
+        this.index = null;
+    }
+
+    private CompiledIndex getIndex() {
+        CompiledIndex index = this.index;
+        if (index == null) {
+            synchronized (this) {
+                index = this.index;
+                if (index == null) {
+                    index = new CompiledIndex(registry.getRegistrations(), cacheSize);
+                    this.index = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 冻结后的拦截器索引
+     */
+    private static final class CompiledIndex {
+
+        private final DesensitizeInterceptorRegistration[] registrations;
+
+        private final PathNode root = new PathNode();
+
+        private final ConcurrentLruCache<String, DesensitizeInterceptorChain> cache;
+
+        CompiledIndex(List<DesensitizeInterceptorRegistration> source, int cacheSize) {
+            List<DesensitizeInterceptorRegistration> sorted = new ArrayList<>(source);
+            sorted.sort(Comparator.comparingInt(DesensitizeInterceptorRegistration::getOrder));
+            this.registrations = sorted.toArray(new DesensitizeInterceptorRegistration[0]);
+
+            for (int i = 0; i < registrations.length; i++) {
+                List<String> patterns = registrations[i].getIncludePatterns();
+                if (patterns.isEmpty()) {
+                    // 无法按前缀定位，交由完整匹配判断
+                    root.add(i);
+                }
+                for (String pattern : patterns) {
+                    PathNode node = root;
+                    for (String segment : StringUtils.tokenizeToStringArray(pattern, PATH_SEPARATOR)) {
+                        if (isWildcard(segment)) {
+                            break;
+                        }
+                        node = node.child(segment);
+                    }
+                    node.add(i);
+                }
+            }
+            this.cache = cacheSize > 0 ? new ConcurrentLruCache<>(cacheSize, this::buildChain) : null;
+        }
+
+        DesensitizeInterceptorChain buildChain(String path) {
+            boolean[] candidates = new boolean[registrations.length];
+            PathNode node = root;
+            node.mark(candidates);
+            for (String segment : StringUtils.tokenizeToStringArray(path, PATH_SEPARATOR)) {
+                node = node.children.get(segment);
+                if (node == null) {
+                    break;
+                }
+                node.mark(candidates);
+            }
+
+            List<EasyDesensitizeInterceptor> matched = null;
+            for (int i = 0; i < registrations.length; i++) {
+                if (candidates[i] && registrations[i].match(path)) {
+                    if (matched == null) {
+                        matched = new ArrayList<>();
+                    }
+                    matched.add(registrations[i].getInterceptor());
+                }
+            }
+            return DesensitizeInterceptorChain.of(matched);
+        }
+
+        private static boolean isWildcard(String segment) {
+            return segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0;
+        }
+    }
+
+    /**
+     * 路径前缀树节点
+     */
+    private static final class PathNode {
+
+        private final Map<String, PathNode> children = new HashMap<>();
+
+        private int[] registrationIndexes = new int[0];
+
+        PathNode child(String segment) {
+            return children.computeIfAbsent(segment, s -> new PathNode());
+        }
+
+        void add(int registrationIndex) {
+            int[] expanded = new int[registrationIndexes.length + 1];
+            System.arraycopy(registrationIndexes, 0, expanded, 0, registrationIndexes.length);
+            expanded[registrationIndexes.length] = registrationIndex;
+            registrationIndexes = expanded;
+        }
+
+        void mark(boolean[] candidates) {
+            for (int index : registrationIndexes) {
+                candidates[index] = true;
+            }
+        }
+    }
+}
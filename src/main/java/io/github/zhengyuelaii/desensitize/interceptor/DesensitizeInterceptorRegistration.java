@@ -1,11 +1,14 @@
 package io.github.zhengyuelaii.desensitize.interceptor;
 
+import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.util.PathMatcher;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * 脱敏拦截器注册包装
@@ -18,7 +21,7 @@ public class DesensitizeInterceptorRegistration {
 
     private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
 
-    private final EasyDesensitizeInterceptor interceptor;
+    private EasyDesensitizeInterceptor interceptor;
 
     private final List<String> includePatterns = new ArrayList<>();
     private final List<String> excludePatterns = new ArrayList<>();
@@ -44,9 +47,43 @@ public class DesensitizeInterceptorRegistration {
         return this;
     }
 
+    /**
+     * 按请求属性缓存拦截器的 preHandle 决策及其对脱敏上下文的修改
+     *
+     * @param keyFunction 根据请求计算缓存键，返回 null 时不缓存
+     * @param ttl         决策有效期
+     * @return 当前注册
+     * @see CachingDesensitizeInterceptor
+     */
+    public DesensitizeInterceptorRegistration cacheBy(Function<? super ServerHttpRequest, ?> keyFunction, Duration ttl) {
+        return cacheBy(keyFunction, ttl, CachingDesensitizeInterceptor.DEFAULT_MAX_SIZE);
+    }
+
+    public DesensitizeInterceptorRegistration cacheBy(Function<? super ServerHttpRequest, ?> keyFunction, Duration ttl,
+                                                      int maxSize) {
+        EasyDesensitizeInterceptor target = interceptor instanceof CachingDesensitizeInterceptor
+                ? ((CachingDesensitizeInterceptor) interceptor).getDelegate() : interceptor;
+        this.interceptor = new CachingDesensitizeInterceptor(target, keyFunction, ttl, maxSize);
+        return this;
+    }
+
     public boolean match(String path) {
-        return includePatterns.stream().anyMatch(p -> PATH_MATCHER.match(p, path))
-                && excludePatterns.stream().noneMatch(p -> PATH_MATCHER.match(p, path));
+        boolean included = false;
+        for (String pattern : includePatterns) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                included = true;
+                break;
+            }
+        }
+        if (!included) {
+            return false;
+        }
+        for (String pattern : excludePatterns) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public EasyDesensitizeInterceptor getInterceptor() {
@@ -0,0 +1,75 @@
+package io.github.zhengyuelaii.desensitize.interceptor;
+
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * 拦截器阶段分类
+ * <p>
+ * 通过反射判断拦截器实现类覆盖了 {@link EasyDesensitizeInterceptor} 的哪些默认方法，
+ * 未覆盖的阶段在构建拦截器链时直接剔除。结果按实现类缓存。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+final class InterceptorPhases {
+
+    static final int PRE_HANDLE = 1;
+
+    static final int POST_HANDLE = 1 << 1;
+
+    static final int ON_EXCEPTION = 1 << 2;
+
+    static final int ALL = PRE_HANDLE | POST_HANDLE | ON_EXCEPTION;
+
+    private static final Map<Class<?>, Integer> CACHE = new ConcurrentReferenceHashMap<>();
+
+    private InterceptorPhases() {
+    }
+
+    /**
+     * 获取拦截器实际实现的阶段
+     *
+     * @param interceptor 拦截器
+     * @return 阶段位掩码
+     */
+    static int of(EasyDesensitizeInterceptor interceptor) {
+        if (interceptor instanceof CachingDesensitizeInterceptor) {
+            // 包装器总是参与 preHandle，其余阶段取决于被包装的拦截器
+            return of(((CachingDesensitizeInterceptor) interceptor).getDelegate()) | PRE_HANDLE;
+        }
+        return CACHE.computeIfAbsent(interceptor.getClass(), InterceptorPhases::introspect);
+    }
+
+    private static int introspect(Class<?> type) {
+        int phases = 0;
+        if (overrides(type, "preHandle", Object.class, ResponseMaskingContext.class, MethodParameter.class,
+                ServerHttpRequest.class, ServerHttpResponse.class)) {
+            phases |= PRE_HANDLE;
+        }
+        if (overrides(type, "postHandle", Object.class, ResponseMaskingContext.class, MethodParameter.class,
+                ServerHttpRequest.class, ServerHttpResponse.class)) {
+            phases |= POST_HANDLE;
+        }
+        if (overrides(type, "onException", Exception.class, Object.class, MethodParameter.class,
+                ServerHttpRequest.class, ServerHttpResponse.class)) {
+            phases |= ON_EXCEPTION;
+        }
+        return phases;
+    }
+
+    private static boolean overrides(Class<?> type, String name, Class<?>... parameterTypes) {
+        Method method = ReflectionUtils.findMethod(type, name, parameterTypes);
+        // 无法确定时（如代理类）视为已覆盖，保证行为不变
+        return method == null || method.getDeclaringClass() != EasyDesensitizeInterceptor.class;
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.zhengyuelaii.desensitize.jackson;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import io.github.zhengyuelaii.desensitize.plan.SerializedPropertyResolver;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 基于 {@link ObjectMapper} 的序列化属性解析
+ * <p>
+ * 使用与响应写出相同的 {@link SerializationConfig} 内省 {@link BeanDescription}，
+ * 排除 {@code @JsonIgnore}、{@code @JsonIgnoreProperties}、{@code transient} 以及不在当前 {@code @JsonView} 中的属性。
+ * 类型声明了自定义序列化器、{@code @JsonValue} 或方法形式的 {@code @JsonAnyGetter}，
+ * 或存在找不到同名字段的 getter 属性时无法确定输出，返回 null。
+ * 结果按（类型，视图）缓存。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class JacksonSerializedPropertyResolver implements SerializedPropertyResolver {
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<Class<?>, Map<Class<?>, Optional<Set<String>>>> cache = new ConcurrentReferenceHashMap<>();
+
+    public JacksonSerializedPropertyResolver(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Set<String> getSerializedFields(Class<?> type, Class<?> view) {
+        Map<Class<?>, Optional<Set<String>>> views = cache.computeIfAbsent(type,
+                key -> new ConcurrentReferenceHashMap<>(4));
+        // 未指定视图时以 Object.class 作为键
+        return views.computeIfAbsent(view != null ? view : Object.class,
+                key -> Optional.ofNullable(resolve(type, view))).orElse(null);
+    }
+
+    private Set<String> resolve(Class<?> type, Class<?> view) {
+        SerializationConfig config = objectMapper.getSerializationConfig();
+        if (view != null) {
+            config = config.withView(view);
+        }
+        BeanDescription description;
+        try {
+            description = config.introspect(config.constructType(type));
+        } catch (RuntimeException e) {
+            return null;
+        }
+        if (config.getAnnotationIntrospector().findSerializer(description.getClassInfo()) != null
+                || description.findJsonValueAccessor() != null) {
+            return null;
+        }
+        AnnotatedMember anyGetter = description.findAnyGetter();
+        Set<String> fields = new HashSet<>();
+        if (anyGetter != null) {
+            if (anyGetter.getMember() instanceof java.lang.reflect.Method) {
+                return null;
+            }
+            fields.add(anyGetter.getName());
+        }
+
+        JsonIgnoreProperties.Value ignorals = config.getDefaultPropertyIgnorals(type, description.getClassInfo());
+        Set<String> ignored = ignorals != null ? ignorals.findIgnoredForSerialization() : Collections.emptySet();
+        boolean defaultViewInclusion = config.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION);
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            if (!property.couldSerialize() || ignored.contains(property.getName())) {
+                continue;
+            }
+            if (view != null && !isInView(property.findViews(), view, defaultViewInclusion)) {
+                continue;
+            }
+            if (property.hasField()) {
+                fields.add(property.getField().getName());
+                continue;
+            }
+            // 仅有 getter 时按内部名称（去掉 get/is 前缀）对应字段，找不到对应字段时无法确定 getter 读取了哪些字段
+            if (ReflectionUtils.findField(type, property.getInternalName()) == null) {
+                return null;
+            }
+            fields.add(property.getInternalName());
+        }
+        return Collections.unmodifiableSet(fields);
+    }
+
+    private static boolean isInView(Class<?>[] views, Class<?> activeView, boolean defaultViewInclusion) {
+        if (views == null) {
+            return defaultViewInclusion;
+        }
+        for (Class<?> candidate : views) {
+            if (candidate.isAssignableFrom(activeView)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.zhengyuelaii.desensitize.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+
+/**
+ * 序列化时脱敏的 String 属性写出器
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MaskingBeanPropertyWriter extends BeanPropertyWriter {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String fieldName;
+
+    private final transient MaskingHandler annotationHandler;
+
+    public MaskingBeanPropertyWriter(BeanPropertyWriter base, String fieldName, MaskingHandler annotationHandler) {
+        super(base);
+        this.fieldName = fieldName;
+        this.annotationHandler = annotationHandler;
+    }
+
+    @Override
+    public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+        String masked = mask(bean, gen, prov);
+        if (masked == null) {
+            super.serializeAsField(bean, gen, prov);
+            return;
+        }
+        gen.writeFieldName(_name);
+        gen.writeString(masked);
+    }
+
+    @Override
+    public void serializeAsElement(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+        String masked = mask(bean, gen, prov);
+        if (masked == null) {
+            super.serializeAsElement(bean, gen, prov);
+            return;
+        }
+        gen.writeString(masked);
+    }
+
+    private String mask(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+        MaskingSerializationContext context = MaskingSerializationContext.current(prov, gen, bean);
+        if (context == null) {
+            return null;
+        }
+        MaskingHandler handler = context.getHandler(fieldName, annotationHandler);
+        if (handler == null) {
+            return null;
+        }
+        Object value = get(bean);
+        // 与核心库一致，空字符串同样交给处理器
+        if (!(value instanceof String)) {
+            return null;
+        }
+        return handler.getMaskingValue((String) value);
+    }
+}
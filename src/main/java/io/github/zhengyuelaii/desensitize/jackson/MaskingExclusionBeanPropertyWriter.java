@@ -0,0 +1,50 @@
+package io.github.zhengyuelaii.desensitize.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+
+/**
+ * 对象类型属性的写出器
+ * <p>
+ * 属性名称被排除时，序列化其整个子树期间不脱敏，与反射模式跳过被排除字段的子树保持一致。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MaskingExclusionBeanPropertyWriter extends BeanPropertyWriter {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String fieldName;
+
+    public MaskingExclusionBeanPropertyWriter(BeanPropertyWriter base, String fieldName) {
+        super(base);
+        this.fieldName = fieldName;
+    }
+
+    @Override
+    public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+        if (isExcluded(bean, gen, prov)) {
+            MaskingSerializationContext.suppress(prov, () -> super.serializeAsField(bean, gen, prov));
+            return;
+        }
+        super.serializeAsField(bean, gen, prov);
+    }
+
+    @Override
+    public void serializeAsElement(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+        if (isExcluded(bean, gen, prov)) {
+            MaskingSerializationContext.suppress(prov, () -> super.serializeAsElement(bean, gen, prov));
+            return;
+        }
+        super.serializeAsElement(bean, gen, prov);
+    }
+
+    private boolean isExcluded(Object bean, JsonGenerator gen, SerializerProvider prov) {
+        MaskingSerializationContext context = MaskingSerializationContext.current(prov, gen, bean);
+        return context != null && context.isExcluded(fieldName);
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.zhengyuelaii.desensitize.jackson;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * 序列化脱敏 Jackson 模块
+ * <p>
+ * {@code easy.desensitize.mode=SERIALIZER} 时自动注册到 Spring Boot 管理的 ObjectMapper；
+ * 使用自定义 ObjectMapper 时需手动注册。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MaskingJacksonModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    public MaskingJacksonModule() {
+        super("EasyDesensitizeMaskingModule");
+        setSerializerModifier(new MaskingSerializerModifier());
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.zhengyuelaii.desensitize.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 序列化时按键名脱敏的 Map 序列化器
+ * <p>
+ * 仅当当前请求开启脱敏且 Map 中存在需要脱敏或被排除的键时才接管写出，否则完全委托原序列化器。
+ * 被排除的键对应的值整个子树都不脱敏。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MaskingMapSerializer extends StdSerializer<Map<?, ?>> implements ContextualSerializer, ResolvableSerializer {
+
+    private static final long serialVersionUID = 1L;
+
+    private final JsonSerializer<Object> delegate;
+
+    @SuppressWarnings("unchecked")
+    public MaskingMapSerializer(JsonSerializer<?> delegate) {
+        super(Map.class, false);
+        this.delegate = (JsonSerializer<Object>) delegate;
+    }
+
+    @Override
+    public void serialize(Map<?, ?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        MaskingSerializationContext context = MaskingSerializationContext.current(provider, gen, value);
+        if (context == null || (!context.hasMaskedKey(value) && !context.hasExcludedKey(value))) {
+            delegate.serialize(value, gen, provider);
+            return;
+        }
+        gen.writeStartObject(value);
+        for (Map.Entry<?, ?> entry : value.entrySet()) {
+            String name = String.valueOf(entry.getKey());
+            Object fieldValue = entry.getValue();
+            MaskingHandler handler = fieldValue instanceof String && entry.getKey() instanceof String
+                    ? context.getHandler(name, null) : null;
+            if (handler != null) {
+                gen.writeStringField(name, handler.getMaskingValue((String) fieldValue));
+            } else if (entry.getKey() instanceof String && context.isExcluded(name)) {
+                MaskingSerializationContext.suppress(provider,
+                        () -> provider.defaultSerializeField(name, fieldValue, gen));
+            } else {
+                provider.defaultSerializeField(name, fieldValue, gen);
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(Map<?, ?> value, JsonGenerator gen, SerializerProvider provider,
+                                  TypeSerializer typeSer) throws IOException {
+        delegate.serializeWithType(value, gen, provider, typeSer);
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider provider, Map<?, ?> value) {
+        return delegate.isEmpty(provider, value);
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
+            throws JsonMappingException {
+        JsonSerializer<?> contextual = prov.handleSecondaryContextualization(delegate, property);
+        return contextual == delegate ? this : new MaskingMapSerializer(contextual);
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (delegate instanceof ResolvableSerializer) {
+            ((ResolvableSerializer) delegate).resolve(provider);
+        }
+    }
+}
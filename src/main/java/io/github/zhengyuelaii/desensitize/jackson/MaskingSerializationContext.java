@@ -0,0 +1,252 @@
+package io.github.zhengyuelaii.desensitize.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingContext;
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+import io.github.zhengyuelaii.desensitize.handler.MaskingHandlerDecorator;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 序列化阶段的脱敏上下文
+ * <p>
+ * 由 {@code EasyDesensitizeResponseAdvice} 在写出响应前绑定到当前请求属性中，
+ * 序列化时由 {@link MaskingBeanPropertyWriter}、{@link MaskingMapSerializer} 读取。
+ * 只有根对象为绑定的响应体的序列化才会使用，首次使用时移除请求属性，并通过 {@link SerializerProvider}
+ * 的调用级属性缓存到本次序列化结束，同一请求中之后的序列化（如错误响应、审计日志）不受影响。
+ * </p>
+ * <p>
+ * 被排除的字段整个子树都不脱敏，与反射模式一致：序列化被排除的对象或 Map 属性期间，{@link #current} 返回 null。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class MaskingSerializationContext {
+
+    public static final String ATTRIBUTE = MaskingSerializationContext.class.getName();
+
+    /**
+     * 调用级属性：正在序列化被排除字段的子树
+     */
+    private static final String SUPPRESSED = ATTRIBUTE + ".SUPPRESSED";
+
+    private static final MaskingSerializationContext NONE =
+            new MaskingSerializationContext(Collections.emptyMap(), Collections.emptySet(), null);
+
+    private final Map<String, MaskingHandler> handlers;
+
+    private final Set<String> excludedFields;
+
+    private final MaskingHandlerDecorator decorator;
+
+    /**
+     * 绑定的响应体，为 null 时不限制序列化的根对象
+     */
+    private final Object body;
+
+    public MaskingSerializationContext(Map<String, MaskingHandler> handlers, Set<String> excludedFields) {
+        this(handlers, excludedFields, null);
+    }
+
+    public MaskingSerializationContext(Map<String, MaskingHandler> handlers, Set<String> excludedFields,
+                                       MaskingHandlerDecorator decorator) {
+        this(handlers, excludedFields, decorator, null);
+    }
+
+    public MaskingSerializationContext(Map<String, MaskingHandler> handlers, Set<String> excludedFields,
+                                       MaskingHandlerDecorator decorator, Object body) {
+        this.handlers = handlers;
+        this.excludedFields = excludedFields;
+        this.decorator = decorator;
+        this.body = body;
+    }
+
+    /**
+     * 将脱敏上下文绑定到当前请求
+     *
+     * @param request 当前请求
+     * @param context 请求级脱敏上下文
+     */
+    public static void bind(ServerHttpRequest request, ResponseMaskingContext context) {
+        bind(request, context, null);
+    }
+
+    /**
+     * 将脱敏上下文绑定到当前请求
+     *
+     * @param request   当前请求
+     * @param context   请求级脱敏上下文
+     * @param decorator 处理器装饰器，可为 null
+     */
+    public static void bind(ServerHttpRequest request, ResponseMaskingContext context,
+                            MaskingHandlerDecorator decorator) {
+        bind(request, context, null, decorator);
+    }
+
+    /**
+     * 将脱敏上下文绑定到当前请求，仅用于序列化该响应体
+     *
+     * @param request   当前请求
+     * @param context   请求级脱敏上下文
+     * @param body      响应体，为 null 时由本次请求中第一次使用的序列化消费
+     * @param decorator 处理器装饰器，可为 null
+     */
+    public static void bind(ServerHttpRequest request, ResponseMaskingContext context, Object body,
+                            MaskingHandlerDecorator decorator) {
+        MaskingSerializationContext snapshot = new MaskingSerializationContext(
+                context.getEffectiveHandlers(), context.getEffectiveExcludedFields(), decorator, body);
+        if (request instanceof ServletServerHttpRequest) {
+            ((ServletServerHttpRequest) request).getServletRequest().setAttribute(ATTRIBUTE, snapshot);
+            return;
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(ATTRIBUTE, snapshot, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * 获取当前序列化对应的脱敏上下文
+     *
+     * @param provider 序列化上下文
+     * @param gen      当前的 JSON 生成器，用于确定本次序列化的根对象
+     * @param value    正在序列化的对象，生成器尚未写出任何结构时即为根对象
+     * @return 脱敏上下文，当前请求未开启脱敏、本次序列化不是绑定的响应体或位于被排除的子树中时返回 null
+     */
+    public static MaskingSerializationContext current(SerializerProvider provider, JsonGenerator gen, Object value) {
+        if (provider.getAttribute(SUPPRESSED) != null) {
+            return null;
+        }
+        Object cached = provider.getAttribute(ATTRIBUTE);
+        if (cached == null) {
+            cached = NONE;
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            Object bound = attributes != null
+                    ? attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) : null;
+            if (bound instanceof MaskingSerializationContext
+                    && ((MaskingSerializationContext) bound).isRoot(gen, value)) {
+                // 绑定只用于一次序列化
+                attributes.removeAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+                cached = bound;
+            }
+            provider.setAttribute(ATTRIBUTE, cached);
+        }
+        return cached == NONE ? null : (MaskingSerializationContext) cached;
+    }
+
+    /**
+     * 本次序列化的根对象是否为绑定的响应体；序列化器未记录根对象时按是处理，避免漏脱敏
+     */
+    private boolean isRoot(JsonGenerator gen, Object value) {
+        if (body == null) {
+            return true;
+        }
+        JsonStreamContext context = gen.getOutputContext();
+        if (context.inRoot()) {
+            return value == body;
+        }
+        while (!context.getParent().inRoot()) {
+            context = context.getParent();
+        }
+        Object root = context.getCurrentValue();
+        return root == null || root == body;
+    }
+
+    /**
+     * 在被排除字段的子树内执行序列化，期间不脱敏
+     *
+     * @param provider 序列化上下文
+     * @param action   序列化操作
+     * @param <E>      序列化异常类型
+     * @throws E 序列化异常
+     */
+    public static <E extends Exception> void suppress(SerializerProvider provider, SerializeAction<E> action)
+            throws E {
+        Object previous = provider.getAttribute(SUPPRESSED);
+        provider.setAttribute(SUPPRESSED, Boolean.TRUE);
+        try {
+            action.run();
+        } finally {
+            provider.setAttribute(SUPPRESSED, previous);
+        }
+    }
+
+    /**
+     * 字段是否被排除
+     *
+     * @param field 字段名称
+     * @return 被排除时返回 true
+     */
+    public boolean isExcluded(String field) {
+        return excludedFields.contains(field);
+    }
+
+    /**
+     * 获取字段生效的脱敏处理器
+     *
+     * @param field             字段名称
+     * @param annotationHandler 字段上 {@code @MaskingField} 声明的处理器，可为 null
+     * @return 生效的处理器，字段被排除或无规则时返回 null
+     */
+    public MaskingHandler getHandler(String field, MaskingHandler annotationHandler) {
+        if (excludedFields.contains(field)) {
+            return null;
+        }
+        MaskingHandler handler = handlers.get(field);
+        if (handler == null) {
+            handler = annotationHandler;
+        }
+        return handler != null && decorator != null ? decorator.decorate(field, handler) : handler;
+    }
+
+    /**
+     * Map 中是否存在需要按名称脱敏的键
+     *
+     * @param map 待序列化的 Map
+     * @return 存在时返回 true
+     */
+    public boolean hasMaskedKey(Map<?, ?> map) {
+        for (String field : handlers.keySet()) {
+            if (map.containsKey(field) && !excludedFields.contains(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Map 中是否存在被排除的键
+     *
+     * @param map 待序列化的 Map
+     * @return 存在时返回 true
+     */
+    public boolean hasExcludedKey(Map<?, ?> map) {
+        for (String field : excludedFields) {
+            if (map.containsKey(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 序列化操作
+     *
+     * @param <E> 序列化异常类型
+     */
+    @FunctionalInterface
+    public interface SerializeAction<E extends Exception> {
+
+        void run() throws E;
+    }
+}
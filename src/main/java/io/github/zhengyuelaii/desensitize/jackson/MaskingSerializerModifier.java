@@ -0,0 +1,84 @@
+package io.github.zhengyuelaii.desensitize.jackson;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.type.MapType;
+import io.github.zhengyuelaii.desensitize.core.annotation.MaskingField;
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandlerFactory;
+import org.springframework.util.ClassUtils;
+
+import java.time.temporal.Temporal;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 序列化脱敏修改器
+ * <p>
+ * 将 String 类型的属性写出器替换为 {@link MaskingBeanPropertyWriter}，对象类型的属性写出器替换为
+ * {@link MaskingExclusionBeanPropertyWriter}，并为 Map 序列化器包装 {@link MaskingMapSerializer}。字段规则按 Java 字段名匹配，与反射模式保持一致。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MaskingSerializerModifier extends BeanSerializerModifier {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                                                     List<BeanPropertyWriter> beanProperties) {
+        Map<String, BeanPropertyDefinition> definitions = null;
+        for (int i = 0; i < beanProperties.size(); i++) {
+            BeanPropertyWriter writer = beanProperties.get(i);
+            boolean string = writer.getType().hasRawClass(String.class);
+            if (!string && isScalar(writer.getType().getRawClass())) {
+                continue;
+            }
+            if (definitions == null) {
+                definitions = new HashMap<>();
+                for (BeanPropertyDefinition definition : beanDesc.findProperties()) {
+                    definitions.put(definition.getName(), definition);
+                }
+            }
+            BeanPropertyDefinition definition = definitions.get(writer.getName());
+            String fieldName = definition != null ? definition.getInternalName() : writer.getName();
+            if (!string) {
+                beanProperties.set(i, new MaskingExclusionBeanPropertyWriter(writer, fieldName));
+                continue;
+            }
+            MaskingHandler annotationHandler = null;
+            if (definition != null && definition.hasField()) {
+                MaskingField maskingField = definition.getField().getAnnotated().getAnnotation(MaskingField.class);
+                if (maskingField != null) {
+                    annotationHandler = MaskingHandlerFactory.getHandler(maskingField.typeHandler());
+                }
+            }
+            beanProperties.set(i, new MaskingBeanPropertyWriter(writer, fieldName, annotationHandler));
+        }
+        return beanProperties;
+    }
+
+    /**
+     * 不会包含 String 字段的类型，无需处理排除
+     */
+    private static boolean isScalar(Class<?> type) {
+        return ClassUtils.isPrimitiveOrWrapper(type) || type.isEnum() || Number.class.isAssignableFrom(type)
+                || CharSequence.class.isAssignableFrom(type) || Temporal.class.isAssignableFrom(type)
+                || Date.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public JsonSerializer<?> modifyMapSerializer(SerializationConfig config, MapType valueType,
+                                                 BeanDescription beanDesc, JsonSerializer<?> serializer) {
+        return new MaskingMapSerializer(serializer);
+    }
+}
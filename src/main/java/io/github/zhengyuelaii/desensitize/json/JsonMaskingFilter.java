@@ -0,0 +1,463 @@
+package io.github.zhengyuelaii.desensitize.json;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.io.SerializedString;
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+import io.github.zhengyuelaii.desensitize.handler.MaskingHandlerDecorator;
+import io.github.zhengyuelaii.desensitize.plan.FieldPathAutomaton;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JSON 文本脱敏过滤器
+ * <p>
+ * 用于 String、byte[]、Resource 等已序列化的 JSON 响应体（如代理上游接口的返回值）。
+ * 基于 Jackson 流式 API 逐个复制 token，仅替换命中字段名或路径规则的字符串值，
+ * 其余 token 原样写出（数值保留原始文本）。工作内存只与嵌套深度和单个 token 长度有关，与响应体大小无关。
+ * </p>
+ * <p>
+ * 规则与 {@link io.github.zhengyuelaii.desensitize.plan.PlanMaskingEngine} 一致：按名称的规则匹配任意深度的对象字段，
+ * 路径规则相对于 JSON 根节点，数组元素沿用所在位置。JSON 文本中不存在字段注解，{@code @MaskingField} 不参与匹配。
+ * 输出为紧凑格式，不保留原有空白。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class JsonMaskingFilter {
+
+    /**
+     * 流式输出的批量写出阈值（字节）
+     */
+    static final int CHUNK_SIZE = 8192;
+
+    private final JsonFactory jsonFactory;
+
+    private final Map<List<Set<String>>, FieldPathAutomaton> automata = new ConcurrentReferenceHashMap<>();
+
+    public JsonMaskingFilter() {
+        this(new JsonFactory());
+    }
+
+    public JsonMaskingFilter(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * 脱敏 JSON 字符串
+     *
+     * @param json           JSON 文本
+     * @param handlers       按字段名称或路径的脱敏处理器
+     * @param excludedFields 排除脱敏的字段名称或路径
+     * @param decorator      处理器装饰器，可为 null
+     * @return 脱敏后的 JSON 文本
+     */
+    public String mask(String json, Map<String, MaskingHandler> handlers, Set<String> excludedFields,
+                       MaskingHandlerDecorator decorator) {
+        StringWriter writer = new StringWriter(json.length());
+        try (JsonParser parser = jsonFactory.createParser(json);
+             JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            TokenCopier copier = copier(parser, generator, handlers, excludedFields, decorator);
+            while (copier.step()) {
+                // 逐个 token 复制
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to mask JSON body", e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * 脱敏 UTF-8 编码的 JSON 字节数组
+     *
+     * @param json           JSON 字节
+     * @param handlers       按字段名称或路径的脱敏处理器
+     * @param excludedFields 排除脱敏的字段名称或路径
+     * @param decorator      处理器装饰器，可为 null
+     * @return 脱敏后的 JSON 字节
+     */
+    public byte[] mask(byte[] json, Map<String, MaskingHandler> handlers, Set<String> excludedFields,
+                       MaskingHandlerDecorator decorator) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(json.length);
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            mask(parser, output, handlers, excludedFields, decorator);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to mask JSON body", e);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * 将输入流中的 JSON 脱敏后写出到输出流，不关闭两端的流
+     *
+     * @param input          JSON 输入
+     * @param output         脱敏结果输出
+     * @param handlers       按字段名称或路径的脱敏处理器
+     * @param excludedFields 排除脱敏的字段名称或路径
+     * @param decorator      处理器装饰器，可为 null
+     * @throws IOException 读写异常或 JSON 格式错误
+     */
+    public void mask(InputStream input, OutputStream output, Map<String, MaskingHandler> handlers,
+                     Set<String> excludedFields, MaskingHandlerDecorator decorator) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(input)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            mask(parser, output, handlers, excludedFields, decorator);
+        }
+    }
+
+    /**
+     * 包装输入流，读取时按需脱敏
+     * <p>
+     * 每次读取只解析填满一个固定大小缓冲区所需的 token，适合 Resource 等大响应体的边读边写。
+     * JSON 格式错误在读取时以 {@link IOException} 抛出。
+     * </p>
+     *
+     * @param input          JSON 输入
+     * @param handlers       按字段名称或路径的脱敏处理器
+     * @param excludedFields 排除脱敏的字段名称或路径
+     * @param decorator      处理器装饰器，可为 null
+     * @return 脱敏后的输入流，关闭时同时关闭原输入流
+     * @throws IOException 创建解析器失败
+     */
+    public InputStream wrap(InputStream input, Map<String, MaskingHandler> handlers, Set<String> excludedFields,
+                            MaskingHandlerDecorator decorator) throws IOException {
+        return new MaskingInputStream(input, handlers, excludedFields, decorator);
+    }
+
+    /**
+     * 包装输出流，写入的 JSON 字节按 token 增量解析并脱敏后写出到原输出流
+     * <p>
+     * 适用于 {@code StreamingResponseBody} 等由业务代码直接写出字节的场景。token 可跨多次写入，
+     * 工作内存与单个 token 长度有关，与写出总量无关。多个根值（如 NDJSON）之间以换行分隔。
+     * 关闭包装流时写出剩余内容并校验 JSON 完整，不关闭原输出流。
+     * </p>
+     *
+     * @param output         脱敏结果输出
+     * @param handlers       按字段名称或路径的脱敏处理器
+     * @param excludedFields 排除脱敏的字段名称或路径
+     * @param decorator      处理器装饰器，可为 null
+     * @return 脱敏后的输出流
+     * @throws IOException 创建解析器失败
+     */
+    public OutputStream wrap(OutputStream output, Map<String, MaskingHandler> handlers, Set<String> excludedFields,
+                             MaskingHandlerDecorator decorator) throws IOException {
+        return new MaskingOutputStream(output, handlers, excludedFields, decorator);
+    }
+
+    private void mask(JsonParser parser, OutputStream output, Map<String, MaskingHandler> handlers,
+                      Set<String> excludedFields, MaskingHandlerDecorator decorator) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(output, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            TokenCopier copier = copier(parser, generator, handlers, excludedFields, decorator);
+            while (copier.step()) {
+                // 逐个 token 复制
+            }
+        }
+    }
+
+    private TokenCopier copier(JsonParser parser, JsonGenerator generator, Map<String, MaskingHandler> handlers,
+                               Set<String> excludedFields, MaskingHandlerDecorator decorator) {
+        FieldPathAutomaton paths = automaton(handlers.keySet(), excludedFields);
+        return new TokenCopier(parser, generator, handlers, excludedFields, decorator, paths.start());
+    }
+
+    private FieldPathAutomaton automaton(Set<String> ruleFields, Set<String> excludedFields) {
+        if (!FieldPathAutomaton.containsPath(ruleFields) && !FieldPathAutomaton.containsPath(excludedFields)) {
+            return FieldPathAutomaton.NONE;
+        }
+        return automata.computeIfAbsent(Arrays.asList(ruleFields, excludedFields),
+                key -> FieldPathAutomaton.compile(ruleFields, excludedFields));
+    }
+
+    /**
+     * 逐个 token 复制并在字符串值处替换脱敏结果
+     */
+    private static final class TokenCopier {
+
+        private final JsonParser parser;
+        private final JsonGenerator generator;
+        private final Map<String, MaskingHandler> handlers;
+        private final Set<String> excludedFields;
+        private final MaskingHandlerDecorator decorator;
+
+        private FieldPathAutomaton.State[] stack = new FieldPathAutomaton.State[16];
+        private int depth;
+        private FieldPathAutomaton.State current;
+        private FieldPathAutomaton.State field;
+        private String name;
+
+        TokenCopier(JsonParser parser, JsonGenerator generator, Map<String, MaskingHandler> handlers,
+                    Set<String> excludedFields, MaskingHandlerDecorator decorator, FieldPathAutomaton.State start) {
+            this.parser = parser;
+            this.generator = generator;
+            this.handlers = handlers;
+            this.excludedFields = excludedFields;
+            this.decorator = decorator;
+            this.current = start;
+            this.field = start;
+        }
+
+        /**
+         * 复制下一个 token
+         *
+         * @return 已到达输入末尾或（增量解析时）需要更多输入时返回 false
+         */
+        boolean step() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.NOT_AVAILABLE) {
+                return false;
+            }
+            switch (token) {
+                case START_OBJECT:
+                    push();
+                    generator.writeStartObject();
+                    break;
+                case START_ARRAY:
+                    push();
+                    generator.writeStartArray();
+                    break;
+                case END_OBJECT:
+                    generator.writeEndObject();
+                    pop();
+                    break;
+                case END_ARRAY:
+                    generator.writeEndArray();
+                    pop();
+                    break;
+                case FIELD_NAME:
+                    name = parser.getCurrentName();
+                    field = current.next(name);
+                    generator.writeFieldName(name);
+                    break;
+                case VALUE_STRING:
+                    MaskingHandler handler = parser.getParsingContext().inObject() ? resolve() : null;
+                    if (handler != null) {
+                        generator.writeString(handler.getMaskingValue(parser.getText()));
+                    } else {
+                        generator.writeString(parser.getTextCharacters(), parser.getTextOffset(),
+                                parser.getTextLength());
+                    }
+                    break;
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    // 保留数值的原始文本，避免精度或格式变化
+                    generator.writeNumber(parser.getText());
+                    break;
+                default:
+                    generator.copyCurrentEvent(parser);
+                    break;
+            }
+            return true;
+        }
+
+        /**
+         * 进入容器：对象字段值使用字段对应的状态，数组元素与根节点沿用当前状态
+         */
+        private void push() {
+            if (depth == stack.length) {
+                stack = Arrays.copyOf(stack, depth * 2);
+            }
+            stack[depth++] = current;
+            if (parser.getParsingContext().getParent().inObject()) {
+                current = field;
+            }
+        }
+
+        private void pop() {
+            current = stack[--depth];
+        }
+
+        /**
+         * 与执行计划引擎一致：路径排除 &gt; 路径规则 &gt; 名称排除 &gt; 名称规则
+         */
+        private MaskingHandler resolve() {
+            if (field.isExcluded()) {
+                return null;
+            }
+            MaskingHandler handler = field.getHandlerKey() != null ? handlers.get(field.getHandlerKey()) : null;
+            if (handler == null) {
+                if (excludedFields.contains(name)) {
+                    return null;
+                }
+                handler = handlers.get(name);
+            }
+            if (handler != null && decorator != null) {
+                handler = decorator.decorate(name, handler);
+            }
+            return handler;
+        }
+    }
+
+    /**
+     * 按需脱敏的输入流：每次填充时复制 token 直到缓冲区达到 {@link #CHUNK_SIZE} 或输入结束
+     */
+    private final class MaskingInputStream extends InputStream {
+
+        private final InputStream source;
+        private final Chunk chunk = new Chunk();
+        private final JsonParser parser;
+        private final JsonGenerator generator;
+        private final TokenCopier copier;
+        private int position;
+        private boolean finished;
+
+        MaskingInputStream(InputStream source, Map<String, MaskingHandler> handlers, Set<String> excludedFields,
+                           MaskingHandlerDecorator decorator) throws IOException {
+            this.source = source;
+            this.parser = jsonFactory.createParser(source);
+            this.generator = jsonFactory.createGenerator(chunk, JsonEncoding.UTF8);
+            this.copier = copier(parser, generator, handlers, excludedFields, decorator);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return chunk.bytes()[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int count = Math.min(len, chunk.size() - position);
+            System.arraycopy(chunk.bytes(), position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return chunk.size() - position;
+        }
+
+        private boolean fill() throws IOException {
+            while (position >= chunk.size()) {
+                if (finished) {
+                    return false;
+                }
+                chunk.reset();
+                position = 0;
+                while (chunk.size() + generator.getOutputBuffered() < CHUNK_SIZE) {
+                    if (!copier.step()) {
+                        finished = true;
+                        break;
+                    }
+                }
+                generator.flush();
+            }
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                parser.close();
+            } finally {
+                source.close();
+            }
+        }
+    }
+
+    /**
+     * 增量脱敏的输出流：每次写入后复制已完整解析的 token，未完整的 token 由解析器保留到下次写入
+     */
+    private final class MaskingOutputStream extends OutputStream {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private final JsonGenerator generator;
+        private final TokenCopier copier;
+        private final byte[] single = new byte[1];
+        private boolean closed;
+
+        MaskingOutputStream(OutputStream target, Map<String, MaskingHandler> handlers, Set<String> excludedFields,
+                            MaskingHandlerDecorator decorator) throws IOException {
+            this.parser = jsonFactory.createNonBlockingByteArrayParser();
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+            this.generator = jsonFactory.createGenerator(target, JsonEncoding.UTF8);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(new SerializedString("\n"));
+            this.copier = copier(parser, generator, handlers, excludedFields, decorator);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            single[0] = (byte) b;
+            write(single, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            if (len == 0) {
+                return;
+            }
+            feeder.feedInput(b, off, off + len);
+            drain();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            feeder.endOfInput();
+            try {
+                drain();
+                generator.flush();
+            } finally {
+                parser.close();
+            }
+        }
+
+        private void drain() throws IOException {
+            while (copier.step()) {
+                // 复制已完整解析的 token，生成器缓冲区写满时自动写出
+            }
+        }
+    }
+
+    /**
+     * 可复用的输出缓冲区
+     */
+    private static final class Chunk extends ByteArrayOutputStream {
+
+        Chunk() {
+            super(CHUNK_SIZE + 256);
+        }
+
+        byte[] bytes() {
+            return buf;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.zhengyuelaii.desensitize.metrics;
+
+import io.github.zhengyuelaii.desensitize.config.FailureStrategy;
+import io.github.zhengyuelaii.desensitize.plan.TraversalLimits;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.server.ServerHttpRequest;
+
+/**
+ * 脱敏监控指标记录接口
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public interface DesensitizeMetrics {
+
+    /**
+     * 不记录任何指标的默认实现
+     */
+    DesensitizeMetrics NOOP = new DesensitizeMetrics() {
+    };
+
+    /**
+     * 脱敏处理阶段
+     */
+    enum Phase {
+        CHAIN,          // 拦截器链解析
+        INTERCEPTOR,    // 拦截器 preHandle/postHandle
+        RESOLVE,        // 全局解析器
+        MASK,           // 脱敏执行
+    }
+
+    /**
+     * 脱敏处理结果
+     */
+    enum Outcome {
+        MASKED,     // 已脱敏
+        VETOED,     // 拦截器跳过脱敏
+        IGNORED,    // @IgnoreResponseMasking 忽略
+        SKIPPED,    // 返回值类型不含脱敏字段
+        FAILED,     // 脱敏异常
+        CACHED,     // 命中响应缓存
+    }
+
+    /**
+     * 开始记录一次响应脱敏
+     *
+     * @param returnType 方法返回值参数
+     * @param request    当前请求
+     * @return 本次脱敏的观测对象
+     */
+    default MaskingObservation start(MethodParameter returnType, ServerHttpRequest request) {
+        return MaskingObservation.NOOP;
+    }
+
+    /**
+     * 记录被 {@code @IgnoreResponseMasking} 忽略的响应
+     *
+     * @param returnType 方法返回值参数
+     */
+    default void recordIgnored(MethodParameter returnType) {
+    }
+
+    /**
+     * 单次响应脱敏的观测对象，非线程安全，仅在当前请求线程内使用
+     */
+    interface MaskingObservation {
+
+        MaskingObservation NOOP = new MaskingObservation() {
+        };
+
+        /**
+         * 将上次标记以来的耗时计入指定阶段
+         *
+         * @param phase 阶段
+         */
+        default void mark(Phase phase) {
+        }
+
+        /**
+         * 记录处理结果
+         *
+         * @param outcome 处理结果
+         */
+        default void outcome(Outcome outcome) {
+        }
+
+        /**
+         * 记录脱敏失败
+         *
+         * @param strategy 当前失败策略
+         */
+        default void failure(FailureStrategy strategy) {
+        }
+
+        /**
+         * 记录遍历统计（由能够统计的脱敏引擎上报）
+         *
+         * @param visitedObjects 访问的对象数
+         * @param maskedFields   脱敏的字段数
+         */
+        default void traversal(long visitedObjects, long maskedFields) {
+        }
+
+        /**
+         * 记录因超出遍历限制而被截断的遍历
+         *
+         * @param limit 首个触发的限制
+         */
+        default void truncated(TraversalLimits.Limit limit) {
+        }
+
+        /**
+         * 记录被遍历守卫跳过的节点（如未初始化的延迟加载代理）
+         *
+         * @param nodes 跳过的节点数
+         */
+        default void guarded(long nodes) {
+        }
+
+        /**
+         * 结束观测并提交指标
+         */
+        default void stop() {
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.zhengyuelaii.desensitize.metrics;
+
+import io.github.zhengyuelaii.desensitize.cache.MaskedResponseCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 脱敏响应缓存指标
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MaskedResponseCacheMetrics {
+
+    public static final String HITS = "easy.desensitize.response.cache.hits";
+    public static final String MISSES = "easy.desensitize.response.cache.misses";
+    public static final String SIZE = "easy.desensitize.response.cache.size";
+    public static final String BYTES = "easy.desensitize.response.cache.bytes";
+
+    public MaskedResponseCacheMetrics(MeterRegistry registry, MaskedResponseCache cache) {
+        String storage = cache.isOffHeap() ? "off_heap" : "heap";
+        FunctionCounter.builder(HITS, cache, MaskedResponseCache::getHitCount).register(registry);
+        FunctionCounter.builder(MISSES, cache, MaskedResponseCache::getMissCount).register(registry);
+        Gauge.builder(SIZE, cache, MaskedResponseCache::size).register(registry);
+        Gauge.builder(BYTES, cache, MaskedResponseCache::getBytes).tag("storage", storage).register(registry);
+    }
+}
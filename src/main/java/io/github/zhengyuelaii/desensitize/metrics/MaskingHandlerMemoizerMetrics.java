@@ -0,0 +1,30 @@
+package io.github.zhengyuelaii.desensitize.metrics;
+
+import io.github.zhengyuelaii.desensitize.handler.MaskingHandlerMemoizer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 脱敏结果记忆化指标
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MaskingHandlerMemoizerMetrics {
+
+    public static final String HITS = "easy.desensitize.memoize.hits";
+    public static final String MISSES = "easy.desensitize.memoize.misses";
+    public static final String HIT_RATIO = "easy.desensitize.memoize.hit.ratio";
+
+    public MaskingHandlerMemoizerMetrics(MeterRegistry registry, MaskingHandlerMemoizer memoizer) {
+        String scope = memoizer.getScope().name().toLowerCase();
+        FunctionCounter.builder(HITS, memoizer, MaskingHandlerMemoizer::getHitCount)
+                .tag("scope", scope).register(registry);
+        FunctionCounter.builder(MISSES, memoizer, MaskingHandlerMemoizer::getMissCount)
+                .tag("scope", scope).register(registry);
+        Gauge.builder(HIT_RATIO, memoizer, MaskingHandlerMemoizer::getHitRatio)
+                .tag("scope", scope).register(registry);
+    }
+}
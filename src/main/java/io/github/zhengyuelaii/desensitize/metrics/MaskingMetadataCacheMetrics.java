@@ -0,0 +1,38 @@
+package io.github.zhengyuelaii.desensitize.metrics;
+
+import io.github.zhengyuelaii.desensitize.cache.MaskingMetadataCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 脱敏元数据缓存指标
+ * <p>
+ * 注册命中、未命中、淘汰计数与当前条目数，数值在采集时从 {@link MaskingMetadataCache#getStats()} 读取。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MaskingMetadataCacheMetrics {
+
+    public static final String HITS = "easy.desensitize.metadata.cache.hits";
+    public static final String MISSES = "easy.desensitize.metadata.cache.misses";
+    public static final String EVICTIONS = "easy.desensitize.metadata.cache.evictions";
+    public static final String SIZE = "easy.desensitize.metadata.cache.size";
+
+    private final MaskingMetadataCache cache;
+
+    public MaskingMetadataCacheMetrics(MeterRegistry registry, MaskingMetadataCache cache) {
+        this.cache = cache;
+        FunctionCounter.builder(HITS, cache, c -> c.getStats().getHitCount()).register(registry);
+        FunctionCounter.builder(MISSES, cache, c -> c.getStats().getMissCount()).register(registry);
+        FunctionCounter.builder(EVICTIONS, cache, c -> c.getStats().getEvictionCount()).register(registry);
+        Gauge.builder(SIZE, cache, MaskingMetadataCache::size).register(registry);
+    }
+
+    public MaskingMetadataCache getCache() {
+        return cache;
+    }
+}
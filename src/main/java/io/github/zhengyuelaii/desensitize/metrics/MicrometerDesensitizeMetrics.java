@@ -0,0 +1,190 @@
+package io.github.zhengyuelaii.desensitize.metrics;
+
+import io.github.zhengyuelaii.desensitize.config.FailureStrategy;
+import io.github.zhengyuelaii.desensitize.plan.TraversalLimits;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.AttributeAccessor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于 Micrometer 的脱敏指标
+ * <p>
+ * 指标以 Controller 方法与请求映射模式（而非原始路径）作为标签，保证标签基数有界；
+ * 各方法对应的 Meter 在首次请求时创建并缓存，之后的记录不再查找注册表。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MicrometerDesensitizeMetrics implements DesensitizeMetrics {
+
+    public static final String DURATION = "easy.desensitize.duration";
+    public static final String OUTCOMES = "easy.desensitize.outcomes";
+    public static final String FAILURES = "easy.desensitize.failures";
+    public static final String VISITED_OBJECTS = "easy.desensitize.visited.objects";
+    public static final String MASKED_FIELDS = "easy.desensitize.masked.fields";
+    public static final String TRUNCATED = "easy.desensitize.traversal.truncated";
+    public static final String GUARDED = "easy.desensitize.traversal.guarded";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private static final String REACTIVE_BEST_MATCHING_PATTERN_ATTRIBUTE =
+            "org.springframework.web.reactive.HandlerMapping.bestMatchingPattern";
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final MeterRegistry registry;
+
+    private final Map<MethodParameter, Map<String, MethodMeters>> meters = new ConcurrentHashMap<>();
+
+    public MicrometerDesensitizeMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public MaskingObservation start(MethodParameter returnType, ServerHttpRequest request) {
+        return new Observation(getMeters(returnType, uri(request)));
+    }
+
+    @Override
+    public void recordIgnored(MethodParameter returnType) {
+        getMeters(returnType, UNKNOWN_URI).outcomes.get(Outcome.IGNORED).increment();
+    }
+
+    private MethodMeters getMeters(MethodParameter returnType, String uri) {
+        return meters.computeIfAbsent(returnType, key -> new ConcurrentHashMap<>(2))
+                .computeIfAbsent(uri, key -> new MethodMeters(registry, Tags.of(
+                        "method", returnType.getContainingClass().getSimpleName() + "#"
+                                + returnType.getExecutable().getName(),
+                        "uri", key)));
+    }
+
+    private static String uri(ServerHttpRequest request) {
+        if (request instanceof AttributeAccessor) {
+            // WebFlux 请求适配，映射模式为 PathPattern
+            Object pattern = ((AttributeAccessor) request).getAttribute(REACTIVE_BEST_MATCHING_PATTERN_ATTRIBUTE);
+            return pattern != null ? pattern.toString() : UNKNOWN_URI;
+        }
+        if (request instanceof ServletServerHttpRequest) {
+            Object pattern = ((ServletServerHttpRequest) request).getServletRequest()
+                    .getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern instanceof String) {
+                return (String) pattern;
+            }
+        }
+        return UNKNOWN_URI;
+    }
+
+    /**
+     * 单个方法（及映射模式）对应的 Meter
+     */
+    private static final class MethodMeters {
+
+        private final Timer total;
+        private final Map<Phase, Timer> phases = new EnumMap<>(Phase.class);
+        private final Map<Outcome, Counter> outcomes = new EnumMap<>(Outcome.class);
+        private final Map<FailureStrategy, Counter> failures = new EnumMap<>(FailureStrategy.class);
+        private final Counter visitedObjects;
+        private final Counter maskedFields;
+        private final Map<TraversalLimits.Limit, Counter> truncated = new EnumMap<>(TraversalLimits.Limit.class);
+        private final Counter guarded;
+
+        MethodMeters(MeterRegistry registry, Tags tags) {
+            this.total = Timer.builder(DURATION).tags(tags).tag("phase", "total").register(registry);
+            for (Phase phase : PHASES) {
+                phases.put(phase, Timer.builder(DURATION).tags(tags)
+                        .tag("phase", phase.name().toLowerCase()).register(registry));
+            }
+            for (Outcome outcome : Outcome.values()) {
+                outcomes.put(outcome, Counter.builder(OUTCOMES).tags(tags)
+                        .tag("outcome", outcome.name().toLowerCase()).register(registry));
+            }
+            for (FailureStrategy strategy : FailureStrategy.values()) {
+                failures.put(strategy, Counter.builder(FAILURES).tags(tags)
+                        .tag("strategy", strategy.name()).register(registry));
+            }
+            this.visitedObjects = Counter.builder(VISITED_OBJECTS).tags(tags).register(registry);
+            this.maskedFields = Counter.builder(MASKED_FIELDS).tags(tags).register(registry);
+            for (TraversalLimits.Limit limit : TraversalLimits.Limit.values()) {
+                truncated.put(limit, Counter.builder(TRUNCATED).tags(tags)
+                        .tag("limit", limit.name().toLowerCase()).register(registry));
+            }
+            this.guarded = Counter.builder(GUARDED).tags(tags).register(registry);
+        }
+    }
+
+    /**
+     * 单次响应的观测对象，阶段耗时先累加，结束时统一提交
+     */
+    private static final class Observation implements MaskingObservation {
+
+        private final MethodMeters meters;
+        private final long start;
+        private final long[] elapsed = new long[PHASES.length];
+        private long last;
+
+        Observation(MethodMeters meters) {
+            this.meters = meters;
+            this.start = System.nanoTime();
+            this.last = start;
+        }
+
+        @Override
+        public void mark(Phase phase) {
+            long now = System.nanoTime();
+            elapsed[phase.ordinal()] += now - last;
+            last = now;
+        }
+
+        @Override
+        public void outcome(Outcome outcome) {
+            meters.outcomes.get(outcome).increment();
+        }
+
+        @Override
+        public void failure(FailureStrategy strategy) {
+            meters.outcomes.get(Outcome.FAILED).increment();
+            if (strategy != null) {
+                meters.failures.get(strategy).increment();
+            }
+        }
+
+        @Override
+        public void traversal(long visitedObjects, long maskedFields) {
+            meters.visitedObjects.increment(visitedObjects);
+            meters.maskedFields.increment(maskedFields);
+        }
+
+        @Override
+        public void truncated(TraversalLimits.Limit limit) {
+            meters.truncated.get(limit).increment();
+        }
+
+        @Override
+        public void guarded(long nodes) {
+            meters.guarded.increment(nodes);
+        }
+
+        @Override
+        public void stop() {
+            for (int i = 0; i < elapsed.length; i++) {
+                if (elapsed[i] > 0) {
+                    meters.phases.get(PHASES[i]).record(elapsed[i], TimeUnit.NANOSECONDS);
+                }
+            }
+            meters.total.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.zhengyuelaii.desensitize.parallel;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * 大集合并行脱敏执行器
+ * <p>
+ * 元素数达到阈值的集合或对象数组会被切分为若干分片，在专用的有界 {@link ForkJoinPool} 上并行脱敏，
+ * 请求线程等待全部分片完成。任一分片抛出的异常会在请求线程重新抛出，由调用方按失败策略处理。
+ * </p>
+ * <p>
+ * 分片由执行计划引擎遍历，各分片共享 {@link io.github.zhengyuelaii.desensitize.plan.SharedTraversalState}：
+ * 被不同元素共同引用的实例只处理一次，访问对象数与深度限制按整个响应计算。
+ * </p>
+ * <p>
+ * 请求线程的 {@link RequestAttributes} 与 {@link LocaleContext} 在每个分片执行期间绑定到工作线程，
+ * 执行完毕后恢复；MDC、安全上下文等其他线程绑定状态不会传递，依赖它们的处理器不应开启并行脱敏。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class ParallelMaskingExecutor implements DisposableBean {
+
+    /**
+     * 单个分片的最小元素数，避免切分过细
+     */
+    static final int MIN_CHUNK_SIZE = 256;
+
+    private final int threshold;
+
+    private final int parallelism;
+
+    private final ForkJoinPool pool;
+
+    public ParallelMaskingExecutor(int threshold, int parallelism, String poolName) {
+        Assert.isTrue(parallelism > 0, "parallelism must be greater than 0");
+        this.threshold = Math.max(threshold, 1);
+        this.parallelism = parallelism;
+        this.pool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(poolName + "-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * 数据是否需要并行脱敏
+     *
+     * @param data 全局解析后的数据
+     * @return 集合或对象数组且元素数达到阈值时返回 true
+     */
+    public boolean supports(Object data) {
+        if (data instanceof Collection) {
+            return ((Collection<?>) data).size() >= threshold;
+        }
+        return data instanceof Object[] && ((Object[]) data).length >= threshold;
+    }
+
+    /**
+     * 切分并行执行，阻塞至全部分片完成
+     *
+     * @param data   集合或对象数组
+     * @param masker 分片脱敏逻辑，入参为分片元素列表
+     */
+    public void execute(Object data, Consumer<List<?>> masker) {
+        List<?> elements = toList(data);
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, (elements.size() + parallelism * 4 - 1) / (parallelism * 4));
+        pool.invoke(new ChunkTask(elements, chunkSize, masker,
+                RequestContextHolder.getRequestAttributes(), LocaleContextHolder.getLocaleContext()));
+    }
+
+    private static List<?> toList(Object data) {
+        if (data instanceof Object[]) {
+            return Arrays.asList((Object[]) data);
+        }
+        if (data instanceof List && data instanceof RandomAccess) {
+            return (List<?>) data;
+        }
+        // 非随机访问集合先拷贝为数组视图
+        return Arrays.asList(((Collection<?>) data).toArray());
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    private static final class ChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<?> elements;
+        private final int chunkSize;
+        private final transient Consumer<List<?>> masker;
+        private final transient RequestAttributes requestAttributes;
+        private final transient LocaleContext localeContext;
+
+        ChunkTask(List<?> elements, int chunkSize, Consumer<List<?>> masker,
+                  RequestAttributes requestAttributes, LocaleContext localeContext) {
+            this.elements = elements;
+            this.chunkSize = chunkSize;
+            this.masker = masker;
+            this.requestAttributes = requestAttributes;
+            this.localeContext = localeContext;
+        }
+
+        @Override
+        protected void compute() {
+            int size = elements.size();
+            if (size <= chunkSize) {
+                maskChunk();
+                return;
+            }
+            int middle = size >>> 1;
+            invokeAll(split(elements.subList(0, middle)), split(elements.subList(middle, size)));
+        }
+
+        private ChunkTask split(List<?> part) {
+            return new ChunkTask(part, chunkSize, masker, requestAttributes, localeContext);
+        }
+
+        /**
+         * 在工作线程上绑定请求线程的上下文后执行分片，结束后恢复工作线程原有的上下文
+         */
+        private void maskChunk() {
+            RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+            LocaleContext previousLocale = LocaleContextHolder.getLocaleContext();
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            LocaleContextHolder.setLocaleContext(localeContext);
+            try {
+                masker.accept(elements);
+            } finally {
+                RequestContextHolder.setRequestAttributes(previousAttributes);
+                LocaleContextHolder.setLocaleContext(previousLocale);
+            }
+        }
+    }
+}
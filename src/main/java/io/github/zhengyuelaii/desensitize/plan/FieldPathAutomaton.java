@@ -0,0 +1,297 @@
+package io.github.zhengyuelaii.desensitize.plan;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 字段路径规则自动机
+ * <p>
+ * 将 {@code data.records[*].mobile} 形式的路径规则编译为确定性自动机：每经过一个属性名（Bean 字段或 Map 键）
+ * 转移一次状态，集合、数组与迭代器的元素沿用当前状态，{@code [*]} 仅用于书写可读性。
+ * 片段 {@code *} 匹配任意一个属性名，可选的 {@code $.} 前缀表示响应体根节点。
+ * 进入死状态的分支不可能再命中路径规则，遍历时可直接剪除。
+ * </p>
+ * <p>
+ * 同一节点同时命中多条路径时，排除规则优先；多条脱敏规则中通配片段较少者优先。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class FieldPathAutomaton {
+
+    /**
+     * 不包含任何路径规则的自动机
+     */
+    public static final FieldPathAutomaton NONE = new FieldPathAutomaton(State.DEAD, 0);
+
+    private static final String WILDCARD = "*";
+
+    private final State start;
+
+    private final int stateCount;
+
+    private FieldPathAutomaton(State start, int stateCount) {
+        this.start = start;
+        this.stateCount = stateCount;
+    }
+
+    /**
+     * 是否为路径规则（包含 {@code .}、{@code [} 或以 {@code $} 开头），否则为按名称匹配的简单规则
+     *
+     * @param field 规则字段
+     * @return 路径规则返回 true
+     */
+    public static boolean isPath(String field) {
+        return field != null && (field.indexOf('.') >= 0 || field.indexOf('[') >= 0 || field.startsWith("$"));
+    }
+
+    /**
+     * 规则中是否存在路径规则
+     *
+     * @param fields 规则字段
+     * @return 存在时返回 true
+     */
+    public static boolean containsPath(Collection<String> fields) {
+        for (String field : fields) {
+            if (isPath(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 编译路径规则，非路径的简单规则被忽略
+     *
+     * @param ruleFields     脱敏规则字段
+     * @param excludedFields 排除规则字段
+     * @return 自动机，无路径规则时返回 {@link #NONE}
+     * @throws IllegalArgumentException 路径格式不合法
+     */
+    public static FieldPathAutomaton compile(Collection<String> ruleFields, Collection<String> excludedFields) {
+        List<FieldPath> paths = new ArrayList<>();
+        for (String field : new TreeSet<>(ruleFields)) {
+            if (isPath(field)) {
+                paths.add(FieldPath.parse(field, false));
+            }
+        }
+        for (String field : new TreeSet<>(excludedFields)) {
+            if (isPath(field)) {
+                paths.add(FieldPath.parse(field, true));
+            }
+        }
+        if (paths.isEmpty()) {
+            return NONE;
+        }
+        Set<Long> initial = new TreeSet<>();
+        for (int i = 0; i < paths.size(); i++) {
+            initial.add(position(i, 0));
+        }
+        Map<Set<Long>, State> states = new HashMap<>();
+        State start = build(initial, paths, states);
+        return new FieldPathAutomaton(start, states.size());
+    }
+
+    /**
+     * 子集构造：每个确定状态对应一组（路径，已匹配片段数）位置
+     */
+    private static State build(Set<Long> positions, List<FieldPath> paths, Map<Set<Long>, State> states) {
+        if (positions.isEmpty()) {
+            return State.DEAD;
+        }
+        State state = states.get(positions);
+        if (state != null) {
+            return state;
+        }
+        state = new State();
+        states.put(positions, state);
+
+        FieldPath accepted = null;
+        Set<String> names = new LinkedHashSet<>();
+        Set<Long> otherwise = new TreeSet<>();
+        for (long position : positions) {
+            FieldPath path = paths.get(pathIndex(position));
+            int matched = matched(position);
+            if (matched == path.segments.length) {
+                if (path.excluded) {
+                    state.excluded = true;
+                } else if (accepted == null || path.wildcards < accepted.wildcards) {
+                    accepted = path;
+                }
+                continue;
+            }
+            String segment = path.segments[matched];
+            if (WILDCARD.equals(segment)) {
+                otherwise.add(position + 1);
+            } else {
+                names.add(segment);
+            }
+        }
+        state.handlerKey = accepted != null ? accepted.expression : null;
+
+        Map<String, State> transitions = new HashMap<>();
+        for (String name : names) {
+            Set<Long> next = new TreeSet<>();
+            for (long position : positions) {
+                FieldPath path = paths.get(pathIndex(position));
+                int matched = matched(position);
+                if (matched < path.segments.length
+                        && (name.equals(path.segments[matched]) || WILDCARD.equals(path.segments[matched]))) {
+                    next.add(position + 1);
+                }
+            }
+            transitions.put(name, build(next, paths, states));
+        }
+        state.transitions = transitions.isEmpty() ? Collections.emptyMap() : transitions;
+        state.otherwise = build(otherwise, paths, states);
+        return state;
+    }
+
+    private static long position(int pathIndex, int matched) {
+        return ((long) pathIndex << 32) | matched;
+    }
+
+    private static int pathIndex(long position) {
+        return (int) (position >>> 32);
+    }
+
+    private static int matched(long position) {
+        return (int) position;
+    }
+
+    public boolean isEmpty() {
+        return start == State.DEAD;
+    }
+
+    /**
+     * 确定状态数（不含死状态）
+     *
+     * @return 状态数
+     */
+    public int getStateCount() {
+        return stateCount;
+    }
+
+    /**
+     * 初始状态，对应响应体根节点
+     *
+     * @return 初始状态，无路径规则时为死状态
+     */
+    public State start() {
+        return start;
+    }
+
+    /**
+     * 自动机状态
+     */
+    public static final class State {
+
+        /**
+         * 死状态：不可能再命中任何路径规则
+         */
+        public static final State DEAD = new State();
+
+        private Map<String, State> transitions = Collections.emptyMap();
+
+        private State otherwise = this;
+
+        private String handlerKey;
+
+        private boolean excluded;
+
+        private State() {
+        }
+
+        /**
+         * 经过属性名后的状态
+         *
+         * @param name 字段名或 Map 键
+         * @return 下一状态
+         */
+        public State next(String name) {
+            State next = transitions.get(name);
+            return next != null ? next : otherwise;
+        }
+
+        public boolean isDead() {
+            return this == DEAD;
+        }
+
+        /**
+         * 命中的脱敏路径，作为处理器的查找键
+         */
+        public String getHandlerKey() {
+            return handlerKey;
+        }
+
+        public boolean isExcluded() {
+            return excluded;
+        }
+    }
+
+    /**
+     * 解析后的单条路径
+     */
+    private static final class FieldPath {
+
+        final String expression;
+        final String[] segments;
+        final boolean excluded;
+        final int wildcards;
+
+        private FieldPath(String expression, String[] segments, boolean excluded) {
+            this.expression = expression;
+            this.segments = segments;
+            this.excluded = excluded;
+            int count = 0;
+            for (String segment : segments) {
+                if (WILDCARD.equals(segment)) {
+                    count++;
+                }
+            }
+            this.wildcards = count;
+        }
+
+        static FieldPath parse(String expression, boolean excluded) {
+            String path = expression.trim();
+            if (path.startsWith("$")) {
+                path = path.substring(1);
+                if (path.startsWith(".")) {
+                    path = path.substring(1);
+                }
+            }
+            List<String> segments = new ArrayList<>();
+            for (String part : path.split("\\.", -1)) {
+                String name = part;
+                // 元素访问不改变状态，[*] 仅作标记
+                while (name.endsWith("[*]") || name.endsWith("[]")) {
+                    name = name.substring(0, name.lastIndexOf('['));
+                }
+                if (name.indexOf('[') >= 0 || name.indexOf(']') >= 0) {
+                    throw new IllegalArgumentException("Unsupported masking field path: " + expression
+                            + " (only [*] element selectors are supported)");
+                }
+                if (name.isEmpty()) {
+                    if (part.isEmpty()) {
+                        throw new IllegalArgumentException("Invalid masking field path: " + expression);
+                    }
+                    continue;
+                }
+                segments.add(name);
+            }
+            if (segments.isEmpty()) {
+                throw new IllegalArgumentException("Invalid masking field path: " + expression);
+            }
+            return new FieldPath(expression, segments.toArray(new String[0]), excluded);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.zhengyuelaii.desensitize.plan;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 编译期生成的字段访问器
+ * <p>
+ * 由 {@code MaskingAccessorProcessor} 为声明了 {@code @MaskingField} 的类生成，通过 {@link java.util.ServiceLoader} 发现。
+ * 访问器只覆盖类型自身声明的字段，以直接的字段访问或 getter/setter 调用读写；
+ * 编译执行计划时优先使用，未覆盖的字段仍通过反射访问。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public interface GeneratedMaskingAccessor {
+
+    /**
+     * 访问器对应的类型
+     *
+     * @return 声明字段的类型
+     */
+    Class<?> getType();
+
+    /**
+     * 获取字段的读取器
+     *
+     * @param field 字段名
+     * @return 读取器，未生成时返回 null
+     */
+    Function<Object, Object> getter(String field);
+
+    /**
+     * 获取 String 字段的写入器
+     *
+     * @param field 字段名
+     * @return 写入器，未生成或字段不可写时返回 null
+     */
+    BiConsumer<Object, String> setter(String field);
+}
@@ -0,0 +1,77 @@
+package io.github.zhengyuelaii.desensitize.plan;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * 编译期生成的字段访问器注册表
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class GeneratedMaskingAccessors {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeneratedMaskingAccessors.class);
+
+    /**
+     * 不包含任何访问器的注册表
+     */
+    public static final GeneratedMaskingAccessors EMPTY = new GeneratedMaskingAccessors(Collections.emptyMap());
+
+    private final Map<Class<?>, GeneratedMaskingAccessor> accessors;
+
+    private GeneratedMaskingAccessors(Map<Class<?>, GeneratedMaskingAccessor> accessors) {
+        this.accessors = accessors;
+    }
+
+    /**
+     * 通过 {@link ServiceLoader} 加载生成的访问器，无法加载的条目被跳过
+     *
+     * @param classLoader 类加载器
+     * @return 注册表，未发现访问器时返回 {@link #EMPTY}
+     */
+    public static GeneratedMaskingAccessors load(ClassLoader classLoader) {
+        Map<Class<?>, GeneratedMaskingAccessor> accessors = new HashMap<>();
+        Iterator<GeneratedMaskingAccessor> iterator =
+                ServiceLoader.load(GeneratedMaskingAccessor.class, classLoader).iterator();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                GeneratedMaskingAccessor accessor = iterator.next();
+                accessors.put(accessor.getType(), accessor);
+            } catch (ServiceConfigurationError | LinkageError e) {
+                // 生成后实体类发生变化等情况，回退到反射访问
+                logger.warn("Skipping generated masking accessor: {}", e.getMessage());
+            }
+        }
+        return accessors.isEmpty() ? EMPTY : new GeneratedMaskingAccessors(accessors);
+    }
+
+    /**
+     * 获取类型自身声明字段的访问器
+     *
+     * @param type 声明字段的类型
+     * @return 访问器，未生成时返回 null
+     */
+    public GeneratedMaskingAccessor get(Class<?> type) {
+        return accessors.get(type);
+    }
+
+    public boolean isEmpty() {
+        return accessors.isEmpty();
+    }
+
+    public int size() {
+        return accessors.size();
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.zhengyuelaii.desensitize.plan;
+
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Map;
+
+/**
+ * 单个类型的脱敏执行计划
+ * <p>
+ * 仅包含需要脱敏的 String 字段，以及可能包含脱敏字段的子节点；
+ * 字段通过预先绑定的 {@link MethodHandle} 直接读写，不再逐字段反射。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class MaskingPlan {
+
+    static final MaskingPlan EMPTY = new MaskingPlan(Object.class, new StringSlot[0], new ChildSlot[0]);
+
+    private final Class<?> type;
+
+    private final StringSlot[] strings;
+
+    private final ChildSlot[] children;
+
+    MaskingPlan(Class<?> type, StringSlot[] strings, ChildSlot[] children) {
+        this.type = type;
+        this.strings = strings;
+        this.children = children;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * 计划是否为空（该类型及其子树中不存在需要脱敏的字段）
+     *
+     * @return 为空时返回 true
+     */
+    public boolean isEmpty() {
+        return strings.length == 0 && children.length == 0;
+    }
+
+    public int getMaskedFieldCount() {
+        return strings.length;
+    }
+
+    public int getChildCount() {
+        return children.length;
+    }
+
+    void execute(Object target, MaskingTraversal traversal) throws Throwable {
+        Map<String, MaskingHandler> handlers = traversal.getHandlers();
+        for (StringSlot slot : strings) {
+            String value = (String) slot.getter.invokeExact(target);
+            if (value == null) {
+                continue;
+            }
+            MaskingHandler handler = slot.byName ? handlers.get(slot.name) : slot.annotationHandler;
+            if (handler == null) {
+                handler = slot.annotationHandler;
+            }
+            if (handler != null) {
+                handler = traversal.decorate(slot.name, handler);
+                slot.setter.invokeExact(target, handler.getMaskingValue(value));
+                traversal.onMasked();
+            }
+        }
+        for (ChildSlot slot : children) {
+            Object child = slot.getter.invokeExact(target);
+            if (child != null) {
+                traversal.visit(child);
+            }
+        }
+    }
+
+    /**
+     * 按路径状态执行完整计划：路径规则优先于按名称的规则，其余字段沿用名称规则与字段注解
+     *
+     * @param target    目标对象
+     * @param traversal 当前遍历
+     * @param state     进入该对象时的路径状态
+     * @param named     同一类型在名称规则下的计划，用于判断死状态子节点是否仍需遍历（排除字段不在其中）
+     */
+    void executePath(Object target, MaskingTraversal traversal, FieldPathAutomaton.State state,
+                     MaskingPlan named) throws Throwable {
+        for (StringSlot slot : strings) {
+            String value = (String) slot.getter.invokeExact(target);
+            if (value == null) {
+                continue;
+            }
+            MaskingHandler handler = traversal.resolve(slot.name, state.next(slot.name),
+                    slot.byName, slot.annotationHandler);
+            if (handler != null) {
+                slot.setter.invokeExact(target, handler.getMaskingValue(value));
+                traversal.onMasked();
+            }
+        }
+        for (ChildSlot slot : children) {
+            FieldPathAutomaton.State next = state.next(slot.name);
+            if (next.isDead() && !named.hasChild(slot.name)) {
+                continue;
+            }
+            Object child = slot.getter.invokeExact(target);
+            if (child != null) {
+                traversal.visit(child, next);
+            }
+        }
+    }
+
+    private boolean hasChild(String name) {
+        for (ChildSlot slot : children) {
+            if (slot.name.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 需要脱敏的 String 字段
+     */
+    static final class StringSlot {
+
+        final String name;
+        final boolean byName;
+        final MaskingHandler annotationHandler;
+        final MethodHandle getter;
+        final MethodHandle setter;
+
+        StringSlot(String name, boolean byName, MaskingHandler annotationHandler,
+                   MethodHandle getter, MethodHandle setter) {
+            this.name = name;
+            this.byName = byName;
+            this.annotationHandler = annotationHandler;
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
+    /**
+     * 可能包含脱敏字段的子节点
+     */
+    static final class ChildSlot {
+
+        final String name;
+        final MethodHandle getter;
+
+        ChildSlot(String name, MethodHandle getter) {
+            this.name = name;
+            this.getter = getter;
+        }
+    }
+}
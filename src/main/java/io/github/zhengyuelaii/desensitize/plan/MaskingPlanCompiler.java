@@ -0,0 +1,497 @@
+package io.github.zhengyuelaii.desensitize.plan;
+
+import io.github.zhengyuelaii.desensitize.cache.BoundedMaskingMetadataCache;
+import io.github.zhengyuelaii.desensitize.cache.MaskingMetadataCache;
+import io.github.zhengyuelaii.desensitize.core.annotation.MaskingField;
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandlerFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 脱敏执行计划编译器
+ * <p>
+ * 按（类型，脱敏规则）编译 {@link MaskingPlan} 并缓存。规则只影响计划的结构（哪些字段按名称脱敏、
+ * 哪些字段被排除），处理器实例在执行时从当前请求的规则中获取。
+ * 静态类型中不可能包含脱敏字段的子树（如 JDK 值类型、元素类型为无脱敏字段的 final 类的集合）在编译期剪除；
+ * 非 final 的声明类型可能承载声明了脱敏字段的子类，与 Object、接口或抽象类一样按运行时类型分派，不做剪除。
+ * 与核心库一致，排除字段（包括非 String 字段）连同其子树一起跳过。
+ * 编译结果存放在 {@link MaskingMetadataCache} 中，以规则为限定键，容量与淘汰策略由缓存实现决定。
+ * 路径形式的规则（如 {@code data.records[*].mobile}）编译为 {@link FieldPathAutomaton}，不参与按名称的剪除判断。
+ * </p>
+ * <p>
+ * 设置 {@link SerializedPropertyResolver} 后，计划剪除在当前序列化视图下不会被写出的对象子树，
+ * 视图作为规则键的一部分参与缓存。String 字段不参与剪除，被忽略的脱敏字段仍可能经由其他属性的 getter 写出。
+ * </p>
+ * <p>
+ * 设置 {@link GeneratedMaskingAccessors} 后，存在编译期生成访问器的字段通过生成的代码直接读写，其余字段仍使用反射。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MaskingPlanCompiler {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType STRING_GETTER_TYPE = MethodType.methodType(String.class, Object.class);
+    private static final MethodType STRING_SETTER_TYPE = MethodType.methodType(void.class, Object.class, String.class);
+
+    private static final MethodHandle FUNCTION_APPLY;
+    private static final MethodHandle CONSUMER_ACCEPT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            FUNCTION_APPLY = lookup.findVirtual(Function.class, "apply",
+                    MethodType.methodType(Object.class, Object.class));
+            CONSUMER_ACCEPT = lookup.findVirtual(BiConsumer.class, "accept",
+                    MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * 默认元数据缓存容量
+     */
+    public static final int DEFAULT_CACHE_SIZE = 4096;
+
+    private final MaskingMetadataCache metadataCache;
+
+    private final Map<RuleKey, PlanSet> planSets = new ConcurrentReferenceHashMap<>();
+
+    private volatile SerializedPropertyResolver serializedPropertyResolver;
+
+    private volatile GeneratedMaskingAccessors generatedAccessors = GeneratedMaskingAccessors.EMPTY;
+
+    public MaskingPlanCompiler() {
+        this(new BoundedMaskingMetadataCache(DEFAULT_CACHE_SIZE));
+    }
+
+    public MaskingPlanCompiler(MaskingMetadataCache metadataCache) {
+        this.metadataCache = metadataCache;
+    }
+
+    /**
+     * 获取指定规则下的执行计划集合
+     *
+     * @param ruleFields     按名称脱敏的字段
+     * @param excludedFields 排除脱敏的字段
+     * @return 执行计划集合
+     */
+    public PlanSet getPlans(Set<String> ruleFields, Set<String> excludedFields) {
+        return getPlans(ruleFields, excludedFields, null);
+    }
+
+    /**
+     * 获取指定规则与序列化视图下的执行计划集合
+     *
+     * @param ruleFields     按名称脱敏的字段
+     * @param excludedFields 排除脱敏的字段
+     * @param view           序列化视图，未设置 {@link SerializedPropertyResolver} 时忽略
+     * @return 执行计划集合
+     */
+    public PlanSet getPlans(Set<String> ruleFields, Set<String> excludedFields, Class<?> view) {
+        SerializedPropertyResolver resolver = serializedPropertyResolver;
+        RuleKey key = new RuleKey(ruleFields, excludedFields, resolver != null ? view : null);
+        PlanSet plans = planSets.get(key);
+        if (plans == null) {
+            plans = planSets.computeIfAbsent(key,
+                    rules -> new PlanSet(rules, metadataCache, resolver, generatedAccessors));
+        }
+        return plans;
+    }
+
+    /**
+     * 设置序列化属性解析，已编译的计划随之清除
+     *
+     * @param serializedPropertyResolver 序列化属性解析，null 表示遍历全部字段
+     */
+    public void setSerializedPropertyResolver(SerializedPropertyResolver serializedPropertyResolver) {
+        this.serializedPropertyResolver = serializedPropertyResolver;
+        clear();
+    }
+
+    public SerializedPropertyResolver getSerializedPropertyResolver() {
+        return serializedPropertyResolver;
+    }
+
+    /**
+     * 设置编译期生成的字段访问器，已编译的计划随之清除
+     *
+     * @param generatedAccessors 生成的访问器，null 表示全部使用反射
+     */
+    public void setGeneratedAccessors(GeneratedMaskingAccessors generatedAccessors) {
+        this.generatedAccessors = generatedAccessors != null ? generatedAccessors : GeneratedMaskingAccessors.EMPTY;
+        clear();
+    }
+
+    public GeneratedMaskingAccessors getGeneratedAccessors() {
+        return generatedAccessors;
+    }
+
+    public void clear() {
+        planSets.clear();
+        metadataCache.clear();
+    }
+
+    public MaskingMetadataCache getMetadataCache() {
+        return metadataCache;
+    }
+
+    /**
+     * 是否为不可能包含脱敏字段的叶子类型
+     *
+     * @param type 类型
+     * @return 叶子类型返回 true
+     */
+    public static boolean isLeafType(Class<?> type) {
+        if (type.isPrimitive() || type.isEnum() || type == String.class) {
+            return true;
+        }
+        if (type == Object.class || type.isArray() || Map.class.isAssignableFrom(type)
+                || Iterable.class.isAssignableFrom(type) || Iterator.class.isAssignableFrom(type)) {
+            return false;
+        }
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            // Serializable、Comparable、Number 等声明类型可能承载任意实现类
+            return false;
+        }
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.");
+    }
+
+    /**
+     * 同一规则下的执行计划集合
+     */
+    public static final class PlanSet {
+
+        private final RuleKey rules;
+
+        private final MaskingMetadataCache cache;
+
+        private final Set<String> nameFields;
+
+        private final Set<String> nameExcludedFields;
+
+        private final FieldPathAutomaton paths;
+
+        private final FullPlanKey fullPlanKey;
+
+        private final SerializedPropertyResolver serializedPropertyResolver;
+
+        private final GeneratedMaskingAccessors generatedAccessors;
+
+        PlanSet(RuleKey rules, MaskingMetadataCache cache, SerializedPropertyResolver serializedPropertyResolver,
+                GeneratedMaskingAccessors generatedAccessors) {
+            this.rules = rules;
+            this.cache = cache;
+            this.serializedPropertyResolver = serializedPropertyResolver;
+            this.generatedAccessors = generatedAccessors;
+            this.paths = FieldPathAutomaton.compile(rules.ruleFields, rules.excludedFields);
+            this.nameFields = paths.isEmpty() ? rules.ruleFields : withoutPaths(rules.ruleFields);
+            this.nameExcludedFields = paths.isEmpty() ? rules.excludedFields : withoutPaths(rules.excludedFields);
+            this.fullPlanKey = new FullPlanKey(nameFields, rules.view);
+        }
+
+        /**
+         * 规则中路径形式的字段编译得到的自动机
+         *
+         * @return 自动机，无路径规则时为 {@link FieldPathAutomaton#NONE}
+         */
+        public FieldPathAutomaton getPaths() {
+            return paths;
+        }
+
+        /**
+         * 获取包含全部 String 字段与非叶子子节点的完整计划，供路径规则按字段名转移状态
+         *
+         * @param type 运行时类型
+         * @return 完整执行计划
+         */
+        MaskingPlan getFull(Class<?> type) {
+            MaskingPlan plan = (MaskingPlan) cache.get(type, fullPlanKey);
+            if (plan == null) {
+                plan = compileFull(type);
+                cache.put(type, fullPlanKey, plan);
+            }
+            return plan;
+        }
+
+        private MaskingPlan compileFull(Class<?> type) {
+            if (isLeafType(type) || type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+                return MaskingPlan.EMPTY;
+            }
+            Set<String> serialized = serializedFields(type);
+            List<MaskingPlan.StringSlot> strings = new ArrayList<>();
+            List<MaskingPlan.ChildSlot> children = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()
+                            || isNotSerialized(field, serialized)) {
+                        continue;
+                    }
+                    if (field.getType() == String.class) {
+                        MaskingField maskingField = field.getAnnotation(MaskingField.class);
+                        MethodHandle[] accessors = accessors(field, STRING_GETTER_TYPE, STRING_SETTER_TYPE);
+                        if (accessors != null) {
+                            strings.add(new MaskingPlan.StringSlot(field.getName(),
+                                    nameFields.contains(field.getName()), maskingField != null
+                                    ? MaskingHandlerFactory.getHandler(maskingField.typeHandler()) : null,
+                                    accessors[0], accessors[1]));
+                        }
+                    } else if (!field.getType().isPrimitive() && !isLeafType(field.getType())) {
+                        MethodHandle[] accessors = accessors(field, GETTER_TYPE, null);
+                        if (accessors != null) {
+                            children.add(new MaskingPlan.ChildSlot(field.getName(), accessors[0]));
+                        }
+                    }
+                }
+            }
+            return strings.isEmpty() && children.isEmpty() ? MaskingPlan.EMPTY
+                    : new MaskingPlan(type, strings.toArray(new MaskingPlan.StringSlot[0]),
+                    children.toArray(new MaskingPlan.ChildSlot[0]));
+        }
+
+        /**
+         * 当前视图下会被序列化的字段，未设置解析或无法判断时返回 null
+         */
+        private Set<String> serializedFields(Class<?> type) {
+            return serializedPropertyResolver != null
+                    ? serializedPropertyResolver.getSerializedFields(type, rules.view) : null;
+        }
+
+        /**
+         * 字段是否因不会被序列化而剪除。剪除只针对对象子树，String 字段始终保留：
+         * 注解或名称规则命中的字段可能经由其他属性（如 getter 返回该字段的值）写出，保留它们的代价很小
+         */
+        private static boolean isNotSerialized(Field field, Set<String> serialized) {
+            return serialized != null && field.getType() != String.class && !serialized.contains(field.getName());
+        }
+
+        private static Set<String> withoutPaths(Set<String> fields) {
+            Set<String> names = new HashSet<>();
+            for (String field : fields) {
+                if (!FieldPathAutomaton.isPath(field)) {
+                    names.add(field);
+                }
+            }
+            return names;
+        }
+
+        /**
+         * 获取类型对应的执行计划，首次访问时编译
+         *
+         * @param type 运行时类型
+         * @return 执行计划
+         */
+        public MaskingPlan get(Class<?> type) {
+            MaskingPlan plan = (MaskingPlan) cache.get(type, rules);
+            if (plan == null) {
+                plan = compile(type, new HashSet<>());
+            }
+            return plan;
+        }
+
+        private MaskingPlan compile(Class<?> type, Set<Class<?>> compiling) {
+            MaskingPlan cached = (MaskingPlan) cache.get(type, rules);
+            if (cached != null) {
+                return cached;
+            }
+            if (isLeafType(type) || type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+                cache.put(type, rules, MaskingPlan.EMPTY);
+                return MaskingPlan.EMPTY;
+            }
+            compiling.add(type);
+
+            Set<String> serialized = serializedFields(type);
+            List<MaskingPlan.StringSlot> strings = new ArrayList<>();
+            List<MaskingPlan.ChildSlot> children = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()
+                            || isNotSerialized(field, serialized)) {
+                        continue;
+                    }
+                    String name = field.getName();
+                    if (nameExcludedFields.contains(name)) {
+                        // 排除字段的整个子树都不脱敏
+                        continue;
+                    }
+                    if (field.getType() == String.class) {
+                        boolean byName = nameFields.contains(name);
+                        MaskingField maskingField = field.getAnnotation(MaskingField.class);
+                        MaskingHandler annotationHandler = maskingField != null
+                                ? MaskingHandlerFactory.getHandler(maskingField.typeHandler()) : null;
+                        if (!byName && annotationHandler == null) {
+                            continue;
+                        }
+                        MethodHandle[] accessors = accessors(field, STRING_GETTER_TYPE, STRING_SETTER_TYPE);
+                        if (accessors != null) {
+                            strings.add(new MaskingPlan.StringSlot(name, byName, annotationHandler,
+                                    accessors[0], accessors[1]));
+                        }
+                    } else if (!isPrunable(ResolvableType.forField(field, type), compiling)) {
+                        MethodHandle[] accessors = accessors(field, GETTER_TYPE, null);
+                        if (accessors != null) {
+                            children.add(new MaskingPlan.ChildSlot(name, accessors[0]));
+                        }
+                    }
+                }
+            }
+
+            compiling.remove(type);
+            MaskingPlan plan = strings.isEmpty() && children.isEmpty() ? MaskingPlan.EMPTY
+                    : new MaskingPlan(type, strings.toArray(new MaskingPlan.StringSlot[0]),
+                    children.toArray(new MaskingPlan.ChildSlot[0]));
+            cache.put(type, rules, plan);
+            return plan;
+        }
+
+        private boolean isPrunable(ResolvableType type, Set<Class<?>> compiling) {
+            Class<?> raw = type.resolve(Object.class);
+            if (raw.isArray()) {
+                return raw.getComponentType().isPrimitive() || isPrunable(type.getComponentType(), compiling);
+            }
+            if (Map.class.isAssignableFrom(raw)) {
+                // Map 可按键名脱敏
+                return nameFields.isEmpty() && isPrunable(type.asMap().getGeneric(1), compiling);
+            }
+            if (Iterable.class.isAssignableFrom(raw) || Iterator.class.isAssignableFrom(raw)) {
+                ResolvableType element = Iterable.class.isAssignableFrom(raw)
+                        ? type.as(Iterable.class).getGeneric(0) : type.as(Iterator.class).getGeneric(0);
+                return isPrunable(element, compiling);
+            }
+            if (isLeafType(raw)) {
+                return true;
+            }
+            if (raw == Object.class || raw.isInterface() || !Modifier.isFinal(raw.getModifiers())) {
+                // 运行时可能是声明了脱敏字段的子类
+                return false;
+            }
+            if (compiling.contains(raw)) {
+                // 递归类型，保守处理
+                return false;
+            }
+            return compile(raw, compiling).isEmpty();
+        }
+
+        private MethodHandle[] accessors(Field field, MethodType getterType, MethodType setterType) {
+            GeneratedMaskingAccessor generated = generatedAccessors.get(field.getDeclaringClass());
+            if (generated != null) {
+                MethodHandle[] handles = generatedAccessors(generated, field.getName(), getterType, setterType);
+                if (handles != null) {
+                    return handles;
+                }
+            }
+            try {
+                field.setAccessible(true);
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                MethodHandle getter = lookup.unreflectGetter(field).asType(getterType);
+                MethodHandle setter = setterType != null ? lookup.unreflectSetter(field).asType(setterType) : null;
+                return new MethodHandle[]{getter, setter};
+            } catch (IllegalAccessException | RuntimeException e) {
+                // 无法访问的字段（如模块封装、record 等不可写字段）
+                return null;
+            }
+        }
+
+        /**
+         * 将生成的读写器适配为计划使用的方法句柄，缺少所需的读写器时返回 null
+         */
+        private static MethodHandle[] generatedAccessors(GeneratedMaskingAccessor generated, String name,
+                                                         MethodType getterType, MethodType setterType) {
+            Function<Object, Object> getter = generated.getter(name);
+            BiConsumer<Object, String> setter = setterType != null ? generated.setter(name) : null;
+            if (getter == null || (setterType != null && setter == null)) {
+                return null;
+            }
+            return new MethodHandle[]{FUNCTION_APPLY.bindTo(getter).asType(getterType),
+                    setter != null ? CONSUMER_ACCEPT.bindTo(setter).asType(setterType) : null};
+        }
+    }
+
+    /**
+     * 完整计划的限定键，仅取决于按名称脱敏的字段与序列化视图
+     */
+    static final class FullPlanKey {
+
+        private final Set<String> nameFields;
+        private final Class<?> view;
+
+        FullPlanKey(Set<String> nameFields, Class<?> view) {
+            this.nameFields = nameFields;
+            this.view = view;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FullPlanKey)) {
+                return false;
+            }
+            FullPlanKey other = (FullPlanKey) o;
+            return nameFields.equals(other.nameFields) && Objects.equals(view, other.view);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 + nameFields.hashCode()) + Objects.hashCode(view);
+        }
+    }
+
+    /**
+     * 规则键：按名称脱敏的字段、排除字段与序列化视图
+     */
+    static final class RuleKey {
+
+        final Set<String> ruleFields;
+        final Set<String> excludedFields;
+        final Class<?> view;
+        private final int hash;
+
+        RuleKey(Set<String> ruleFields, Set<String> excludedFields, Class<?> view) {
+            this.ruleFields = ruleFields != null ? ruleFields : Collections.emptySet();
+            this.excludedFields = excludedFields != null ? excludedFields : Collections.emptySet();
+            this.view = view;
+            this.hash = Objects.hash(this.ruleFields, this.excludedFields, view);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RuleKey)) {
+                return false;
+            }
+            RuleKey other = (RuleKey) o;
+            return ruleFields.equals(other.ruleFields) && excludedFields.equals(other.excludedFields)
+                    && Objects.equals(view, other.view);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package io.github.zhengyuelaii.desensitize.plan;
+
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+import io.github.zhengyuelaii.desensitize.handler.MaskingHandlerDecorator;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 单次脱敏遍历
+ * <p>
+ * 按运行时类型分派到对应的 {@link MaskingPlan}，Map、集合、迭代器与数组逐元素展开；
+ * 存在路径规则时同时携带 {@link FieldPathAutomaton} 状态，处于死状态的分支退回名称规则下的计划。
+ * 以对象标识记录已访问节点，避免循环引用导致的无限递归；可通过 {@link TraversalLimits} 限制深度、对象数与容器大小，
+ * 通过 {@link TraversalGuard} 跳过不应遍历的节点（如未初始化的延迟加载代理）。
+ * 非线程安全，每次脱敏创建一个实例；并行脱敏的各分片通过 {@link SharedTraversalState} 共享已访问节点与限制计数。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MaskingTraversal {
+
+    private final MaskingPlanCompiler.PlanSet plans;
+
+    private final Map<String, MaskingHandler> handlers;
+
+    private final Set<String> excludedFields;
+
+    private final MaskingHandlerDecorator decorator;
+
+    private final TraversalLimits limits;
+
+    private final TraversalGuard guard;
+
+    private final Map<Object, Boolean> visited = new IdentityHashMap<>();
+
+    private final SharedTraversalState shared;
+
+    private long enteredObjects;
+
+    private long maskedFields;
+
+    private long skippedNodes;
+
+    private int depth;
+
+    private boolean stopped;
+
+    private TraversalLimits.Limit truncation;
+
+    MaskingTraversal(MaskingPlanCompiler.PlanSet plans, Map<String, MaskingHandler> handlers,
+                     Set<String> excludedFields, MaskingHandlerDecorator decorator, TraversalLimits limits,
+                     TraversalGuard guard) {
+        this(plans, handlers, excludedFields, decorator, limits, guard, null, 0);
+    }
+
+    MaskingTraversal(MaskingPlanCompiler.PlanSet plans, Map<String, MaskingHandler> handlers,
+                     Set<String> excludedFields, MaskingHandlerDecorator decorator, TraversalLimits limits,
+                     TraversalGuard guard, SharedTraversalState shared, int depth) {
+        this.shared = shared;
+        this.depth = depth;
+        this.plans = plans;
+        this.handlers = handlers;
+        this.excludedFields = excludedFields;
+        this.decorator = decorator;
+        this.limits = limits;
+        this.guard = guard;
+    }
+
+    Map<String, MaskingHandler> getHandlers() {
+        return handlers;
+    }
+
+    MaskingHandler decorate(String field, MaskingHandler handler) {
+        return decorator != null ? decorator.decorate(field, handler) : handler;
+    }
+
+    void onMasked() {
+        maskedFields++;
+    }
+
+    /**
+     * 从根节点开始遍历，存在路径规则时以自动机初始状态进入
+     *
+     * @param data 待脱敏数据
+     * @throws Throwable 字段读写异常
+     */
+    void visitRoot(Object data) throws Throwable {
+        visit(data, plans.getPaths().start());
+    }
+
+    /**
+     * 访问根容器的一个分片，元素沿用根节点的路径状态
+     *
+     * @param elements 分片元素
+     * @throws Throwable 字段读写异常
+     */
+    void visitElements(Iterable<?> elements) throws Throwable {
+        visitElements(elements.iterator(), plans.getPaths().start());
+    }
+
+    /**
+     * 访问不在任何路径规则上的节点
+     *
+     * @param value 节点对象
+     * @throws Throwable 字段读写异常
+     */
+    void visit(Object value) throws Throwable {
+        visit(value, FieldPathAutomaton.State.DEAD);
+    }
+
+    /**
+     * 访问节点
+     *
+     * @param value 节点对象
+     * @param state 路径状态，集合与数组元素沿用当前状态
+     * @throws Throwable 字段读写异常
+     */
+    void visit(Object value, FieldPathAutomaton.State state) throws Throwable {
+        if (value == null || value instanceof String || isStopped()) {
+            return;
+        }
+        if (guard != TraversalGuard.NONE && !guard.canTraverse(value)) {
+            skippedNodes++;
+            return;
+        }
+        Class<?> type = value.getClass();
+        if (value instanceof Map) {
+            if (enter(value)) {
+                visitMap((Map<?, ?>) value, state);
+                depth--;
+            }
+        } else if (value instanceof Iterable) {
+            if (enter(value)) {
+                visitElements(((Iterable<?>) value).iterator(), state);
+                depth--;
+            }
+        } else if (value instanceof Iterator) {
+            if (enter(value)) {
+                visitElements((Iterator<?>) value, state);
+                depth--;
+            }
+        } else if (type.isArray()) {
+            if (!type.getComponentType().isPrimitive() && enter(value)) {
+                Object[] array = (Object[]) value;
+                int size = array.length;
+                if (size > limits.maxCollectionSize) {
+                    size = limits.maxCollectionSize;
+                    truncate(TraversalLimits.Limit.COLLECTION_SIZE);
+                }
+                for (int i = 0; i < size && !isStopped(); i++) {
+                    visit(array[i], state);
+                }
+                depth--;
+            }
+        } else if (state.isDead()) {
+            MaskingPlan plan = plans.get(type);
+            if (!plan.isEmpty() && enter(value)) {
+                plan.execute(value, this);
+                depth--;
+            }
+        } else {
+            MaskingPlan full = plans.getFull(type);
+            if (!full.isEmpty() && enter(value)) {
+                full.executePath(value, this, state, plans.get(type));
+                depth--;
+            }
+        }
+    }
+
+    private void visitElements(Iterator<?> iterator, FieldPathAutomaton.State state) throws Throwable {
+        int count = 0;
+        while (iterator.hasNext() && !isStopped()) {
+            if (count++ == limits.maxCollectionSize) {
+                truncate(TraversalLimits.Limit.COLLECTION_SIZE);
+                break;
+            }
+            visit(iterator.next(), state);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void visitMap(Map<?, ?> map, FieldPathAutomaton.State state) throws Throwable {
+        int count = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (isStopped()) {
+                break;
+            }
+            if (count++ == limits.maxCollectionSize) {
+                truncate(TraversalLimits.Limit.COLLECTION_SIZE);
+                break;
+            }
+            Object key = entry.getKey();
+            Object value = entry.getValue();
+            FieldPathAutomaton.State next = key instanceof String
+                    ? state.next((String) key) : FieldPathAutomaton.State.DEAD;
+            if (value instanceof String && key instanceof String) {
+                MaskingHandler handler = resolve((String) key, next, true, null);
+                if (handler != null) {
+                    ((Map.Entry<Object, Object>) entry).setValue(handler.getMaskingValue((String) value));
+                    maskedFields++;
+                }
+            } else if (!(next.isDead() && key instanceof String && excludedFields.contains(key))) {
+                // 排除键对应的子树不脱敏
+                visit(value, next);
+            }
+        }
+    }
+
+    /**
+     * 确定字段生效的处理器：路径排除 &gt; 路径规则 &gt; 名称排除 &gt; 名称规则 &gt; 字段注解
+     *
+     * @param name              字段名或 Map 键
+     * @param state             经过该字段后的路径状态
+     * @param byName            是否存在同名的名称规则
+     * @param annotationHandler 字段注解声明的处理器
+     * @return 经装饰的处理器，不需要脱敏时返回 null
+     */
+    MaskingHandler resolve(String name, FieldPathAutomaton.State state, boolean byName,
+                           MaskingHandler annotationHandler) {
+        if (state.isExcluded()) {
+            return null;
+        }
+        MaskingHandler handler = state.getHandlerKey() != null ? handlers.get(state.getHandlerKey()) : null;
+        if (handler == null) {
+            if (excludedFields.contains(name)) {
+                return null;
+            }
+            handler = byName ? handlers.get(name) : null;
+            if (handler == null) {
+                handler = annotationHandler;
+            }
+        }
+        return handler != null ? decorate(name, handler) : null;
+    }
+
+    /**
+     * 进入节点：以对象标识去重（循环引用只访问一次），并检查深度与对象数限制；进入成功后深度加一
+     */
+    private boolean enter(Object value) {
+        if (shared != null ? !shared.add(value) : visited.put(value, Boolean.TRUE) != null) {
+            return false;
+        }
+        if (depth >= limits.maxDepth) {
+            forget(value);
+            truncate(TraversalLimits.Limit.DEPTH);
+            return false;
+        }
+        if ((shared != null ? shared.size() : visited.size()) > limits.maxObjects) {
+            forget(value);
+            truncate(TraversalLimits.Limit.OBJECTS);
+            return false;
+        }
+        enteredObjects++;
+        depth++;
+        return true;
+    }
+
+    private void forget(Object value) {
+        if (shared != null) {
+            shared.remove(value);
+        } else {
+            visited.remove(value);
+        }
+    }
+
+    private boolean isStopped() {
+        return stopped || (shared != null && shared.isStopped());
+    }
+
+    /**
+     * 超出限制：SKIP 跳过当前子树，STOP 终止遍历，FAIL 抛出异常
+     */
+    private void truncate(TraversalLimits.Limit limit) {
+        if (truncation == null) {
+            truncation = limit;
+        }
+        switch (limits.action) {
+            case FAIL:
+                throw new TraversalLimitExceededException(limit, limits);
+            case STOP:
+                stopped = true;
+                if (shared != null) {
+                    shared.stop();
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * 本次遍历访问的对象数（Bean、Map、集合、迭代器与数组）
+     *
+     * @return 访问对象数
+     */
+    public long getVisitedObjects() {
+        return enteredObjects;
+    }
+
+    public long getMaskedFields() {
+        return maskedFields;
+    }
+
+    /**
+     * 被 {@link TraversalGuard} 跳过的节点数
+     *
+     * @return 跳过的节点数
+     */
+    public long getSkippedNodes() {
+        return skippedNodes;
+    }
+
+    /**
+     * 本次遍历是否因超出限制被截断
+     *
+     * @return 首个触发的限制，未截断时返回 null
+     */
+    public TraversalLimits.Limit getTruncation() {
+        return truncation;
+    }
+}
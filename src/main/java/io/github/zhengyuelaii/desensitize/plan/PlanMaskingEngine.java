@@ -0,0 +1,220 @@
+package io.github.zhengyuelaii.desensitize.plan;
+
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+import io.github.zhengyuelaii.desensitize.handler.MaskingHandlerDecorator;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 基于预编译执行计划的脱敏引擎
+ * <p>
+ * 与核心库的反射遍历语义一致：按字段名称匹配处理器、排除字段不脱敏、
+ * 未配置名称规则时使用字段上 {@code @MaskingField} 指定的处理器。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class PlanMaskingEngine {
+
+    private final MaskingPlanCompiler compiler;
+
+    private TraversalGuard traversalGuard = TraversalGuard.NONE;
+
+    public PlanMaskingEngine() {
+        this(new MaskingPlanCompiler());
+    }
+
+    public PlanMaskingEngine(MaskingPlanCompiler compiler) {
+        this.compiler = compiler;
+    }
+
+    /**
+     * 执行脱敏
+     *
+     * @param data           待脱敏数据
+     * @param handlers       按字段名称的脱敏处理器
+     * @param excludedFields 排除脱敏的字段
+     * @return 本次遍历结果
+     */
+    public MaskingTraversal mask(Object data, Map<String, MaskingHandler> handlers, Set<String> excludedFields) {
+        return mask(data, handlers, excludedFields, null);
+    }
+
+    /**
+     * 执行脱敏，生效的处理器（包括字段注解声明的处理器）在调用前经装饰器替换
+     *
+     * @param data           待脱敏数据
+     * @param handlers       按字段名称的脱敏处理器
+     * @param excludedFields 排除脱敏的字段
+     * @param decorator      处理器装饰器，可为 null
+     * @return 本次遍历结果
+     */
+    public MaskingTraversal mask(Object data, Map<String, MaskingHandler> handlers, Set<String> excludedFields,
+                                 MaskingHandlerDecorator decorator) {
+        return mask(data, handlers, excludedFields, decorator, TraversalLimits.NONE);
+    }
+
+    /**
+     * 在遍历限制内执行脱敏
+     *
+     * @param data           待脱敏数据
+     * @param handlers       按字段名称的脱敏处理器
+     * @param excludedFields 排除脱敏的字段
+     * @param decorator      处理器装饰器，可为 null
+     * @param limits         遍历限制
+     * @return 本次遍历结果
+     * @throws TraversalLimitExceededException 超出限制且处理方式为 FAIL
+     */
+    public MaskingTraversal mask(Object data, Map<String, MaskingHandler> handlers, Set<String> excludedFields,
+                                 MaskingHandlerDecorator decorator, TraversalLimits limits) {
+        return mask(data, handlers, excludedFields, decorator, limits, null);
+    }
+
+    /**
+     * 在遍历限制与序列化视图下执行脱敏，配置了 {@link SerializedPropertyResolver} 时跳过不会被序列化的字段
+     *
+     * @param data           待脱敏数据
+     * @param handlers       按字段名称的脱敏处理器
+     * @param excludedFields 排除脱敏的字段
+     * @param decorator      处理器装饰器，可为 null
+     * @param limits         遍历限制
+     * @param view           序列化视图（{@code @JsonView}），可为 null
+     * @return 本次遍历结果
+     * @throws TraversalLimitExceededException 超出限制且处理方式为 FAIL
+     */
+    public MaskingTraversal mask(Object data, Map<String, MaskingHandler> handlers, Set<String> excludedFields,
+                                 MaskingHandlerDecorator decorator, TraversalLimits limits, Class<?> view) {
+        Map<String, MaskingHandler> ruleHandlers = handlers != null ? handlers : Collections.emptyMap();
+        Set<String> excluded = excludedFields != null ? excludedFields : Collections.emptySet();
+        MaskingTraversal traversal = new MaskingTraversal(
+                compiler.getPlans(ruleHandlers.keySet(), excluded, view), ruleHandlers, excluded, decorator,
+                limits != null ? limits : TraversalLimits.NONE, traversalGuard);
+        try {
+            traversal.visitRoot(data);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to apply masking plan", e);
+        }
+        return traversal;
+    }
+
+    /**
+     * 创建并行脱敏共享的遍历状态，根容器计为已访问
+     *
+     * @param root 被切分的根集合或数组
+     * @return 共享遍历状态
+     */
+    public SharedTraversalState share(Object root) {
+        SharedTraversalState shared = new SharedTraversalState();
+        shared.add(root);
+        return shared;
+    }
+
+    /**
+     * 脱敏根容器的一个分片，可在多个线程中对同一共享状态并发调用
+     * <p>
+     * 元素按根容器中的元素处理（深度为 1），被多个分片共同引用的实例只处理一次，遍历限制按整个响应计算。
+     * </p>
+     *
+     * @param elements       分片元素
+     * @param shared         由 {@link #share(Object)} 创建的共享状态
+     * @param handlers       按字段名称的脱敏处理器
+     * @param excludedFields 排除脱敏的字段
+     * @param decorator      处理器装饰器，可为 null
+     * @param limits         遍历限制
+     * @param view           序列化视图，可为 null
+     * @return 本分片的遍历结果
+     * @throws TraversalLimitExceededException 超出限制且处理方式为 FAIL
+     */
+    public MaskingTraversal maskElements(Iterable<?> elements, SharedTraversalState shared,
+                                         Map<String, MaskingHandler> handlers, Set<String> excludedFields,
+                                         MaskingHandlerDecorator decorator, TraversalLimits limits, Class<?> view) {
+        Map<String, MaskingHandler> ruleHandlers = handlers != null ? handlers : Collections.emptyMap();
+        Set<String> excluded = excludedFields != null ? excludedFields : Collections.emptySet();
+        MaskingTraversal traversal = new MaskingTraversal(
+                compiler.getPlans(ruleHandlers.keySet(), excluded, view), ruleHandlers, excluded, decorator,
+                limits != null ? limits : TraversalLimits.NONE, traversalGuard, shared, 1);
+        try {
+            traversal.visitElements(elements);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to apply masking plan", e);
+        }
+        return traversal;
+    }
+
+    /**
+     * 预先编译类型在指定规则下的执行计划
+     *
+     * @param type           实体类型
+     * @param ruleFields     按名称脱敏的字段
+     * @param excludedFields 排除脱敏的字段
+     * @return 执行计划
+     */
+    public MaskingPlan warmUp(Class<?> type, Set<String> ruleFields, Set<String> excludedFields) {
+        return warmUp(type, ruleFields, excludedFields, null);
+    }
+
+    /**
+     * 预先编译类型在指定规则与序列化视图下的执行计划
+     *
+     * @param type           实体类型
+     * @param ruleFields     按名称脱敏的字段
+     * @param excludedFields 排除脱敏的字段
+     * @param view           序列化视图（{@code @JsonView}），可为 null
+     * @return 执行计划
+     */
+    public MaskingPlan warmUp(Class<?> type, Set<String> ruleFields, Set<String> excludedFields, Class<?> view) {
+        return compiler.getPlans(ruleFields, excludedFields, view).get(type);
+    }
+
+    /**
+     * 设置遍历守卫，对之后的每次遍历生效
+     *
+     * @param traversalGuard 遍历守卫，null 表示不限制
+     */
+    public void setTraversalGuard(TraversalGuard traversalGuard) {
+        this.traversalGuard = traversalGuard != null ? traversalGuard : TraversalGuard.NONE;
+    }
+
+    public TraversalGuard getTraversalGuard() {
+        return traversalGuard;
+    }
+
+    /**
+     * 是否配置了遍历守卫
+     *
+     * @return 存在守卫时返回 true
+     */
+    public boolean hasTraversalGuard() {
+        return traversalGuard != TraversalGuard.NONE;
+    }
+
+    /**
+     * 是否按序列化属性剪除遍历
+     *
+     * @return 编译器配置了 {@link SerializedPropertyResolver} 时返回 true
+     */
+    public boolean isSerializationAware() {
+        return compiler.getSerializedPropertyResolver() != null;
+    }
+
+    /**
+     * 是否存在编译期生成的字段访问器
+     *
+     * @return 编译器加载了生成的访问器时返回 true
+     */
+    public boolean hasGeneratedAccessors() {
+        return !compiler.getGeneratedAccessors().isEmpty();
+    }
+
+    public MaskingPlanCompiler getCompiler() {
+        return compiler;
+    }
+}
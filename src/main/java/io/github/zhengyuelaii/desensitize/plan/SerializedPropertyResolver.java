@@ -0,0 +1,27 @@
+package io.github.zhengyuelaii.desensitize.plan;
+
+import java.util.Set;
+
+/**
+ * 序列化属性解析
+ * <p>
+ * 给出类型在指定序列化视图下实际会被写出的字段，执行计划编译时只保留这些字段，
+ * 跳过 {@code @JsonIgnore}、{@code transient} 或不在当前视图中的属性及其子树。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface SerializedPropertyResolver {
+
+    /**
+     * 获取会被序列化的字段名
+     *
+     * @param type 实体类型
+     * @param view 序列化视图，null 表示未指定
+     * @return 字段名集合；无法判断（如自定义序列化器）时返回 null，此时遍历全部字段
+     */
+    Set<String> getSerializedFields(Class<?> type, Class<?> view);
+}
@@ -0,0 +1,88 @@
+package io.github.zhengyuelaii.desensitize.plan;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 多个线程共享的遍历状态
+ * <p>
+ * 并行脱敏同一响应的不同分片时，各分片遍历共享按对象标识记录的已访问节点、访问对象数与停止标记：
+ * 被多个元素共同引用的实例只由首个到达的线程处理一次，遍历限制按整个响应计算。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class SharedTraversalState {
+
+    private final Map<IdentityKey, Boolean> visited = new ConcurrentHashMap<>();
+
+    private final AtomicInteger objects = new AtomicInteger();
+
+    private volatile boolean stopped;
+
+    SharedTraversalState() {
+    }
+
+    /**
+     * 记录访问，已被任一线程访问时返回 false
+     */
+    boolean add(Object value) {
+        if (visited.putIfAbsent(new IdentityKey(value), Boolean.TRUE) != null) {
+            return false;
+        }
+        objects.incrementAndGet();
+        return true;
+    }
+
+    void remove(Object value) {
+        if (visited.remove(new IdentityKey(value)) != null) {
+            objects.decrementAndGet();
+        }
+    }
+
+    int size() {
+        return objects.get();
+    }
+
+    boolean isStopped() {
+        return stopped;
+    }
+
+    void stop() {
+        stopped = true;
+    }
+
+    /**
+     * 已访问的对象数
+     *
+     * @return 访问对象数
+     */
+    public int getVisitedObjects() {
+        return objects.get();
+    }
+
+    /**
+     * 按对象标识比较的键
+     */
+    private static final class IdentityKey {
+
+        private final Object value;
+
+        IdentityKey(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof IdentityKey && ((IdentityKey) o).value == value);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value);
+        }
+    }
+}
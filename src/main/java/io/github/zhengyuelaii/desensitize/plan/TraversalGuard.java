@@ -0,0 +1,65 @@
+package io.github.zhengyuelaii.desensitize.plan;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 遍历守卫
+ * <p>
+ * 在进入每个非字符串节点前调用，返回 false 的节点及其子树不再遍历，如 ORM 中尚未初始化的延迟加载代理与集合：
+ * 遍历它们会在写出响应前触发额外查询，而序列化时通常也不会输出。
+ * 注册为 Spring Bean 即可生效，多个守卫任一拒绝即跳过。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface TraversalGuard {
+
+    /**
+     * 允许遍历所有节点
+     */
+    TraversalGuard NONE = value -> true;
+
+    /**
+     * 是否允许进入节点
+     *
+     * @param value 节点对象，非 null 且不是字符串
+     * @return 允许遍历时返回 true
+     */
+    boolean canTraverse(Object value);
+
+    /**
+     * 组合多个守卫
+     *
+     * @param guards 守卫列表，可为 null
+     * @return 任一守卫拒绝即拒绝的组合守卫；为空时返回 {@link #NONE}
+     */
+    static TraversalGuard composite(List<? extends TraversalGuard> guards) {
+        List<TraversalGuard> effective = new ArrayList<>();
+        if (guards != null) {
+            for (TraversalGuard guard : guards) {
+                if (guard != null && guard != NONE) {
+                    effective.add(guard);
+                }
+            }
+        }
+        if (effective.isEmpty()) {
+            return NONE;
+        }
+        if (effective.size() == 1) {
+            return effective.get(0);
+        }
+        TraversalGuard[] array = effective.toArray(new TraversalGuard[0]);
+        return value -> {
+            for (TraversalGuard guard : array) {
+                if (!guard.canTraverse(value)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+}
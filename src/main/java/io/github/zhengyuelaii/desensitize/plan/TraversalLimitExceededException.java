@@ -0,0 +1,24 @@
+package io.github.zhengyuelaii.desensitize.plan;
+
+/**
+ * 遍历超出限制且处理方式为 {@link io.github.zhengyuelaii.desensitize.config.TraversalLimitAction#FAIL} 时抛出
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class TraversalLimitExceededException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final TraversalLimits.Limit limit;
+
+    public TraversalLimitExceededException(TraversalLimits.Limit limit, TraversalLimits limits) {
+        super("Masking traversal exceeded " + limit + " limit: " + limits);
+        this.limit = limit;
+    }
+
+    public TraversalLimits.Limit getLimit() {
+        return limit;
+    }
+}
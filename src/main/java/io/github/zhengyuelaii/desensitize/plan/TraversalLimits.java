@@ -0,0 +1,95 @@
+package io.github.zhengyuelaii.desensitize.plan;
+
+import io.github.zhengyuelaii.desensitize.config.TraversalLimitAction;
+
+/**
+ * 遍历限制
+ * <p>
+ * 限制单次遍历的深度、访问对象数与单个容器的元素数，用于防止超大对象图或深层双向关联导致的栈溢出与过度遍历。
+ * 小于等于 0 的限制视为不限制。实例不可变，可在线程间共享。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class TraversalLimits {
+
+    /**
+     * 不做任何限制
+     */
+    public static final TraversalLimits NONE =
+            new TraversalLimits(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, TraversalLimitAction.SKIP);
+
+    /**
+     * 限制类型
+     */
+    public enum Limit {
+        DEPTH,              // 遍历深度
+        OBJECTS,            // 访问对象数
+        COLLECTION_SIZE,    // 单个容器元素数
+    }
+
+    final int maxDepth;
+
+    final int maxObjects;
+
+    final int maxCollectionSize;
+
+    final TraversalLimitAction action;
+
+    private TraversalLimits(int maxDepth, int maxObjects, int maxCollectionSize, TraversalLimitAction action) {
+        this.maxDepth = maxDepth;
+        this.maxObjects = maxObjects;
+        this.maxCollectionSize = maxCollectionSize;
+        this.action = action;
+    }
+
+    /**
+     * 创建遍历限制
+     *
+     * @param maxDepth          最大深度
+     * @param maxObjects        最多访问对象数
+     * @param maxCollectionSize 单个容器最多元素数
+     * @param action            超出限制时的处理方式，null 时为 SKIP
+     * @return 遍历限制，均不限制时返回 {@link #NONE}
+     */
+    public static TraversalLimits of(int maxDepth, int maxObjects, int maxCollectionSize, TraversalLimitAction action) {
+        if (maxDepth <= 0 && maxObjects <= 0 && maxCollectionSize <= 0) {
+            return NONE;
+        }
+        return new TraversalLimits(normalize(maxDepth), normalize(maxObjects), normalize(maxCollectionSize),
+                action != null ? action : TraversalLimitAction.SKIP);
+    }
+
+    private static int normalize(int limit) {
+        return limit > 0 ? limit : Integer.MAX_VALUE;
+    }
+
+    public boolean isUnlimited() {
+        return this == NONE;
+    }
+
+    /**
+     * 单个容器最多遍历的元素数
+     *
+     * @return 元素数，不限制时为 {@link Integer#MAX_VALUE}
+     */
+    public int getMaxCollectionSize() {
+        return maxCollectionSize;
+    }
+
+    public TraversalLimitAction getAction() {
+        return action;
+    }
+
+    @Override
+    public String toString() {
+        return "TraversalLimits{" +
+                "maxDepth=" + maxDepth +
+                ", maxObjects=" + maxObjects +
+                ", maxCollectionSize=" + maxCollectionSize +
+                ", action=" + action +
+                '}';
+    }
+}
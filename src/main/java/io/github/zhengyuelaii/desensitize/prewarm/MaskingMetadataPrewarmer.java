@@ -0,0 +1,188 @@
+package io.github.zhengyuelaii.desensitize.prewarm;
+
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingDefinition;
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingDefinitionCache;
+import io.github.zhengyuelaii.desensitize.annotation.IgnoreResponseMasking;
+import io.github.zhengyuelaii.desensitize.annotation.ResponseMasking;
+import io.github.zhengyuelaii.desensitize.plan.PlanMaskingEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 脱敏元数据预热
+ * <p>
+ * 应用就绪时在后台线程扫描所有标注 {@code @ResponseMasking} 的处理方法，预先构建 {@link ResponseMaskingDefinition}
+ * （包括注解解析与脱敏处理器实例化）；接口会使用执行计划引擎时，还会从泛型返回类型（如 {@code Result<Page<UserVO>>}）
+ * 中解析实体类型，按定义的 {@code @JsonView} 预先编译执行计划，避免发布后首批请求的延迟尖刺。
+ * </p>
+ * <p>
+ * 开启等待时，{@link ApplicationReadyEvent} 监听器会阻塞至预热完成（或超时），
+ * 应用在此之后才切换为可接收流量的就绪状态。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MaskingMetadataPrewarmer implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaskingMetadataPrewarmer.class);
+
+    /**
+     * 泛型展开的最大深度
+     */
+    private static final int MAX_GENERIC_DEPTH = 8;
+
+    private final Supplier<Collection<HandlerMethod>> handlerMethods;
+
+    private final ResponseMaskingDefinitionCache definitionCache;
+
+    private final PlanMaskingEngine planMaskingEngine;
+
+    private final Predicate<ResponseMaskingDefinition> usesPlanEngine;
+
+    private final boolean waitForCompletion;
+
+    private final Duration timeout;
+
+    /**
+     * @param handlerMethods    处理方法来源
+     * @param definitionCache   脱敏定义缓存
+     * @param planMaskingEngine 执行计划引擎，为 null 时不编译执行计划
+     * @param waitForCompletion 是否等待预热完成
+     * @param timeout           最长等待时间
+     */
+    public MaskingMetadataPrewarmer(Supplier<Collection<HandlerMethod>> handlerMethods,
+                                    ResponseMaskingDefinitionCache definitionCache,
+                                    PlanMaskingEngine planMaskingEngine,
+                                    boolean waitForCompletion, Duration timeout) {
+        this(handlerMethods, definitionCache, planMaskingEngine, definition -> true, waitForCompletion, timeout);
+    }
+
+    /**
+     * @param handlerMethods    处理方法来源
+     * @param definitionCache   脱敏定义缓存
+     * @param planMaskingEngine 执行计划引擎，为 null 时不编译执行计划
+     * @param usesPlanEngine    判断接口是否会使用执行计划引擎，仅为会使用的接口编译执行计划
+     * @param waitForCompletion 是否等待预热完成
+     * @param timeout           最长等待时间
+     */
+    public MaskingMetadataPrewarmer(Supplier<Collection<HandlerMethod>> handlerMethods,
+                                    ResponseMaskingDefinitionCache definitionCache,
+                                    PlanMaskingEngine planMaskingEngine,
+                                    Predicate<ResponseMaskingDefinition> usesPlanEngine,
+                                    boolean waitForCompletion, Duration timeout) {
+        this.handlerMethods = handlerMethods;
+        this.definitionCache = definitionCache;
+        this.planMaskingEngine = planMaskingEngine;
+        this.usesPlanEngine = usesPlanEngine;
+        this.waitForCompletion = waitForCompletion;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("easy-desensitize-prewarm-");
+        executor.setDaemon(true);
+        CompletableFuture<Integer> future = CompletableFuture.supplyAsync(this::prewarm, executor);
+        if (!waitForCompletion) {
+            return;
+        }
+        try {
+            future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Masking metadata pre-warming did not finish within {}", timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.warn("Masking metadata pre-warming failed", e);
+        }
+    }
+
+    /**
+     * 执行预热
+     *
+     * @return 预热的处理方法数
+     */
+    public int prewarm() {
+        long start = System.nanoTime();
+        int count = 0;
+        for (HandlerMethod handlerMethod : handlerMethods.get()) {
+            MethodParameter returnType = handlerMethod.getReturnType();
+            if (!isMasked(returnType)) {
+                continue;
+            }
+            try {
+                ResponseMaskingDefinition definition = definitionCache.get(returnType);
+                if (planMaskingEngine != null && usesPlanEngine.test(definition)) {
+                    for (Class<?> type : resolveEntityTypes(returnType)) {
+                        planMaskingEngine.warmUp(type, definition.getHandlers().keySet(),
+                                definition.getExcludedFields(), definition.getSerializationView());
+                    }
+                }
+                count++;
+            } catch (Exception e) {
+                logger.debug("Failed to pre-warm masking metadata for {}", handlerMethod, e);
+            }
+        }
+        logger.info("Pre-warmed masking metadata for {} endpoint(s) in {} ms", count,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return count;
+    }
+
+    private static boolean isMasked(MethodParameter returnType) {
+        Class<?> containingClass = returnType.getContainingClass();
+        if (returnType.hasMethodAnnotation(IgnoreResponseMasking.class)
+                || containingClass.isAnnotationPresent(IgnoreResponseMasking.class)) {
+            return false;
+        }
+        return returnType.hasMethodAnnotation(ResponseMasking.class)
+                || containingClass.isAnnotationPresent(ResponseMasking.class);
+    }
+
+    /**
+     * 从返回类型中解析所有具体类型（包括各级泛型参数与数组元素类型）
+     *
+     * @param returnType 返回值类型参数
+     * @return 具体类型集合
+     */
+    static Set<Class<?>> resolveEntityTypes(MethodParameter returnType) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        collect(ResolvableType.forMethodParameter(returnType), types, 0);
+        return types;
+    }
+
+    private static void collect(ResolvableType type, Set<Class<?>> types, int depth) {
+        if (depth > MAX_GENERIC_DEPTH || type == ResolvableType.NONE) {
+            return;
+        }
+        if (type.isArray()) {
+            collect(type.getComponentType(), types, depth + 1);
+            return;
+        }
+        Class<?> raw = type.resolve();
+        if (raw == null || raw == Object.class) {
+            return;
+        }
+        types.add(raw);
+        for (ResolvableType generic : type.getGenerics()) {
+            collect(generic, types, depth + 1);
+        }
+    }
+}
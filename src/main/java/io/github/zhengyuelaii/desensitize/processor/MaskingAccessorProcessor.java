@@ -0,0 +1,271 @@
+package io.github.zhengyuelaii.desensitize.processor;
+
+import io.github.zhengyuelaii.desensitize.plan.GeneratedMaskingAccessor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 生成字段访问器的注解处理器
+ * <p>
+ * 为声明了 {@code @MaskingField} 字段的类生成 {@link GeneratedMaskingAccessor} 实现，并登记到
+ * {@code META-INF/services}。非 private 字段直接访问，private 字段通过同名且类型与字段一致的 getter/setter 访问；
+ * 无法访问的字段与类（如 private 嵌套类、局部类）不生成，运行时回退到反射。
+ * </p>
+ * <p>
+ * 处理器不会自动注册，需要在编译插件中显式启用：
+ * {@code <annotationProcessors>io.github.zhengyuelaii.desensitize.processor.MaskingAccessorProcessor</annotationProcessors>}。
+ * 实体类修改后需要重新编译以更新生成的访问器。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@SupportedAnnotationTypes(MaskingAccessorProcessor.MASKING_FIELD)
+public class MaskingAccessorProcessor extends AbstractProcessor {
+
+    static final String MASKING_FIELD = "io.github.zhengyuelaii.desensitize.core.annotation.MaskingField";
+
+    static final String SUFFIX = "_MaskingAccessor";
+
+    static final String SERVICE_FILE = "META-INF/services/" + GeneratedMaskingAccessor.class.getName();
+
+    private final Set<String> processedTypes = new HashSet<>();
+
+    private final Set<String> generatedAccessors = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.FIELD) {
+                    continue;
+                }
+                TypeElement owner = (TypeElement) element.getEnclosingElement();
+                if (processedTypes.add(owner.getQualifiedName().toString()) && isAccessible(owner)) {
+                    generate(owner);
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !generatedAccessors.isEmpty()) {
+            writeServiceFile();
+        }
+        // 不独占注解，其他处理器仍可处理 @MaskingField
+        return false;
+    }
+
+    /**
+     * 生成的访问器与实体类位于同一包，类型自身及其外层类型均不能为 private
+     */
+    private boolean isAccessible(TypeElement owner) {
+        if (owner.getKind() != ElementKind.CLASS) {
+            return false;
+        }
+        for (Element current = owner; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            NestingKind nesting = ((TypeElement) current).getNestingKind();
+            if (current.getModifiers().contains(Modifier.PRIVATE)
+                    || nesting == NestingKind.LOCAL || nesting == NestingKind.ANONYMOUS) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "Masking accessor not generated for inaccessible type, reflection will be used", owner);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement owner) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(owner);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(owner).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                .replace('$', '_') + SUFFIX;
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        String ownerName = owner.getQualifiedName().toString();
+
+        Map<String, String> getters = new LinkedHashMap<>();
+        Map<String, String> setters = new LinkedHashMap<>();
+        TypeMirror stringType = processingEnv.getElementUtils().getTypeElement(String.class.getName()).asType();
+        List<ExecutableElement> methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(owner));
+        for (VariableElement field : ElementFilter.fieldsIn(owner.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC) || field.asType().getKind().isPrimitive()) {
+                continue;
+            }
+            String name = field.getSimpleName().toString();
+            boolean string = processingEnv.getTypeUtils().isSameType(field.asType(), stringType);
+            String target = "((" + ownerName + ") target)";
+            if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+                getters.put(name, target + "." + name);
+                if (string && !field.getModifiers().contains(Modifier.FINAL)) {
+                    setters.put(name, target + "." + name + " = value");
+                }
+                continue;
+            }
+            // getter 返回类型与 setter 参数类型必须与字段类型一致，否则不生成该字段
+            String property = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            ExecutableElement getter = findMethod(methods, packageName, "get" + property, field.asType(), false);
+            if (getter == null) {
+                getter = findMethod(methods, packageName, "is" + property, field.asType(), false);
+            }
+            ExecutableElement setter = string ? findMethod(methods, packageName, "set" + property, field.asType(), true)
+                    : null;
+            if (getter == null || (string && setter == null)) {
+                continue;
+            }
+            getters.put(name, target + "." + getter.getSimpleName() + "()");
+            if (setter != null) {
+                setters.put(name, target + "." + setter.getSimpleName() + "(value)");
+            }
+        }
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, owner).openWriter()) {
+            writer.write(source(packageName, simpleName, ownerName, getters, setters));
+            generatedAccessors.add(qualifiedName);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to generate masking accessor: " + e.getMessage(), owner);
+        }
+    }
+
+    /**
+     * 查找生成类可以调用的 getter（返回类型为 fieldType）或 setter（唯一参数类型为 fieldType）
+     */
+    private ExecutableElement findMethod(List<ExecutableElement> methods, String packageName, String name,
+                                         TypeMirror fieldType, boolean setter) {
+        Types types = processingEnv.getTypeUtils();
+        for (ExecutableElement method : methods) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (!method.getSimpleName().contentEquals(name) || modifiers.contains(Modifier.STATIC)
+                    || modifiers.contains(Modifier.PRIVATE) || method.getParameters().size() != (setter ? 1 : 0)) {
+                continue;
+            }
+            TypeMirror type = setter ? method.getParameters().get(0).asType() : method.getReturnType();
+            if (!types.isSameType(type, fieldType)) {
+                continue;
+            }
+            String declaringPackage = processingEnv.getElementUtils().getPackageOf(method).getQualifiedName().toString();
+            if (modifiers.contains(Modifier.PUBLIC) || declaringPackage.equals(packageName)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static String source(String packageName, String simpleName, String ownerName,
+                                 Map<String, String> getters, Map<String, String> setters) {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * ").append(ownerName).append(" 的字段访问器，由 ")
+                .append(MaskingAccessorProcessor.class.getSimpleName()).append(" 生成，请勿修改\n */\n")
+                .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+                .append("public final class ").append(simpleName)
+                .append(" implements ").append(GeneratedMaskingAccessor.class.getName()).append(" {\n\n")
+                .append("    @Override\n")
+                .append("    public Class<?> getType() {\n")
+                .append("        return ").append(ownerName).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public java.util.function.Function<Object, Object> getter(String field) {\n")
+                .append("        switch (field) {\n");
+        for (Map.Entry<String, String> getter : getters.entrySet()) {
+            source.append("            case \"").append(getter.getKey()).append("\":\n")
+                    .append("                return target -> ").append(getter.getValue()).append(";\n");
+        }
+        source.append("            default:\n")
+                .append("                return null;\n")
+                .append("        }\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public java.util.function.BiConsumer<Object, String> setter(String field) {\n")
+                .append("        switch (field) {\n");
+        for (Map.Entry<String, String> setter : setters.entrySet()) {
+            source.append("            case \"").append(setter.getKey()).append("\":\n")
+                    .append("                return (target, value) -> ").append(setter.getValue()).append(";\n");
+        }
+        source.append("            default:\n")
+                .append("                return null;\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * 增量编译时只处理了部分类型，合并已有服务文件中的登记，避免覆盖未重新编译的类型的访问器
+     */
+    private void writeServiceFile() {
+        Set<String> accessors = new TreeSet<>(generatedAccessors);
+        accessors.addAll(readServiceFile());
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String accessor : accessors) {
+                    writer.write(accessor);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * 读取上次编译输出的服务文件，不存在时返回空集合；已失效的登记由 ServiceLoader 加载时跳过
+     */
+    private Set<String> readServiceFile() {
+        Set<String> accessors = new HashSet<>();
+        try {
+            FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int comment = line.indexOf('#');
+                    String accessor = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                    if (!accessor.isEmpty()) {
+                        accessors.add(accessor);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // 首次编译时服务文件不存在
+        }
+        return accessors;
+    }
+}
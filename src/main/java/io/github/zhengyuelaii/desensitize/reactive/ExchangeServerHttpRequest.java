@@ -0,0 +1,115 @@
+package io.github.zhengyuelaii.desensitize.reactive;
+
+import org.springframework.core.AttributeAccessor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.ServerHttpAsyncRequestControl;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+
+/**
+ * 将 {@link ServerWebExchange} 适配为 {@link ServerHttpRequest}，使拦截器在 WebFlux 下可复用
+ * <p>
+ * 拦截器可通过 {@link #getExchange()} 获取原始的 {@link ServerWebExchange}；
+ * 属性读写直接作用于 exchange 的属性。请求体已被消费，{@link #getBody()} 不可用。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class ExchangeServerHttpRequest implements ServerHttpRequest, AttributeAccessor {
+
+    private final ServerWebExchange exchange;
+
+    public ExchangeServerHttpRequest(ServerWebExchange exchange) {
+        this.exchange = exchange;
+    }
+
+    public ServerWebExchange getExchange() {
+        return exchange;
+    }
+
+    @Override
+    public HttpMethod getMethod() {
+        return exchange.getRequest().getMethod();
+    }
+
+    @Override
+    public String getMethodValue() {
+        return exchange.getRequest().getMethodValue();
+    }
+
+    @Override
+    public URI getURI() {
+        return exchange.getRequest().getURI();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return exchange.getRequest().getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() {
+        throw new UnsupportedOperationException("Request body is not available in reactive masking");
+    }
+
+    /**
+     * WebFlux 下认证主体为异步获取，此处不可用，请通过 {@link ServerWebExchange#getPrincipal()} 获取
+     */
+    @Override
+    public Principal getPrincipal() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+        return exchange.getRequest().getLocalAddress();
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return exchange.getRequest().getRemoteAddress();
+    }
+
+    @Override
+    public ServerHttpAsyncRequestControl getAsyncRequestControl(ServerHttpResponse response) {
+        throw new UnsupportedOperationException("Async request control is not available in reactive masking");
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (value != null) {
+            exchange.getAttributes().put(name, value);
+        } else {
+            exchange.getAttributes().remove(name);
+        }
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return exchange.getAttribute(name);
+    }
+
+    @Override
+    public Object removeAttribute(String name) {
+        return exchange.getAttributes().remove(name);
+    }
+
+    @Override
+    public boolean hasAttribute(String name) {
+        return exchange.getAttributes().containsKey(name);
+    }
+
+    @Override
+    public String[] attributeNames() {
+        return exchange.getAttributes().keySet().toArray(new String[0]);
+    }
+}
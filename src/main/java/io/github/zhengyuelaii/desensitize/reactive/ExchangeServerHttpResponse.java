@@ -0,0 +1,56 @@
+package io.github.zhengyuelaii.desensitize.reactive;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.io.OutputStream;
+
+/**
+ * 将 {@link ServerWebExchange} 的响应适配为 {@link ServerHttpResponse}
+ * <p>
+ * 拦截器可修改响应头与状态码；响应体由 WebFlux 编码写出，{@link #getBody()} 不可用。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class ExchangeServerHttpResponse implements ServerHttpResponse {
+
+    private final ServerWebExchange exchange;
+
+    public ExchangeServerHttpResponse(ServerWebExchange exchange) {
+        this.exchange = exchange;
+    }
+
+    public ServerWebExchange getExchange() {
+        return exchange;
+    }
+
+    @Override
+    public void setStatusCode(HttpStatus status) {
+        exchange.getResponse().setStatusCode(status);
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return exchange.getResponse().getHeaders();
+    }
+
+    @Override
+    public OutputStream getBody() {
+        throw new UnsupportedOperationException("Response body is written by the reactive encoder");
+    }
+
+    @Override
+    public void flush() {
+        // 由 WebFlux 负责写出
+    }
+
+    @Override
+    public void close() {
+        // 由 WebFlux 负责写出
+    }
+}
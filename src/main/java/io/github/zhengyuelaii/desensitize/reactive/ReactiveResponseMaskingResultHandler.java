@@ -0,0 +1,192 @@
+package io.github.zhengyuelaii.desensitize.reactive;
+
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingProcessor;
+import io.github.zhengyuelaii.desensitize.streaming.ElementMasker;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerResult;
+import org.springframework.web.reactive.HandlerResultHandler;
+import org.springframework.web.reactive.result.method.annotation.ResponseBodyResultHandler;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityResultHandler;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * WebFlux 响应脱敏结果处理器
+ * <p>
+ * 排在 {@link ResponseEntityResultHandler} 与 {@link ResponseBodyResultHandler} 之前，对标注 {@code @ResponseMasking}
+ * 的接口先执行脱敏，再交由原处理器编码写出。{@code Mono} 与普通返回值按单个响应体处理；{@code Flux} 的脱敏规则与拦截器链
+ * 在订阅时只计算一次，元素发出时逐个脱敏。{@code ResponseEntity}/{@code HttpEntity} 只脱敏其响应体，状态码与响应头原样保留。
+ * 元素数（启用全局解析器时按解析后的数据计算）达到阈值的负载在指定调度器上脱敏，避免阻塞事件循环。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class ReactiveResponseMaskingResultHandler implements HandlerResultHandler, Ordered {
+
+    private final ResponseMaskingProcessor processor;
+
+    private final ResponseBodyResultHandler delegate;
+
+    private final ResponseEntityResultHandler entityDelegate;
+
+    private final Scheduler scheduler;
+
+    private final int offloadThreshold;
+
+    public ReactiveResponseMaskingResultHandler(ResponseMaskingProcessor processor, ResponseBodyResultHandler delegate,
+                                                Scheduler scheduler, int offloadThreshold) {
+        this(processor, delegate, null, scheduler, offloadThreshold);
+    }
+
+    public ReactiveResponseMaskingResultHandler(ResponseMaskingProcessor processor, ResponseBodyResultHandler delegate,
+                                                ResponseEntityResultHandler entityDelegate, Scheduler scheduler,
+                                                int offloadThreshold) {
+        this.processor = processor;
+        this.delegate = delegate;
+        this.entityDelegate = entityDelegate;
+        this.scheduler = scheduler;
+        this.offloadThreshold = offloadThreshold;
+    }
+
+    @Override
+    public boolean supports(HandlerResult result) {
+        return result.getHandler() instanceof HandlerMethod && delegate(result).supports(result)
+                && processor.supports(result.getReturnTypeSource());
+    }
+
+    @Override
+    public Mono<Void> handleResult(ServerWebExchange exchange, HandlerResult result) {
+        HandlerResultHandler target = delegate(result);
+        MethodParameter returnType = result.getReturnTypeSource();
+        ServerHttpRequest request = new ExchangeServerHttpRequest(exchange);
+        ServerHttpResponse response = new ExchangeServerHttpResponse(exchange);
+        Object value = result.getReturnValue();
+
+        if (value instanceof Flux) {
+            return target.handleResult(exchange, copy(result, maskFlux((Flux<?>) value, returnType, request, response)));
+        }
+        if (value instanceof Mono) {
+            Mono<Object> masked = ((Mono<?>) value).flatMap(body -> maskValue(body, returnType, request, response));
+            return target.handleResult(exchange, copy(result, masked));
+        }
+        if (value == null) {
+            return target.handleResult(exchange, result);
+        }
+        return maskValue(value, returnType, request, response)
+                .flatMap(body -> target.handleResult(exchange, copy(result, body)));
+    }
+
+    /**
+     * 与 WebFlux 的处理器顺序一致：{@code ResponseEntity}/{@code HttpEntity} 返回值由 {@link ResponseEntityResultHandler} 写出
+     */
+    private HandlerResultHandler delegate(HandlerResult result) {
+        return entityDelegate != null && entityDelegate.supports(result) ? entityDelegate : delegate;
+    }
+
+    private Mono<Object> maskValue(Object value, MethodParameter returnType, ServerHttpRequest request,
+                                   ServerHttpResponse response) {
+        if (value instanceof HttpEntity) {
+            return maskEntity((HttpEntity<?>) value, returnType, request, response);
+        }
+        return maskBody(value, returnType, request, response);
+    }
+
+    /**
+     * 脱敏 {@code HttpEntity} 的响应体，按原状态码与响应头重新构建
+     */
+    private Mono<Object> maskEntity(HttpEntity<?> entity, MethodParameter returnType, ServerHttpRequest request,
+                                    ServerHttpResponse response) {
+        Object body = entity.getBody();
+        if (body == null) {
+            return Mono.just(entity);
+        }
+        if (body instanceof Flux) {
+            return Mono.just(rebuild(entity, maskFlux((Flux<?>) body, returnType, request, response)));
+        }
+        if (body instanceof Mono) {
+            return Mono.just(rebuild(entity,
+                    ((Mono<?>) body).flatMap(element -> maskBody(element, returnType, request, response))));
+        }
+        return maskBody(body, returnType, request, response).map(masked -> rebuild(entity, masked));
+    }
+
+    private static HttpEntity<Object> rebuild(HttpEntity<?> entity, Object body) {
+        if (entity instanceof ResponseEntity) {
+            return new ResponseEntity<>(body, entity.getHeaders(), ((ResponseEntity<?>) entity).getStatusCodeValue());
+        }
+        return new HttpEntity<>(body, entity.getHeaders());
+    }
+
+    private Mono<Object> maskBody(Object body, MethodParameter returnType, ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        if (offloadThreshold <= 0) {
+            return Mono.justOrEmpty(processor.process(body, returnType, request, response));
+        }
+        // 全局解析只执行一次，解析结果同时用于判断负载大小与脱敏
+        Object data = processor.resolvePayload(body, returnType);
+        if (shouldOffload(data)) {
+            return Mono.fromCallable(() -> processor.process(body, data, returnType, request, response))
+                    .subscribeOn(scheduler);
+        }
+        return Mono.justOrEmpty(processor.process(body, data, returnType, request, response));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Flux<Object> maskFlux(Flux<?> source, MethodParameter returnType, ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        Flux<Object> flux = (Flux<Object>) source;
+        return Flux.defer(() -> {
+            ElementMasker masker = processor.prepareElementMasker(flux, returnType, request, response);
+            if (masker == null) {
+                return flux;
+            }
+            if (offloadThreshold <= 0) {
+                return flux.map(masker::mask);
+            }
+            return flux.concatMap(element -> {
+                Object data = masker.resolve(element);
+                return shouldOffload(data)
+                        ? Mono.fromCallable(() -> masker.mask(element, data)).subscribeOn(scheduler)
+                        : Mono.justOrEmpty(masker.mask(element, data));
+            });
+        });
+    }
+
+    /**
+     * 负载元素数是否达到切换线程的阈值，按全局解析器解析后的数据计算
+     */
+    private boolean shouldOffload(Object data) {
+        return ResponseMaskingProcessor.payloadSize(data) >= offloadThreshold;
+    }
+
+    private static HandlerResult copy(HandlerResult source, Object returnValue) {
+        HandlerResult result = new HandlerResult(source.getHandler(), returnValue,
+                source.getReturnTypeSource(), source.getBindingContext());
+        if (source.hasExceptionHandler()) {
+            result.setExceptionHandler(source::applyExceptionHandler);
+        }
+        return result;
+    }
+
+    /**
+     * 位于 {@link ResponseEntityResultHandler} 与 {@link ResponseBodyResultHandler} 之前
+     */
+    @Override
+    public int getOrder() {
+        int order = delegate.getOrder();
+        if (entityDelegate != null) {
+            order = Math.min(order, entityDelegate.getOrder());
+        }
+        return order - 1;
+    }
+}
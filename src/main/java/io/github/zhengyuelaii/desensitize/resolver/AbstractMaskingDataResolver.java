@@ -1,6 +1,7 @@
 package io.github.zhengyuelaii.desensitize.resolver;
 
 import io.github.zhengyuelaii.desensitize.core.util.MaskingDataResolver;
+import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -16,15 +17,28 @@ public abstract class AbstractMaskingDataResolver<T> implements MaskingDataResol
 
     protected final Class<T> entityClass;
 
+    private final boolean typeBased;
+
     @SuppressWarnings("unchecked")
     protected AbstractMaskingDataResolver() {
         this.entityClass = (Class<T>) resolveEntityClass();
+        this.typeBased = ReflectionUtils.findMethod(getClass(), "supports", Object.class)
+                .getDeclaringClass() == AbstractMaskingDataResolver.class;
     }
 
     public boolean supports(Object source) {
         return entityClass.isInstance(source);
     }
 
+    /**
+     * 是否仅根据数据类型判断支持（未重写 {@link #supports(Object)}），此时匹配结果可按类型缓存
+     *
+     * @return 未重写 supports 时返回 true
+     */
+    boolean isTypeBased() {
+        return typeBased;
+    }
+
     @Override
     public Object resolve(Object source) {
         return resolveInternal(entityClass.cast(source));
@@ -1,10 +1,22 @@
 package io.github.zhengyuelaii.desensitize.resolver;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 脱敏数据解析器组合
+ * <p>
+ * 解析器按 {@code @Order}/{@link org.springframework.core.Ordered} 排序，未声明顺序的解析器排在最后并保持注册顺序；
+ * 按响应体的具体类型缓存匹配到的解析器（包括"无解析器"的结果），
+ * 对于重写了 {@link AbstractMaskingDataResolver#supports(Object)} 的解析器则每次重新判断。
+ * 解析器抛出异常时依次尝试后续支持该数据的解析器，全部失败时使用未解析的数据。
+ * </p>
  *
  * @author zhengyuelaii
  * @version 1.0.0
@@ -12,14 +24,27 @@ import java.util.List;
  */
 public class GlobalMaskingResolverComposite {
 
+    private static final Logger logger = LoggerFactory.getLogger(GlobalMaskingResolverComposite.class);
+
+    /**
+     * 最大解析层数，防止解析器互相返回导致死循环
+     */
+    private static final int MAX_DEPTH = 16;
+
+    private static final Object NO_RESOLVER = new Object();
+
     private final List<AbstractMaskingDataResolver<?>> resolvers = new ArrayList<>();
 
+    private final Map<Class<?>, Object> resolverCache = new ConcurrentReferenceHashMap<>();
+
     public void addResolver(AbstractMaskingDataResolver<?> resolver) {
         resolvers.add(resolver);
+        onResolversChanged();
     }
 
     public void addResolvers(List<AbstractMaskingDataResolver<?>> resolvers) {
         this.resolvers.addAll(resolvers);
+        onResolversChanged();
     }
 
     public Object resolve(Object source) {
@@ -27,19 +52,80 @@ public class GlobalMaskingResolverComposite {
             return source;
         }
 
+        Object current = source;
+        for (int depth = 0; current != null && depth < MAX_DEPTH; depth++) {
+            AbstractMaskingDataResolver<?> resolver = getResolver(current);
+            if (resolver == null) {
+                // 如果没有任何解析器匹配
+                return current;
+            }
+            try {
+                current = resolver.resolve(current);
+            } catch (Exception e) {
+                logger.debug("Masking data resolver {} failed, trying next resolver", resolver, e);
+                Object resolved = resolveWithNext(resolver, current);
+                if (resolved == NO_RESOLVER) {
+                    return current;
+                }
+                current = resolved;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 使用排在失败解析器之后、支持该数据的解析器解析
+     *
+     * @return 解析结果，没有可用的解析器时返回 {@link #NO_RESOLVER}
+     */
+    private Object resolveWithNext(AbstractMaskingDataResolver<?> failed, Object source) {
+        boolean after = false;
+        for (AbstractMaskingDataResolver<?> resolver : resolvers) {
+            if (!after) {
+                after = resolver == failed;
+                continue;
+            }
+            try {
+                if (resolver.supports(source)) {
+                    return resolver.resolve(source);
+                }
+            } catch (Exception e) {
+                logger.debug("Masking data resolver {} failed, trying next resolver", resolver, e);
+            }
+        }
+        return NO_RESOLVER;
+    }
+
+    private AbstractMaskingDataResolver<?> getResolver(Object source) {
+        Class<?> type = source.getClass();
+        Object cached = resolverCache.get(type);
+        if (cached != null) {
+            return cached == NO_RESOLVER ? null : (AbstractMaskingDataResolver<?>) cached;
+        }
+
+        boolean cacheable = true;
+        AbstractMaskingDataResolver<?> matched = null;
         for (AbstractMaskingDataResolver<?> resolver : resolvers) {
+            cacheable &= resolver.isTypeBased();
             try {
                 if (resolver.supports(source)) {
-                    Object resolvedBody = resolver.resolve(source);
-                    // 递归处理解析后的结果
-                    return resolve(resolvedBody);
+                    matched = resolver;
+                    break;
                 }
             } catch (Exception e) {
-                continue;
+                // 判断失败视为不支持，结果不缓存
+                cacheable = false;
             }
         }
-        // 如果没有任何解析器匹配
-        return source;
+        if (cacheable) {
+            resolverCache.put(type, matched != null ? matched : NO_RESOLVER);
+        }
+        return matched;
+    }
+
+    private void onResolversChanged() {
+        AnnotationAwareOrderComparator.sort(resolvers);
+        resolverCache.clear();
     }
 
 }
@@ -0,0 +1,45 @@
+package io.github.zhengyuelaii.desensitize.streaming;
+
+/**
+ * 流式响应元素脱敏器
+ * <p>
+ * 由响应脱敏规则（注解定义与拦截器调整后的结果）构建，每个响应只构建一次，
+ * 随后对流中逐个发出的元素执行脱敏。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface ElementMasker {
+
+    /**
+     * 对单个元素执行脱敏
+     *
+     * @param element 流中的元素
+     * @return 脱敏后的元素
+     */
+    Object mask(Object element);
+
+    /**
+     * 解析元素中需要脱敏的数据，默认为元素本身；启用全局解析器时为解析后的数据
+     *
+     * @param element 流中的元素
+     * @return 需要脱敏的数据
+     */
+    default Object resolve(Object element) {
+        return element;
+    }
+
+    /**
+     * 对已解析的元素执行脱敏，调用方已通过 {@link #resolve} 解析（如按数据大小决定执行线程）时使用，避免重复解析
+     *
+     * @param element 流中的元素
+     * @param data    {@link #resolve} 的结果
+     * @return 脱敏后的元素
+     */
+    default Object mask(Object element, Object data) {
+        return mask(element);
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.zhengyuelaii.desensitize.streaming;
+
+import java.util.Iterator;
+
+/**
+ * 逐元素脱敏的迭代器
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+class MaskingIterator implements Iterator<Object> {
+
+    private final Iterator<?> delegate;
+
+    private final ElementMasker masker;
+
+    MaskingIterator(Iterator<?> delegate, ElementMasker masker) {
+        this.delegate = delegate;
+        this.masker = masker;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return delegate.hasNext();
+    }
+
+    @Override
+    public Object next() {
+        return masker.mask(delegate.next());
+    }
+
+    @Override
+    public void remove() {
+        delegate.remove();
+    }
+}
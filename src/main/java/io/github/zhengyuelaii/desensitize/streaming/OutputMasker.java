@@ -0,0 +1,28 @@
+package io.github.zhengyuelaii.desensitize.streaming;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 流式响应字节脱敏器
+ * <p>
+ * 由响应脱敏规则构建，在 {@code StreamingResponseBody} 写出前包装响应输出流，
+ * 对业务代码直接写出的字节逐段脱敏。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface OutputMasker {
+
+    /**
+     * 包装响应输出流
+     *
+     * @param output 原输出流
+     * @return 脱敏后的输出流，关闭时写出剩余内容且不关闭原输出流；无法按字节脱敏（如非 JSON 输出）时返回 null
+     * @throws IOException 创建输出流失败
+     */
+    OutputStream wrap(OutputStream output) throws IOException;
+}
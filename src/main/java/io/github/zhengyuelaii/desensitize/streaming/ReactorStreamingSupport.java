@@ -0,0 +1,28 @@
+package io.github.zhengyuelaii.desensitize.streaming;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactor 流式响应支持，仅在 classpath 中存在 Reactor 时加载
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+final class ReactorStreamingSupport {
+
+    private ReactorStreamingSupport() {
+    }
+
+    static boolean isFlux(Object body) {
+        return body instanceof Flux;
+    }
+
+    static boolean isFluxType(Class<?> type) {
+        return Flux.class.isAssignableFrom(type);
+    }
+
+    static Object wrap(Object body, ElementMasker masker) {
+        return ((Flux<?>) body).map(masker::mask);
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.zhengyuelaii.desensitize.streaming;
+
+import io.github.zhengyuelaii.desensitize.advice.EasyDesensitizeResponseAdvice;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 在 {@link RequestMappingHandlerAdapter} 初始化完成后，将 {@link StreamingMaskingReturnValueHandler}
+ * 置于返回值处理器列表首位
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class StreamingMaskingHandlerAdapterPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<EasyDesensitizeResponseAdvice> advice;
+
+    public StreamingMaskingHandlerAdapterPostProcessor(ObjectProvider<EasyDesensitizeResponseAdvice> advice) {
+        this.advice = advice;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof RequestMappingHandlerAdapter) {
+            RequestMappingHandlerAdapter adapter = (RequestMappingHandlerAdapter) bean;
+            EasyDesensitizeResponseAdvice responseAdvice = advice.getIfAvailable();
+            List<HandlerMethodReturnValueHandler> handlers = adapter.getReturnValueHandlers();
+            if (responseAdvice != null && handlers != null) {
+                List<HandlerMethodReturnValueHandler> decorated = new ArrayList<>(handlers.size() + 1);
+                decorated.add(new StreamingMaskingReturnValueHandler(responseAdvice, handlers));
+                decorated.addAll(handlers);
+                adapter.setReturnValueHandlers(decorated);
+            }
+        }
+        return bean;
+    }
+}
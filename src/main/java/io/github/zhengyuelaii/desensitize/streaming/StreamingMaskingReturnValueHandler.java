@@ -0,0 +1,70 @@
+package io.github.zhengyuelaii.desensitize.streaming;
+
+import io.github.zhengyuelaii.desensitize.advice.EasyDesensitizeResponseAdvice;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandlerComposite;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.List;
+
+/**
+ * 流式返回值脱敏处理器
+ * <p>
+ * {@code StreamingResponseBody} 与流式媒体类型下的 {@code Flux} 由专用的返回值处理器写出，
+ * 不经过 {@code ResponseBodyAdvice}。该处理器排在原有处理器之前，
+ * 先交由 {@link EasyDesensitizeResponseAdvice} 按同一套规则包装为逐元素脱敏，再委托给原有处理器。
+ * 包装后的返回值记录在请求属性 {@link StreamingMaskingSupport#WRAPPED_ATTRIBUTE} 中，
+ * 仅该返回值及其异步结果写出时跳过重复脱敏，处理完成后移除。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class StreamingMaskingReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    private final EasyDesensitizeResponseAdvice advice;
+
+    private final HandlerMethodReturnValueHandlerComposite delegate;
+
+    public StreamingMaskingReturnValueHandler(EasyDesensitizeResponseAdvice advice,
+                                              List<HandlerMethodReturnValueHandler> delegates) {
+        this.advice = advice;
+        this.delegate = new HandlerMethodReturnValueHandlerComposite().addHandlers(delegates);
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return StreamingMaskingSupport.isDeferredStreamingType(returnType.getParameterType())
+                && advice.supports(returnType, null);
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType,
+                                  ModelAndViewContainer mavContainer, NativeWebRequest webRequest) throws Exception {
+        Object value = returnValue;
+        HttpServletRequest servletRequest = webRequest.getNativeRequest(HttpServletRequest.class);
+        HttpServletResponse servletResponse = webRequest.getNativeResponse(HttpServletResponse.class);
+        if (value != null && servletRequest != null && servletResponse != null) {
+            value = advice.beforeBodyWrite(value, returnType, MediaType.ALL, null,
+                    new ServletServerHttpRequest(servletRequest), new ServletServerHttpResponse(servletResponse));
+            servletRequest.setAttribute(StreamingMaskingSupport.WRAPPED_ATTRIBUTE, value);
+        }
+        try {
+            delegate.handleReturnValue(value, returnType, mavContainer, webRequest);
+        } finally {
+            // 同步写出已完成；异步处理（如 Flux 收集为列表）时由异步结果写出时移除
+            if (servletRequest != null && !WebAsyncUtils.getAsyncManager(webRequest).isConcurrentHandlingStarted()) {
+                servletRequest.removeAttribute(StreamingMaskingSupport.WRAPPED_ATTRIBUTE);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.zhengyuelaii.desensitize.streaming;
+
+import org.springframework.util.ClassUtils;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 流式响应脱敏支持
+ * <p>
+ * 对 {@link Stream}、{@link Iterator}、{@code StreamingResponseBody}（存在 Spring MVC 时）以及（存在 Reactor 时）{@code Flux}
+ * 包装为逐元素脱敏的等价对象，避免为脱敏而物化整个结果集。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class StreamingMaskingSupport {
+
+    /**
+     * 请求属性：值为返回值处理阶段已包装为逐元素脱敏的返回值，该返回值（或其异步结果）写出时不再重复处理，处理后移除
+     */
+    public static final String WRAPPED_ATTRIBUTE = StreamingMaskingSupport.class.getName() + ".WRAPPED";
+
+    private static final boolean reactorPresent = ClassUtils.isPresent(
+            "reactor.core.publisher.Flux", StreamingMaskingSupport.class.getClassLoader());
+
+    private static final boolean webMvcPresent = ClassUtils.isPresent(
+            "org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody",
+            StreamingMaskingSupport.class.getClassLoader());
+
+    private StreamingMaskingSupport() {
+    }
+
+    /**
+     * 是否为流式响应体
+     *
+     * @param body 响应体
+     * @return 可逐元素脱敏时返回 true
+     */
+    public static boolean isStreaming(Object body) {
+        return body instanceof Stream || body instanceof Iterator
+                || (webMvcPresent && StreamingResponseMasker.isStreamingResponseBody(body))
+                || (reactorPresent && ReactorStreamingSupport.isFlux(body));
+    }
+
+    /**
+     * 是否为不经过 {@code ResponseBodyAdvice} 的流式返回类型
+     *
+     * @param type 方法声明的返回类型
+     * @return {@code StreamingResponseBody} 或 {@code Flux} 时返回 true
+     */
+    public static boolean isDeferredStreamingType(Class<?> type) {
+        return (webMvcPresent && StreamingResponseMasker.isStreamingResponseBodyType(type))
+                || (reactorPresent && ReactorStreamingSupport.isFluxType(type));
+    }
+
+    /**
+     * 包装流式响应体
+     *
+     * @param body   流式响应体
+     * @param masker 元素脱敏器
+     * @return 逐元素脱敏的响应体
+     */
+    public static Object wrap(Object body, ElementMasker masker) {
+        return wrap(body, masker, null);
+    }
+
+    /**
+     * 包装流式响应体
+     *
+     * @param body         流式响应体
+     * @param masker       元素脱敏器
+     * @param outputMasker {@code StreamingResponseBody} 写出字节的脱敏器，可为 null
+     * @return 逐元素脱敏的响应体
+     */
+    @SuppressWarnings("unchecked")
+    public static Object wrap(Object body, ElementMasker masker, OutputMasker outputMasker) {
+        if (body instanceof Stream) {
+            return ((Stream<Object>) body).map(masker::mask);
+        }
+        if (body instanceof Iterator) {
+            return new MaskingIterator((Iterator<?>) body, masker);
+        }
+        if (webMvcPresent && StreamingResponseMasker.isStreamingResponseBody(body)) {
+            return StreamingResponseMasker.wrap(body, masker, outputMasker);
+        }
+        if (reactorPresent && ReactorStreamingSupport.isFlux(body)) {
+            return ReactorStreamingSupport.wrap(body, masker);
+        }
+        throw new IllegalArgumentException("Unsupported streaming body: " + body.getClass().getName());
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.zhengyuelaii.desensitize.streaming;
+
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+
+/**
+ * {@link StreamingResponseBody} 元素脱敏入口
+ * <p>
+ * {@code StreamingResponseBody} 直接写出字节。输出为 JSON（含 NDJSON）时，框架包装输出流，
+ * 按 token 增量解析写出的字节并自动脱敏，业务代码无需改动；此时 {@link #mask(Object)} 原样返回元素，避免重复脱敏。
+ * </p>
+ * <p>
+ * 其他输出格式（如 CSV）无法在框架层识别元素边界，框架会在 {@code writeTo} 执行期间绑定当前响应的脱敏规则，
+ * 业务代码在写出每个元素前调用 {@link #mask(Object)} 即可：
+ * </p>
+ * <pre>{@code
+ * return out -> userRepository.streamAll().forEach(user -> {
+ *     writer.write(out, StreamingResponseMasker.mask(user));
+ * });
+ * }</pre>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class StreamingResponseMasker {
+
+    private static final ThreadLocal<ElementMasker> CURRENT =
+            new NamedThreadLocal<>("Easy desensitize streaming masker");
+
+    private StreamingResponseMasker() {
+    }
+
+    /**
+     * 按当前响应的脱敏规则对元素脱敏，未绑定规则时原样返回
+     *
+     * @param element 待写出的元素
+     * @param <T>     元素类型
+     * @return 脱敏后的元素
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T mask(T element) {
+        ElementMasker masker = CURRENT.get();
+        return masker != null ? (T) masker.mask(element) : element;
+    }
+
+    static boolean isStreamingResponseBody(Object body) {
+        return body instanceof StreamingResponseBody;
+    }
+
+    static boolean isStreamingResponseBodyType(Class<?> type) {
+        return StreamingResponseBody.class.isAssignableFrom(type);
+    }
+
+    static StreamingResponseBody wrap(Object source, ElementMasker masker, OutputMasker outputMasker) {
+        StreamingResponseBody body = (StreamingResponseBody) source;
+        return out -> {
+            OutputStream masked = outputMasker != null ? outputMasker.wrap(out) : null;
+            if (masked != null) {
+                body.writeTo(masked);
+                // 写出剩余内容，不关闭响应输出流
+                masked.close();
+                return;
+            }
+            ElementMasker previous = CURRENT.get();
+            CURRENT.set(masker);
+            try {
+                body.writeTo(out);
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+}
@@ -2,29 +2,40 @@ package io.github.zhengyuelaii.desensitize.advice;
 
 import io.github.zhengyuelaii.desensitize.annotation.ResponseMasking;
 import io.github.zhengyuelaii.desensitize.config.EasyDesensitizeProperties;
+import io.github.zhengyuelaii.desensitize.config.MaskingMode;
 import io.github.zhengyuelaii.desensitize.config.FailureStrategy;
 import io.github.zhengyuelaii.desensitize.core.annotation.MaskingField;
 import io.github.zhengyuelaii.desensitize.core.handler.KeepFirstAndLastHandler;
+import io.github.zhengyuelaii.desensitize.interceptor.DesensitizeInterceptorChainResolver;
 import io.github.zhengyuelaii.desensitize.interceptor.DesensitizeInterceptorRegistration;
 import io.github.zhengyuelaii.desensitize.interceptor.DesensitizeInterceptorRegistry;
 import io.github.zhengyuelaii.desensitize.interceptor.EasyDesensitizeInterceptor;
 import io.github.zhengyuelaii.desensitize.resolver.GlobalMaskingResolverComposite;
+import io.github.zhengyuelaii.desensitize.streaming.StreamingMaskingSupport;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.lang.reflect.Method;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -61,12 +72,22 @@ public class EasyDesensitizeResponseAdviceTest {
     @Mock
     private EasyDesensitizeProperties properties;
 
+    @Spy
+    private ResponseMaskingDefinitionCache definitionCache = new ResponseMaskingDefinitionCache(true, 16);
+
     @Mock
     private ServerHttpRequest request;
 
     @Mock
     private ServerHttpResponse response;
 
+    @BeforeEach
+    void setUp() {
+        // 拦截器链解析器在首次请求时根据（mock 的）注册表编译索引
+        ReflectionTestUtils.setField(advice, "interceptorChainResolver",
+                new DesensitizeInterceptorChainResolver(registry, 16));
+    }
+
     @Test
     @DisplayName("body 为 null 时应直接返回 null，且不触发任何处理")
     void should_handle_null_response_body() throws NoSuchMethodException {
@@ -122,6 +143,30 @@ public class EasyDesensitizeResponseAdviceTest {
         verify(resolverComposite, never()).resolve(any());
     }
 
+    @Test
+    @DisplayName("序列化模式下全局解析器取出内层数据时，只脱敏内层数据，外层包装的同名字段不受影响")
+    void should_mask_resolved_data_only_in_serializer_mode() throws Exception {
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", "李小龙");
+        Map<String, Object> body = new HashMap<>();
+        body.put("name", "王小明");
+        body.put("data", data);
+
+        MethodParameter returnType = new MethodParameter(TestController.class.getMethod("getUser"), -1);
+
+        when(request.getURI()).thenReturn(new URI("http://localhost/test"));
+        when(registry.getRegistrations()).thenReturn(new ArrayList<>());
+        when(properties.getMode()).thenReturn(MaskingMode.SERIALIZER);
+        when(properties.isUseGlobalResolver()).thenReturn(true);
+        when(properties.isUseGlobalCache()).thenReturn(true);
+        when(resolverComposite.resolve(body)).thenReturn(data);
+
+        advice.beforeBodyWrite(body, returnType, MediaType.APPLICATION_JSON, null, request, response);
+
+        assertThat(data.get("name")).isEqualTo("李*龙");
+        assertThat(body.get("name")).isEqualTo("王小明");
+    }
+
     @Test
     @DisplayName("当 interceptor 返回 false 时应跳过脱敏逻辑")
     void should_skip_desensitize_when_interceptor_blocked() throws Exception {
@@ -233,6 +278,97 @@ public class EasyDesensitizeResponseAdviceTest {
         verify(interceptor).onException(any(), any(), eq(returnType), any(), any());
     }
 
+    @Test
+    @DisplayName("Iterator 响应体应在元素发出时逐个脱敏，规则只解析一次")
+    void should_mask_iterator_elements_lazily() throws Exception {
+        Map<String, Object> first = new HashMap<>();
+        first.put("name", "李小龙");
+        Map<String, Object> second = new HashMap<>();
+        second.put("name", "张三丰");
+
+        Method method = TestController.class.getMethod("getUser");
+        MethodParameter returnType = new MethodParameter(method, -1);
+
+        when(request.getURI()).thenReturn(new URI("http://localhost/test"));
+        when(registry.getRegistrations()).thenReturn(new ArrayList<>());
+        when(properties.isUseGlobalResolver()).thenReturn(false);
+        when(properties.isUseGlobalCache()).thenReturn(true);
+
+        Object result = advice.beforeBodyWrite(
+                Arrays.asList(first, second).iterator(),
+                returnType,
+                MediaType.APPLICATION_JSON,
+                null,
+                request,
+                response
+        );
+
+        // 尚未消费时不脱敏
+        assertThat(first.get("name")).isEqualTo("李小龙");
+        assertThat(result).isInstanceOf(Iterator.class);
+
+        Iterator<?> iterator = (Iterator<?>) result;
+        assertThat(iterator.next()).isSameAs(first);
+        assertThat(first.get("name")).isEqualTo("李*龙");
+        assertThat(second.get("name")).isEqualTo("张三丰");
+        iterator.next();
+        assertThat(second.get("name")).isEqualTo("张*丰");
+        assertThat(iterator.hasNext()).isFalse();
+
+        verify(definitionCache, times(1)).get(returnType);
+        verify(properties).isUseGlobalResolver();
+    }
+
+    @Test
+    @DisplayName("流式包装标记只对被包装的返回值生效，命中后移除")
+    void should_scope_streaming_wrapped_flag_to_wrapped_value() throws Exception {
+        Map<String, Object> wrapped = new HashMap<>();
+        wrapped.put("name", "李小龙");
+        Map<String, Object> other = new HashMap<>();
+        other.put("name", "张三丰");
+
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/test");
+        servletRequest.setAttribute(StreamingMaskingSupport.WRAPPED_ATTRIBUTE, wrapped);
+        ServletServerHttpRequest serverRequest = new ServletServerHttpRequest(servletRequest);
+        MethodParameter returnType = new MethodParameter(TestController.class.getMethod("getUser"), -1);
+
+        when(registry.getRegistrations()).thenReturn(new ArrayList<>());
+        when(properties.isUseGlobalResolver()).thenReturn(false);
+        when(properties.isUseGlobalCache()).thenReturn(true);
+
+        // 同一请求中其他响应体（如错误处理返回的响应体）仍需脱敏
+        advice.beforeBodyWrite(other, returnType, MediaType.APPLICATION_JSON, null, serverRequest, response);
+        assertThat(other.get("name")).isEqualTo("张*丰");
+        assertThat(servletRequest.getAttribute(StreamingMaskingSupport.WRAPPED_ATTRIBUTE)).isSameAs(wrapped);
+
+        Object result = advice.beforeBodyWrite(wrapped, returnType, MediaType.APPLICATION_JSON, null,
+                serverRequest, response);
+        assertThat(result).isSameAs(wrapped);
+        assertThat(wrapped.get("name")).isEqualTo("李小龙");
+        assertThat(servletRequest.getAttribute(StreamingMaskingSupport.WRAPPED_ATTRIBUTE)).isNull();
+    }
+
+    @Test
+    @DisplayName("返回值类型不含脱敏字段且无拦截器时应原样返回，不执行脱敏")
+    void should_skip_when_return_type_has_no_masking_fields() throws Exception {
+        List<Long> body = Arrays.asList(1L, 2L);
+
+        Method method = TestController.class.getMethod("getIds");
+        MethodParameter returnType = new MethodParameter(method, -1);
+
+        when(request.getURI()).thenReturn(new URI("http://localhost/test"));
+        when(registry.getRegistrations()).thenReturn(new ArrayList<>());
+
+        Object first = advice.beforeBodyWrite(body, returnType, MediaType.APPLICATION_JSON, null, request, response);
+        Object second = advice.beforeBodyWrite(body, returnType, MediaType.APPLICATION_JSON, null, request, response);
+
+        assertThat(first).isSameAs(body);
+        assertThat(second).isSameAs(body);
+        assertThat(definitionCache.get(returnType).getMaskability())
+                .isEqualTo(ReturnTypeMaskingAnalyzer.Maskability.NONE);
+        verifyNoInteractions(resolverComposite, properties);
+    }
+
     /**
      * 用于 MethodParameter 构造的测试 Controller
      */
@@ -244,5 +380,10 @@ public class EasyDesensitizeResponseAdviceTest {
         public Map<String, Object> getUser() {
             return null;
         }
+
+        @ResponseMasking
+        public List<Long> getIds() {
+            return null;
+        }
     }
 }
@@ -134,4 +134,32 @@ public class ResponseMaskingContentTest {
                 .doesNotContain("idCard");
     }
 
+    @Test
+    @DisplayName("未修改时应直接复用 Definition 中的集合")
+    void should_share_definition_collections_when_unmodified() {
+        ResponseMaskingDefinition definition = mockDefinition();
+        ResponseMaskingContext context = new ResponseMaskingContext(definition);
+
+        assertThat(context.isModified()).isFalse();
+        assertThat(context.getEffectiveHandlers()).isSameAs(definition.getHandlers());
+        assertThat(context.getEffectiveExcludedFields()).isSameAs(definition.getExcludedFields());
+    }
+
+    @Test
+    @DisplayName("读取后再修改应重新合并规则")
+    void should_remerge_after_modification() {
+        ResponseMaskingDefinition definition = mockDefinition();
+        ResponseMaskingContext context = new ResponseMaskingContext(definition);
+
+        context.removeHandler("mobile");
+        Map<String, MaskingHandler> first = context.getEffectiveHandlers();
+        assertThat(context.getEffectiveHandlers()).isSameAs(first);
+
+        context.addHandler("mobile", value -> "MASKED");
+
+        assertThat(context.isModified()).isTrue();
+        assertThat(context.getEffectiveHandlers()).containsKeys("name", "mobile");
+        assertThat(definition.getHandlers()).containsKeys("name", "mobile");
+    }
+
 }
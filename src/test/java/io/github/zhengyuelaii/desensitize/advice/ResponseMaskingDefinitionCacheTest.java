@@ -0,0 +1,101 @@
+package io.github.zhengyuelaii.desensitize.advice;
+
+import io.github.zhengyuelaii.desensitize.annotation.ResponseMasking;
+import io.github.zhengyuelaii.desensitize.core.annotation.MaskingField;
+import io.github.zhengyuelaii.desensitize.core.handler.KeepFirstAndLastHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ResponseMaskingDefinitionCache 测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class ResponseMaskingDefinitionCacheTest {
+
+    @ResponseMasking(fields = {
+            @MaskingField(name = "name", typeHandler = KeepFirstAndLastHandler.class)
+    }, excludeFields = {"address"})
+    static class TestController {
+
+        public String first() {
+            return "ok";
+        }
+
+        public String second() {
+            return "ok";
+        }
+    }
+
+    private MethodParameter returnType(String methodName) throws NoSuchMethodException {
+        Method method = TestController.class.getMethod(methodName);
+        return new MethodParameter(method, -1);
+    }
+
+    @Test
+    @DisplayName("同一方法应复用缓存的脱敏定义")
+    void should_reuse_cached_definition() throws Exception {
+        ResponseMaskingDefinitionCache cache = new ResponseMaskingDefinitionCache(true, 16);
+
+        ResponseMaskingDefinition first = cache.get(returnType("first"));
+        ResponseMaskingDefinition again = cache.get(returnType("first"));
+
+        assertThat(again).isSameAs(first);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("缓存的脱敏定义应不可修改")
+    void should_expose_immutable_collections() throws Exception {
+        ResponseMaskingDefinition definition =
+                new ResponseMaskingDefinitionCache(true, 16).get(returnType("first"));
+
+        assertThatThrownBy(() -> definition.getHandlers().remove("name"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> definition.getExcludedFields().add("id"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("超出容量时应淘汰最久未使用的定义")
+    void should_evict_when_exceeding_max_size() throws Exception {
+        ResponseMaskingDefinitionCache cache = new ResponseMaskingDefinitionCache(true, 1);
+
+        cache.get(returnType("first"));
+        cache.get(returnType("second"));
+
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("关闭缓存时每次都应重新解析")
+    void should_not_cache_when_disabled() throws Exception {
+        ResponseMaskingDefinitionCache cache = new ResponseMaskingDefinitionCache(false, 16);
+
+        ResponseMaskingDefinition first = cache.get(returnType("first"));
+        ResponseMaskingDefinition again = cache.get(returnType("first"));
+
+        assertThat(again).isNotSameAs(first);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("clear 后应重新解析")
+    void should_rebuild_after_clear() throws Exception {
+        ResponseMaskingDefinitionCache cache = new ResponseMaskingDefinitionCache(true, 16);
+
+        ResponseMaskingDefinition first = cache.get(returnType("first"));
+        cache.clear();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(returnType("first"))).isNotSameAs(first);
+    }
+}
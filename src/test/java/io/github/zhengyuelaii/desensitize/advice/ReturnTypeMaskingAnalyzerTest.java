@@ -0,0 +1,178 @@
+package io.github.zhengyuelaii.desensitize.advice;
+
+import io.github.zhengyuelaii.desensitize.advice.ReturnTypeMaskingAnalyzer.Maskability;
+import io.github.zhengyuelaii.desensitize.annotation.ResponseMasking;
+import io.github.zhengyuelaii.desensitize.core.annotation.MaskingField;
+import io.github.zhengyuelaii.desensitize.core.handler.FixedMaskHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReturnTypeMaskingAnalyzer 测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class ReturnTypeMaskingAnalyzerTest {
+
+    static final class Result<T> {
+        private int code;
+        private String message;
+        private T data;
+    }
+
+    static final class Page<T> {
+        private long total;
+        private List<T> records;
+    }
+
+    static class UserVO {
+        @MaskingField(typeHandler = FixedMaskHandler.class)
+        private String mobile;
+    }
+
+    static final class Node {
+        private String name;
+        private List<Node> children;
+    }
+
+    static class Holder {
+        private Comparable<?> value;
+    }
+
+    static class Base {
+        private Long id;
+    }
+
+    static class Sub extends Base {
+        @MaskingField(typeHandler = FixedMaskHandler.class)
+        private String mobile;
+    }
+
+    // 普通（非 final）的响应包装类，如 Lombok 生成的 DTO
+    static class Envelope<T> {
+        private int code;
+        private T data;
+    }
+
+    static class AuditedEnvelope<T> extends Envelope<T> {
+        @MaskingField(typeHandler = FixedMaskHandler.class)
+        private String operator;
+    }
+
+    static class TestController {
+
+        @ResponseMasking
+        public Envelope<Long> envelopeCount() {
+            return null;
+        }
+
+        @ResponseMasking
+        public Envelope<Page<UserVO>> envelopeUsers() {
+            return null;
+        }
+
+        public Result<Long> count() {
+            return null;
+        }
+
+        public List<String> names() {
+            return null;
+        }
+
+        public ResponseEntity<Map<String, Integer>> stats() {
+            return null;
+        }
+
+        public Result<Page<UserVO>> users() {
+            return null;
+        }
+
+        public CompletableFuture<UserVO[]> asyncUsers() {
+            return null;
+        }
+
+        public Node tree() {
+            return null;
+        }
+
+        public Holder holder() {
+            return null;
+        }
+
+        public Base base() {
+            return null;
+        }
+
+        public Result<Base> baseResult() {
+            return null;
+        }
+
+        public Object any() {
+            return null;
+        }
+    }
+
+    private static Maskability analyze(String methodName) throws NoSuchMethodException {
+        return ReturnTypeMaskingAnalyzer.analyze(
+                new MethodParameter(TestController.class.getMethod(methodName), -1));
+    }
+
+    @Test
+    @DisplayName("不含脱敏字段的返回值类型应判定为 NONE")
+    void should_detect_types_without_masking_fields() throws Exception {
+        assertThat(analyze("count")).isEqualTo(Maskability.NONE);
+        assertThat(analyze("names")).isEqualTo(Maskability.NONE);
+        assertThat(analyze("stats")).isEqualTo(Maskability.NONE);
+        assertThat(analyze("tree")).isEqualTo(Maskability.NONE);
+    }
+
+    @Test
+    @DisplayName("泛型参数、包装类型与多态字段中可达的脱敏字段应判定为 POSSIBLE")
+    void should_detect_reachable_masking_fields() throws Exception {
+        assertThat(analyze("users")).isEqualTo(Maskability.POSSIBLE);
+        assertThat(analyze("asyncUsers")).isEqualTo(Maskability.POSSIBLE);
+        assertThat(analyze("holder")).isEqualTo(Maskability.POSSIBLE);
+    }
+
+    @Test
+    @DisplayName("非 final 类即使自身不含脱敏字段，运行时也可能为带有脱敏字段的子类")
+    void should_treat_non_final_types_as_possible() throws Exception {
+        assertThat(analyze("base")).isEqualTo(Maskability.POSSIBLE);
+        assertThat(analyze("baseResult")).isEqualTo(Maskability.POSSIBLE);
+        // 运行时的响应体即为实际类型
+        assertThat(ReturnTypeMaskingAnalyzer.mayContainMaskingFields(Base.class)).isFalse();
+        assertThat(ReturnTypeMaskingAnalyzer.mayContainMaskingFields(Sub.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("返回值声明为 Object 时应按运行时类型判断")
+    void should_fall_back_to_runtime_type_for_object() throws Exception {
+        assertThat(analyze("any")).isEqualTo(Maskability.RUNTIME);
+        assertThat(ReturnTypeMaskingAnalyzer.mayContainMaskingFields(Long.class)).isFalse();
+        assertThat(ReturnTypeMaskingAnalyzer.mayContainMaskingFields(UserVO.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("响应体恰为非 final 的声明类型时按声明的泛型判断，子类仍需遍历")
+    void should_skip_exact_non_final_envelope() throws Exception {
+        ResponseMaskingDefinition count = new ResponseMaskingDefinition(
+                new MethodParameter(TestController.class.getMethod("envelopeCount"), -1));
+        ResponseMaskingDefinition users = new ResponseMaskingDefinition(
+                new MethodParameter(TestController.class.getMethod("envelopeUsers"), -1));
+
+        assertThat(count.getMaskability()).isEqualTo(Maskability.POSSIBLE);
+        assertThat(count.mayContainMaskingFields(new Envelope<Long>())).isFalse();
+        assertThat(count.mayContainMaskingFields(new AuditedEnvelope<Long>())).isTrue();
+        assertThat(users.mayContainMaskingFields(new Envelope<Page<UserVO>>())).isTrue();
+    }
+}
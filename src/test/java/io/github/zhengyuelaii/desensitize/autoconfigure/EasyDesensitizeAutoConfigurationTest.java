@@ -1,9 +1,21 @@
 package io.github.zhengyuelaii.desensitize.autoconfigure;
 
 import io.github.zhengyuelaii.desensitize.advice.EasyDesensitizeResponseAdvice;
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingDefinitionCache;
+import io.github.zhengyuelaii.desensitize.annotation.ResponseMasking;
+import io.github.zhengyuelaii.desensitize.cache.BoundedMaskingMetadataCache;
+import io.github.zhengyuelaii.desensitize.cache.MaskingMetadataCache;
 import io.github.zhengyuelaii.desensitize.config.EasyDesensitizeProperties;
+import io.github.zhengyuelaii.desensitize.jackson.MaskingJacksonModule;
+import io.github.zhengyuelaii.desensitize.parallel.ParallelMaskingExecutor;
+import io.github.zhengyuelaii.desensitize.plan.PlanMaskingEngine;
+import io.github.zhengyuelaii.desensitize.reactive.ReactiveResponseMaskingResultHandler;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.core.MethodParameter;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
@@ -38,4 +50,70 @@ public class EasyDesensitizeAutoConfigurationTest {
                 });
     }
 
+    @Test
+    void should_register_jackson_module_in_serializer_mode() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(MaskingJacksonModule.class));
+
+        contextRunner.withPropertyValues("easy.desensitize.mode=SERIALIZER")
+                .run(context -> assertThat(context).hasSingleBean(MaskingJacksonModule.class));
+    }
+
+    @Test
+    void should_register_parallel_executor_when_enabled() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(ParallelMaskingExecutor.class));
+
+        contextRunner.withPropertyValues(
+                        "easy.desensitize.parallel.enabled=true",
+                        "easy.desensitize.parallel.threshold=5000",
+                        "easy.desensitize.parallel.parallelism=2")
+                .run(context -> {
+                    ParallelMaskingExecutor executor = context.getBean(ParallelMaskingExecutor.class);
+                    assertThat(executor.getThreshold()).isEqualTo(5000);
+                    assertThat(executor.getParallelism()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    void should_register_bounded_metadata_cache() {
+        contextRunner.withPropertyValues("easy.desensitize.cache.max-size=128")
+                .run(context -> {
+                    MaskingMetadataCache cache = context.getBean(MaskingMetadataCache.class);
+                    assertThat(cache).isInstanceOf(BoundedMaskingMetadataCache.class);
+                    assertThat(((BoundedMaskingMetadataCache) cache).getMaxSize()).isEqualTo(128);
+                    assertThat(context.getBean(PlanMaskingEngine.class).getCompiler().getMetadataCache())
+                            .isSameAs(cache);
+                });
+    }
+
+    static class UserController {
+
+        @ResponseMasking
+        public Object user() {
+            return null;
+        }
+    }
+
+    @Test
+    void should_use_plan_engine_only_when_configured() throws Exception {
+        MethodParameter returnType = new MethodParameter(UserController.class.getMethod("user"), -1);
+
+        contextRunner.run(context -> assertThat(context.getBean(EasyDesensitizeResponseAdvice.class)
+                .usesPlanEngine(context.getBean(ResponseMaskingDefinitionCache.class).get(returnType))).isFalse());
+
+        contextRunner.withPropertyValues("easy.desensitize.parallel.enabled=true")
+                .run(context -> assertThat(context.getBean(EasyDesensitizeResponseAdvice.class)
+                        .usesPlanEngine(context.getBean(ResponseMaskingDefinitionCache.class).get(returnType)))
+                        .isTrue());
+    }
+
+    @Test
+    void should_register_reactive_result_handler_in_reactive_application() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(ReactiveResponseMaskingResultHandler.class));
+
+        new ReactiveWebApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(WebFluxAutoConfiguration.class))
+                .withUserConfiguration(EasyDesensitizeAutoConfiguration.class)
+                .run(context -> assertThat(context).hasSingleBean(ReactiveResponseMaskingResultHandler.class));
+    }
+
 }
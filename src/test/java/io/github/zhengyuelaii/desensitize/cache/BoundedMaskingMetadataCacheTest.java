@@ -0,0 +1,70 @@
+package io.github.zhengyuelaii.desensitize.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BoundedMaskingMetadataCache 测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class BoundedMaskingMetadataCacheTest {
+
+    @Test
+    @DisplayName("按类型与限定键缓存，并统计命中与未命中")
+    void should_cache_by_type_and_qualifier() {
+        BoundedMaskingMetadataCache cache = new BoundedMaskingMetadataCache(16);
+
+        assertThat(cache.get(String.class, "a")).isNull();
+        cache.put(String.class, "a", "plan-a");
+        cache.put(String.class, "b", "plan-b");
+
+        assertThat(cache.get(String.class, "a")).isEqualTo("plan-a");
+        assertThat(cache.get(String.class, "b")).isEqualTo("plan-b");
+        assertThat(cache.get(Integer.class, "a")).isNull();
+
+        MaskingMetadataCache.Stats stats = cache.getStats();
+        assertThat(stats.getHitCount()).isEqualTo(2);
+        assertThat(stats.getMissCount()).isEqualTo(2);
+        assertThat(stats.getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("超过容量时淘汰最久未访问的条目")
+    void should_evict_least_recently_used_entries() {
+        BoundedMaskingMetadataCache cache = new BoundedMaskingMetadataCache(2);
+
+        cache.put(String.class, "q", 1);
+        cache.put(Integer.class, "q", 2);
+        // 访问 String，使 Integer 成为最久未使用
+        cache.get(String.class, "q");
+        cache.put(Long.class, "q", 3);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(Integer.class, "q")).isNull();
+        assertThat(cache.get(String.class, "q")).isEqualTo(1);
+        assertThat(cache.get(Long.class, "q")).isEqualTo(3);
+        assertThat(cache.getStats().getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("按类型移除所有限定键下的元数据")
+    void should_evict_all_entries_of_type() {
+        BoundedMaskingMetadataCache cache = new BoundedMaskingMetadataCache(16);
+        cache.put(String.class, "a", 1);
+        cache.put(String.class, "b", 2);
+        cache.put(Integer.class, "a", 3);
+
+        cache.evict(String.class);
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get(Integer.class, "a")).isEqualTo(3);
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,281 @@
+package io.github.zhengyuelaii.desensitize.cache;
+
+import io.github.zhengyuelaii.desensitize.advice.EasyDesensitizeResponseAdvice;
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingDefinitionCache;
+import io.github.zhengyuelaii.desensitize.annotation.ResponseMasking;
+import io.github.zhengyuelaii.desensitize.config.EasyDesensitizeProperties;
+import io.github.zhengyuelaii.desensitize.core.annotation.MaskingField;
+import io.github.zhengyuelaii.desensitize.core.handler.FixedMaskHandler;
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+import io.github.zhengyuelaii.desensitize.interceptor.DesensitizeInterceptorChainResolver;
+import io.github.zhengyuelaii.desensitize.interceptor.DesensitizeInterceptorRegistry;
+import io.github.zhengyuelaii.desensitize.plan.PlanMaskingEngine;
+import io.github.zhengyuelaii.desensitize.resolver.GlobalMaskingResolverComposite;
+import com.fasterxml.jackson.annotation.JsonView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link MaskedResponseCache} 测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MaskedResponseCacheTest {
+
+    static class ReferenceController {
+
+        @ResponseMasking(fields = {@MaskingField(name = "mobile", typeHandler = FixedMaskHandler.class)},
+                cacheable = true)
+        public Map<String, Object> contact() {
+            return null;
+        }
+    }
+
+    public interface Summary {
+    }
+
+    public static class Contact {
+        @JsonView(Summary.class)
+        public String mobile;
+        public String idCard = "310101199001011234";
+
+        Contact(String mobile) {
+            this.mobile = mobile;
+        }
+    }
+
+    static class ViewController {
+
+        @JsonView(Summary.class)
+        @ResponseMasking(fields = {@MaskingField(name = "mobile", typeHandler = FixedMaskHandler.class)},
+                cacheable = true)
+        public Contact contact() {
+            return null;
+        }
+    }
+
+    @ControllerAdvice
+    static class AuditAdvice implements ResponseBodyAdvice<Object> {
+
+        @Override
+        public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+            return true;
+        }
+
+        @Override
+        public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                      ServerHttpRequest request, ServerHttpResponse response) {
+            return body;
+        }
+    }
+
+    private final MaskedResponseCache cache = new MaskedResponseCache(16, 1024, Duration.ofMinutes(1), false);
+
+    private EasyDesensitizeResponseAdvice advice;
+
+    @BeforeEach
+    void setUp() {
+        advice = new EasyDesensitizeResponseAdvice();
+        ReflectionTestUtils.setField(advice, "properties", new EasyDesensitizeProperties());
+        ReflectionTestUtils.setField(advice, "globalMaskingDataResolver", new GlobalMaskingResolverComposite());
+        ReflectionTestUtils.setField(advice, "definitionCache", new ResponseMaskingDefinitionCache(true, 16));
+        ReflectionTestUtils.setField(advice, "interceptorChainResolver",
+                new DesensitizeInterceptorChainResolver(new DesensitizeInterceptorRegistry(), 16));
+        ReflectionTestUtils.setField(advice, "planMaskingEngine", new PlanMaskingEngine());
+        ReflectionTestUtils.setField(advice, "responseCache", cache);
+
+        RequestMappingHandlerAdapter adapter = new RequestMappingHandlerAdapter();
+        adapter.setMessageConverters(Collections.singletonList(new MappingJackson2HttpMessageConverter()));
+        ReflectionTestUtils.setField(advice, "handlerAdapter", new StaticListableBeanFactory(
+                Collections.singletonMap("handlerAdapter", adapter)).getBeanProvider(RequestMappingHandlerAdapter.class));
+    }
+
+    @Test
+    @DisplayName("相同 ETag 命中缓存时直接写出字节，不再遍历响应体")
+    void should_serve_cached_bytes_for_same_etag() throws Exception {
+        Map<String, Object> first = contact("13800138000");
+        MockHttpServletResponse firstResponse = write(first, "\"v1\"");
+        Map<String, Object> second = contact("13900139000");
+        MockHttpServletResponse secondResponse = write(second, "\"v1\"");
+        MockHttpServletResponse changed = write(contact("13900139000"), "\"v2\"");
+
+        assertThat(firstResponse.getContentAsString()).isEqualTo("{\"mobile\":\"******\",\"id\":1}");
+        assertThat(first.get("mobile")).isEqualTo("******");
+        assertThat(secondResponse.getContentAsByteArray()).isEqualTo(firstResponse.getContentAsByteArray());
+        assertThat(secondResponse.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        // 命中缓存时响应体未被遍历
+        assertThat(second.get("mobile")).isEqualTo("13900139000");
+        assertThat(changed.getContentAsString()).isEqualTo("{\"mobile\":\"******\",\"id\":1}");
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("同一方法下不同路径或查询参数的响应分别缓存")
+    void should_key_by_request_path_and_query() throws Exception {
+        MockHttpServletRequest first = new MockHttpServletRequest("GET", "/contacts/1");
+        MockHttpServletRequest second = new MockHttpServletRequest("GET", "/contacts/2");
+        MockHttpServletRequest query = new MockHttpServletRequest("GET", "/contacts/1");
+        query.setQueryString("lang=en");
+
+        write(contact("13800138000"), "\"v1\"", first);
+        Map<String, Object> other = contact("13900139000");
+        write(other, "\"v1\"", second);
+        Map<String, Object> withQuery = contact("13700137000");
+        write(withQuery, "\"v1\"", query);
+
+        // 均未命中，响应体各自被遍历
+        assertThat(other.get("mobile")).isEqualTo("******");
+        assertThat(withQuery.get("mobile")).isEqualTo("******");
+        assertThat(cache.getHitCount()).isZero();
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("缓存写出时应用接口的 @JsonView，不写出视图外的字段")
+    void should_apply_json_view_when_caching() throws Exception {
+        MethodParameter returnType = new MethodParameter(ViewController.class.getMethod("contact"), -1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletServerHttpResponse serverResponse = new ServletServerHttpResponse(response);
+        serverResponse.getHeaders().setETag("\"v1\"");
+
+        Object result = advice.beforeBodyWrite(new Contact("13800138000"), returnType, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class,
+                new ServletServerHttpRequest(new MockHttpServletRequest("GET", "/contact")), serverResponse);
+        serverResponse.flush();
+
+        assertThat(result).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("{\"mobile\":\"******\"}");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("之后还有适用的 ResponseBodyAdvice 时不缓存，交由框架继续处理")
+    void should_not_cache_when_other_advice_follows() throws Exception {
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.registerBean("easyDesensitizeResponseAdvice", EasyDesensitizeResponseAdvice.class, () -> advice);
+            context.registerBean("auditAdvice", AuditAdvice.class, AuditAdvice::new);
+            context.refresh();
+            ReflectionTestUtils.setField(advice, "applicationContext", context);
+
+            Map<String, Object> body = contact("13800138000");
+            MethodParameter returnType = new MethodParameter(ReferenceController.class.getMethod("contact"), -1);
+            ServletServerHttpResponse serverResponse = new ServletServerHttpResponse(new MockHttpServletResponse());
+            serverResponse.getHeaders().setETag("\"v1\"");
+
+            Object result = advice.beforeBodyWrite(body, returnType, MediaType.APPLICATION_JSON,
+                    MappingJackson2HttpMessageConverter.class,
+                    new ServletServerHttpRequest(new MockHttpServletRequest("GET", "/contact")), serverResponse);
+
+            assertThat(result).isSameAs(body);
+            assertThat(body.get("mobile")).isEqualTo("******");
+            assertThat(cache.size()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("无版本时不缓存，交由框架正常写出")
+    void should_not_cache_without_version() throws Exception {
+        Map<String, Object> body = contact("13800138000");
+        MethodParameter returnType = new MethodParameter(ReferenceController.class.getMethod("contact"), -1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Object result = advice.beforeBodyWrite(body, returnType, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class,
+                new ServletServerHttpRequest(new MockHttpServletRequest("GET", "/contact")),
+                new ServletServerHttpResponse(response));
+
+        assertThat(result).isSameAs(body);
+        assertThat(body.get("mobile")).isEqualTo("******");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("按条目数与字节数淘汰最久未访问的条目，支持堆外存储")
+    void should_evict_least_recently_used() throws Exception {
+        MaskedResponseCache bounded = new MaskedResponseCache(2, 10, null, true);
+        Method method = ReferenceController.class.getMethod("contact");
+        Map<String, MaskingHandler> handlers = Collections.emptyMap();
+        MaskedResponseCache.Key a = MaskedResponseCache.key(method, "/regions", "application/json", handlers,
+                Collections.emptySet(), "a");
+        MaskedResponseCache.Key b = MaskedResponseCache.key(method, "/regions", "application/json", handlers,
+                Collections.emptySet(), "b");
+        MaskedResponseCache.Key c = MaskedResponseCache.key(method, "/regions", "application/json", handlers,
+                Collections.emptySet(), "c");
+
+        bounded.put(a, bytes("aaaa"));
+        bounded.put(b, bytes("bbbb"));
+        bounded.get(a);
+        bounded.put(c, bytes("cccc"));
+        bounded.put(MaskedResponseCache.key(method, "/regions", "application/json", handlers, Collections.emptySet(), "d"),
+                bytes("too large body"));
+
+        assertThat(bounded.get(b)).isNull();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        bounded.get(a).writeTo(output);
+        assertThat(output.toString("UTF-8")).isEqualTo("aaaa");
+        assertThat(bounded.size()).isEqualTo(2);
+        assertThat(bounded.getBytes()).isEqualTo(8);
+    }
+
+    private MockHttpServletResponse write(Map<String, Object> body, String etag) throws Exception {
+        return write(body, etag, new MockHttpServletRequest("GET", "/contact"));
+    }
+
+    private MockHttpServletResponse write(Map<String, Object> body, String etag, MockHttpServletRequest request)
+            throws Exception {
+        MethodParameter returnType = new MethodParameter(ReferenceController.class.getMethod("contact"), -1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletServerHttpResponse serverResponse = new ServletServerHttpResponse(response);
+        serverResponse.getHeaders().setETag(etag);
+
+        Object result = advice.beforeBodyWrite(body, returnType, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class,
+                new ServletServerHttpRequest(request), serverResponse);
+
+        assertThat(result).isNull();
+        serverResponse.flush();
+        return response;
+    }
+
+    private static Map<String, Object> contact(String mobile) {
+        Map<String, Object> contact = new LinkedHashMap<>();
+        contact.put("mobile", mobile);
+        contact.put("id", 1);
+        return contact;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.zhengyuelaii.desensitize.handler;
+
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandlerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 字符数组脱敏处理器测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class CharMaskingHandlerTest {
+
+    @Test
+    @DisplayName("内置处理器按规则保留首尾字符")
+    void should_mask_with_builtin_rules() {
+        assertThat(new MobileMaskHandler().getMaskingValue("13800138000")).isEqualTo("138****8000");
+        assertThat(new IdCardMaskHandler().getMaskingValue("11010519491231002X")).isEqualTo("1***************2X");
+        assertThat(new BankCardMaskHandler().getMaskingValue("6222021234567890123")).isEqualTo("6222***********0123");
+        assertThat(new EmailMaskHandler().getMaskingValue("zhangsan@example.com")).isEqualTo("z*******@example.com");
+        assertThat(new NameMaskHandler().getMaskingValue("李小龙")).isEqualTo("李**");
+        assertThat(new AddressMaskHandler().getMaskingValue("北京市海淀区中关村大街1号院")).isEqualTo("北京市海淀区********");
+        assertThat(new FixedLengthMaskHandler().getMaskingValue("secret")).isEqualTo("******");
+    }
+
+    @Test
+    @DisplayName("短值至少遮盖一个字符，无可遮盖部分时返回原值")
+    void should_handle_short_values() {
+        assertThat(new MobileMaskHandler().getMaskingValue("12345")).isEqualTo("123**");
+        assertThat(new BankCardMaskHandler().getMaskingValue("1")).isEqualTo("*");
+        assertThat(new NameMaskHandler().getMaskingValue("李")).isEqualTo("李");
+        assertThat(new EmailMaskHandler().getMaskingValue("a@example.com")).isEqualTo("a@example.com");
+        assertThat(new EmailMaskHandler().getMaskingValue("abc")).isEqualTo("a**");
+        assertThat(new AddressMaskHandler().getMaskingValue("海淀区")).isEqualTo("***");
+        assertThat(new MobileMaskHandler().getMaskingValue(null)).isNull();
+        assertThat(new MobileMaskHandler().getMaskingValue("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("超出缓冲池长度的值与缓存长度之外的等长遮盖")
+    void should_handle_long_values() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            builder.append('x');
+        }
+        String masked = new FixedLengthMaskHandler().getMaskingValue(builder.toString());
+        assertThat(masked).hasSize(300).matches("\\*+");
+        assertThat(new MobileMaskHandler().getMaskingValue(builder.toString()))
+                .startsWith("xxx*").endsWith("*xxxx").hasSize(300);
+    }
+
+    @Test
+    @DisplayName("可通过 @MaskingField(typeHandler = ...) 机制实例化")
+    void should_be_created_by_handler_factory() {
+        MaskingHandler handler = MaskingHandlerFactory.getHandler(MobileMaskHandler.class);
+        assertThat(handler.getMaskingValue("13800138000")).isEqualTo("138****8000");
+    }
+}
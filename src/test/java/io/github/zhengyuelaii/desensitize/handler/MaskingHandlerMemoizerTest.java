@@ -0,0 +1,134 @@
+package io.github.zhengyuelaii.desensitize.handler;
+
+import io.github.zhengyuelaii.desensitize.config.MemoizeScope;
+import io.github.zhengyuelaii.desensitize.core.annotation.MaskingField;
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+import io.github.zhengyuelaii.desensitize.plan.PlanMaskingEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MaskingHandlerMemoizer 测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MaskingHandlerMemoizerTest {
+
+    static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+    public static class CountingMobileHandler extends MobileMaskHandler {
+
+        @Override
+        protected String mask(String value) {
+            INVOCATIONS.incrementAndGet();
+            return super.mask(value);
+        }
+    }
+
+    static class Contact {
+        @MaskingField(typeHandler = CountingMobileHandler.class)
+        private String mobile;
+
+        Contact(String mobile) {
+            this.mobile = mobile;
+        }
+    }
+
+    @Test
+    @DisplayName("请求级记忆化：重复值返回同一结果实例并统计命中率")
+    void should_memoize_within_request() {
+        MaskingHandlerMemoizer memoizer = new MaskingHandlerMemoizer(MemoizeScope.REQUEST,
+                Collections.emptySet(), 100, 16, null);
+        MaskingHandler handler = new MobileMaskHandler();
+
+        MaskingHandlerDecorator session = memoizer.openSession();
+        MaskingHandler memoized = session.decorate("mobile", handler);
+        String first = memoized.getMaskingValue("13800138000");
+        String second = memoized.getMaskingValue("13800138000");
+
+        assertThat(first).isEqualTo("138****8000").isSameAs(second);
+        assertThat(session.decorate("phone", handler)).isSameAs(memoized);
+        assertThat(memoizer.openSession().decorate("mobile", handler)).isNotSameAs(memoized);
+        assertThat(memoizer.getHitCount()).isEqualTo(1);
+        assertThat(memoizer.getMissCount()).isEqualTo(1);
+        assertThat(memoizer.getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("仅对配置的字段生效，未启用时不装饰")
+    void should_respect_fields_and_scope() {
+        MaskingHandler handler = new MobileMaskHandler();
+        MaskingHandlerMemoizer memoizer = new MaskingHandlerMemoizer(MemoizeScope.GLOBAL,
+                Collections.singleton("mobile"), 100, 16, Duration.ofMinutes(1));
+
+        assertThat(memoizer.openSession().decorate("mobile", handler)).isInstanceOf(MemoizingMaskingHandler.class)
+                .isSameAs(memoizer.openSession().decorate("mobile", handler));
+        assertThat(memoizer.openSession().decorate("name", handler)).isSameAs(handler);
+
+        assertThat(new MaskingHandlerMemoizer(MemoizeScope.NONE, null, 100, 16, null).openSession()).isNull();
+    }
+
+    @Test
+    @DisplayName("全局记忆化超出容量时淘汰，结果仍然正确")
+    void should_bound_global_cache() {
+        MaskingHandlerMemoizer memoizer = new MaskingHandlerMemoizer(MemoizeScope.GLOBAL,
+                Collections.emptySet(), 4, 16, Duration.ofMinutes(1));
+        MaskingHandler memoized = memoizer.openSession().decorate("mobile", new MobileMaskHandler());
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(memoized.getMaskingValue("1380013800" + (i % 10))).isEqualTo("138****800" + (i % 10));
+        }
+        assertThat(memoizer.getMissCount()).isGreaterThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("全局记忆化按最久未访问淘汰")
+    void should_evict_least_recently_used_values() {
+        MaskingHandlerMemoizer memoizer = new MaskingHandlerMemoizer(MemoizeScope.GLOBAL,
+                Collections.emptySet(), 4, 16, Duration.ofMinutes(1));
+        MaskingHandler memoized = memoizer.openSession().decorate("mobile", new MobileMaskHandler());
+        for (int i = 0; i < 4; i++) {
+            memoized.getMaskingValue("1380013800" + i);
+        }
+        // 访问最早写入的值后写入新值，超出容量时淘汰 1、2
+        memoized.getMaskingValue("13800138000");
+        memoized.getMaskingValue("13800138004");
+        long misses = memoizer.getMissCount();
+
+        memoized.getMaskingValue("13800138000");
+        memoized.getMaskingValue("13800138003");
+        assertThat(memoizer.getMissCount()).isEqualTo(misses);
+        memoized.getMaskingValue("13800138001");
+        assertThat(memoizer.getMissCount()).isEqualTo(misses + 1);
+    }
+
+    @Test
+    @DisplayName("执行计划模式下字段注解声明的处理器同样被记忆化")
+    void should_memoize_annotation_handlers_in_plan_mode() {
+        MaskingHandlerMemoizer memoizer = new MaskingHandlerMemoizer(MemoizeScope.REQUEST,
+                Collections.emptySet(), 100, 16, null);
+        List<Contact> contacts = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            contacts.add(new Contact("13800138000"));
+        }
+        INVOCATIONS.set(0);
+
+        new PlanMaskingEngine().mask(contacts, Collections.emptyMap(), Collections.emptySet(),
+                memoizer.openSession());
+
+        assertThat(contacts).allMatch(contact -> "138****8000".equals(contact.mobile));
+        assertThat(contacts.get(0).mobile).isSameAs(contacts.get(49).mobile);
+        assertThat(INVOCATIONS.get()).isEqualTo(1);
+        assertThat(memoizer.getHitCount()).isEqualTo(49);
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.zhengyuelaii.desensitize.hibernate;
+
+import io.github.zhengyuelaii.desensitize.autoconfigure.EasyDesensitizeAutoConfiguration;
+import io.github.zhengyuelaii.desensitize.plan.MaskingTraversal;
+import io.github.zhengyuelaii.desensitize.plan.PlanMaskingEngine;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * HibernateTraversalGuard 测试
+ * <p>
+ * 测试 classpath 中没有 Hibernate，在独立的类加载器上编译一个桩 {@code org.hibernate.Hibernate}：
+ * 实现了 {@link Callable} 的对象视为未初始化的代理。
+ * </p>
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class HibernateTraversalGuardTest {
+
+    private static final String HIBERNATE_STUB = "package org.hibernate;\n"
+            + "public final class Hibernate {\n"
+            + "    public static boolean isInitialized(Object proxy) {\n"
+            + "        return !(proxy instanceof java.util.concurrent.Callable);\n"
+            + "    }\n"
+            + "}\n";
+
+    @TempDir
+    static Path dir;
+
+    private static URLClassLoader hibernateLoader;
+
+    public static class Dept {
+        public String mobile = "13800138000";
+    }
+
+    /**
+     * 未初始化的延迟加载代理
+     */
+    public static class LazyDept extends Dept implements Callable<Dept> {
+        @Override
+        public Dept call() {
+            return this;
+        }
+    }
+
+    public static class Employee {
+        public String mobile = "13800138000";
+        public Dept dept = new Dept();
+        public Dept manager = new LazyDept();
+    }
+
+    @BeforeAll
+    static void compileHibernateStub() throws IOException {
+        JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        assumeTrue(javac != null, "requires a JDK");
+        Path source = Files.createDirectories(dir.resolve("src/org/hibernate")).resolve("Hibernate.java");
+        Files.write(source, HIBERNATE_STUB.getBytes(StandardCharsets.UTF_8));
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+        ByteArrayOutputStream diagnostics = new ByteArrayOutputStream();
+        int status = javac.run(null, null, diagnostics, "-d", classes.toString(), source.toString());
+        assertThat(status).as(diagnostics.toString()).isZero();
+        hibernateLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()},
+                HibernateTraversalGuardTest.class.getClassLoader());
+    }
+
+    @AfterAll
+    static void closeLoader() throws IOException {
+        if (hibernateLoader != null) {
+            hibernateLoader.close();
+        }
+    }
+
+    @Test
+    @DisplayName("按 Hibernate.isInitialized 跳过未初始化的代理及其子树")
+    void should_skip_uninitialized_proxies() {
+        HibernateTraversalGuard guard = new HibernateTraversalGuard(hibernateLoader);
+        assertThat(guard.canTraverse(new Dept())).isTrue();
+        assertThat(guard.canTraverse(new LazyDept())).isFalse();
+
+        PlanMaskingEngine engine = new PlanMaskingEngine();
+        engine.setTraversalGuard(guard);
+        Employee employee = new Employee();
+
+        MaskingTraversal traversal = engine.mask(employee,
+                Collections.singletonMap("mobile", value -> "***"), Collections.emptySet());
+
+        assertThat(employee.mobile).isEqualTo("***");
+        assertThat(employee.dept.mobile).isEqualTo("***");
+        assertThat(employee.manager.mobile).isEqualTo("13800138000");
+        assertThat(traversal.getSkippedNodes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("classpath 中没有 Hibernate 时无法创建")
+    void should_fail_without_hibernate() {
+        assertThatThrownBy(() -> new HibernateTraversalGuard(getClass().getClassLoader()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("存在 Hibernate 且开启 skip-lazy-loading 时注册遍历守卫")
+    void should_register_guard_when_enabled() {
+        ApplicationContextRunner runner = new ApplicationContextRunner()
+                .withUserConfiguration(EasyDesensitizeAutoConfiguration.class);
+
+        runner.withClassLoader(hibernateLoader)
+                .run(context -> assertThat(context).doesNotHaveBean(HibernateTraversalGuard.class));
+        runner.withPropertyValues("easy.desensitize.skip-lazy-loading=true")
+                .run(context -> assertThat(context).doesNotHaveBean(HibernateTraversalGuard.class));
+
+        runner.withClassLoader(hibernateLoader)
+                .withPropertyValues("easy.desensitize.skip-lazy-loading=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(HibernateTraversalGuard.class);
+                    PlanMaskingEngine engine = context.getBean(PlanMaskingEngine.class);
+                    assertThat(engine.hasTraversalGuard()).isTrue();
+                    assertThat(engine.getTraversalGuard().canTraverse(new LazyDept())).isFalse();
+                });
+    }
+}
@@ -0,0 +1,176 @@
+package io.github.zhengyuelaii.desensitize.interceptor;
+
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingContext;
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingDefinition;
+import io.github.zhengyuelaii.desensitize.core.handler.FixedMaskHandler;
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link CachingDesensitizeInterceptor} 测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class CachingDesensitizeInterceptorTest {
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    private final EasyDesensitizeInterceptor tenantInterceptor = new EasyDesensitizeInterceptor() {
+        @Override
+        public boolean preHandle(Object body, ResponseMaskingContext context, MethodParameter returnType,
+                                 ServerHttpRequest request, ServerHttpResponse response) {
+            invocations.incrementAndGet();
+            String tenant = request.getHeaders().getFirst("X-Tenant");
+            if ("admin".equals(tenant)) {
+                return false;
+            }
+            context.removeHandler("mobile").addHandler("email", new FixedMaskHandler()).addExcludedField("name");
+            return true;
+        }
+    };
+
+    @Test
+    @DisplayName("相同缓存键命中时应回放上下文修改且不再调用委托拦截器")
+    void should_replay_overlay_on_cache_hit() {
+        CachingDesensitizeInterceptor interceptor = new CachingDesensitizeInterceptor(tenantInterceptor,
+                request -> request.getHeaders().getFirst("X-Tenant"), Duration.ofMinutes(1));
+
+        ResponseMaskingContext first = newContext();
+        assertThat(interceptor.preHandle(null, first, null, request("t1"), null)).isTrue();
+        ResponseMaskingContext second = newContext();
+        assertThat(interceptor.preHandle(null, second, null, request("t1"), null)).isTrue();
+
+        assertThat(invocations).hasValue(1);
+        assertThat(second.getEffectiveHandlers()).containsOnlyKeys("email");
+        assertThat(second.getEffectiveHandlers().get("email")).isInstanceOf(FixedMaskHandler.class);
+        assertThat(second.getEffectiveExcludedFields()).containsExactly("name");
+    }
+
+    @Test
+    @DisplayName("不同缓存键应分别缓存决策结果")
+    void should_cache_decision_per_key() {
+        CachingDesensitizeInterceptor interceptor = new CachingDesensitizeInterceptor(tenantInterceptor,
+                request -> request.getHeaders().getFirst("X-Tenant"), Duration.ofMinutes(1));
+
+        assertThat(interceptor.preHandle(null, newContext(), null, request("admin"), null)).isFalse();
+        assertThat(interceptor.preHandle(null, newContext(), null, request("admin"), null)).isFalse();
+        ResponseMaskingContext context = newContext();
+        assertThat(interceptor.preHandle(null, context, null, request("t1"), null)).isTrue();
+
+        assertThat(invocations).hasValue(2);
+        assertThat(interceptor.size()).isEqualTo(2);
+        assertThat(context.isModified()).isTrue();
+    }
+
+    @Test
+    @DisplayName("缓存键为 null 时每次都应调用委托拦截器")
+    void should_not_cache_when_key_is_null() {
+        DesensitizeInterceptorRegistry registry = new DesensitizeInterceptorRegistry();
+        DesensitizeInterceptorRegistration registration = registry.addInterceptor(tenantInterceptor)
+                .addPathPatterns("/**")
+                .cacheBy(request -> request.getHeaders().getFirst("X-Tenant"), Duration.ofMinutes(1));
+        EasyDesensitizeInterceptor interceptor = registration.getInterceptor();
+
+        interceptor.preHandle(null, newContext(), null, request(null), null);
+        interceptor.preHandle(null, newContext(), null, request(null), null);
+
+        assertThat(interceptor).isInstanceOf(CachingDesensitizeInterceptor.class);
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("缓存版本同样被记录回放，不同处理方法的决策分别缓存")
+    void should_record_cache_version_and_key_by_handler_method() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        EasyDesensitizeInterceptor versioning = new EasyDesensitizeInterceptor() {
+            @Override
+            public boolean preHandle(Object body, ResponseMaskingContext context, MethodParameter returnType,
+                                     ServerHttpRequest request, ServerHttpResponse response) {
+                calls.incrementAndGet();
+                context.setCacheVersion(returnType.getMethod().getName());
+                return true;
+            }
+        };
+        CachingDesensitizeInterceptor interceptor = new CachingDesensitizeInterceptor(versioning,
+                request -> request.getHeaders().getFirst("X-Tenant"), Duration.ofMinutes(1));
+        MethodParameter list = new MethodParameter(Endpoints.class.getMethod("list"), -1);
+        MethodParameter detail = new MethodParameter(Endpoints.class.getMethod("detail"), -1);
+
+        interceptor.preHandle(null, newContext(), list, request("t1"), null);
+        ResponseMaskingContext replayed = newContext();
+        interceptor.preHandle(null, replayed, list, request("t1"), null);
+        ResponseMaskingContext other = newContext();
+        interceptor.preHandle(null, other, detail, request("t1"), null);
+
+        assertThat(calls).hasValue(2);
+        assertThat(replayed.getCacheVersion()).isEqualTo("list");
+        assertThat(other.getCacheVersion()).isEqualTo("detail");
+
+        interceptor.evict("t1");
+        assertThat(interceptor.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("超出容量时按写入顺序淘汰最早的决策")
+    void should_evict_oldest_decisions_on_overflow() {
+        CachingDesensitizeInterceptor interceptor = new CachingDesensitizeInterceptor(tenantInterceptor,
+                request -> request.getHeaders().getFirst("X-Tenant"), null, 8);
+        for (int i = 0; i < 9; i++) {
+            interceptor.preHandle(null, newContext(), null, request("t" + i), null);
+        }
+
+        // 淘汰至容量的四分之三，保留最近写入的 6 个决策
+        assertThat(interceptor.size()).isEqualTo(6);
+        invocations.set(0);
+        for (int i = 3; i < 9; i++) {
+            interceptor.preHandle(null, newContext(), null, request("t" + i), null);
+        }
+        assertThat(invocations).hasValue(0);
+        interceptor.preHandle(null, newContext(), null, request("t0"), null);
+        assertThat(invocations).hasValue(1);
+    }
+
+    static class Endpoints {
+
+        public Object list() {
+            return null;
+        }
+
+        public Object detail() {
+            return null;
+        }
+    }
+
+    private static ResponseMaskingContext newContext() {
+        Map<String, MaskingHandler> handlers = new HashMap<>();
+        handlers.put("mobile", new FixedMaskHandler());
+        return new ResponseMaskingContext(new ResponseMaskingDefinition(true,
+                Collections.unmodifiableMap(handlers), Collections.unmodifiableSet(new HashSet<>())) {
+        });
+    }
+
+    private static ServerHttpRequest request(String tenant) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user");
+        if (tenant != null) {
+            request.addHeader("X-Tenant", tenant);
+        }
+        return new ServletServerHttpRequest(request);
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.zhengyuelaii.desensitize.interceptor;
+
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DesensitizeInterceptorChainResolver 测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class DesensitizeInterceptorChainResolverTest {
+
+    /**
+     * 记录调用顺序的拦截器
+     */
+    static class RecordingInterceptor implements EasyDesensitizeInterceptor {
+
+        private final String name;
+        private final List<String> calls;
+
+        RecordingInterceptor(String name, List<String> calls) {
+            this.name = name;
+            this.calls = calls;
+        }
+
+        @Override
+        public boolean preHandle(Object body, ResponseMaskingContext context, MethodParameter returnType,
+                                 ServerHttpRequest request, ServerHttpResponse response) {
+            calls.add(name);
+            return true;
+        }
+    }
+
+    private List<String> invoke(DesensitizeInterceptorChainResolver resolver, String path, List<String> calls) {
+        calls.clear();
+        resolver.getChain(path).preHandle(null, null, null, null, null);
+        return new ArrayList<>(calls);
+    }
+
+    @Test
+    @DisplayName("应按路径模式与 order 解析拦截器链")
+    void should_resolve_matching_interceptors_in_order() {
+        List<String> calls = new ArrayList<>();
+        DesensitizeInterceptorRegistry registry = new DesensitizeInterceptorRegistry();
+        registry.addInterceptor(new RecordingInterceptor("person", calls))
+                .addPathPatterns("/person/**").order(2);
+        registry.addInterceptor(new RecordingInterceptor("all", calls))
+                .addPathPatterns("/**").excludePatterns("/public/**").order(1);
+        registry.addInterceptor(new RecordingInterceptor("detail", calls))
+                .addPathPatterns("/person/*/detail");
+        registry.addInterceptor(new RecordingInterceptor("user", calls))
+                .addPathPatterns("/user/{id}");
+
+        DesensitizeInterceptorChainResolver resolver = new DesensitizeInterceptorChainResolver(registry, 16);
+
+        assertThat(invoke(resolver, "/person/1/detail", calls)).containsExactly("detail", "all", "person");
+        assertThat(invoke(resolver, "/person/list", calls)).containsExactly("all", "person");
+        assertThat(invoke(resolver, "/user/1", calls)).containsExactly("user", "all");
+        assertThat(invoke(resolver, "/public/user/1", calls)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("相同路径应复用缓存的拦截器链")
+    void should_cache_chain_per_path() {
+        DesensitizeInterceptorRegistry registry = new DesensitizeInterceptorRegistry();
+        registry.addInterceptor(new RecordingInterceptor("person", new ArrayList<>()))
+                .addPathPatterns("/person/**");
+
+        DesensitizeInterceptorChainResolver resolver = new DesensitizeInterceptorChainResolver(registry, 16);
+
+        assertThat(resolver.getChain("/person/1")).isSameAs(resolver.getChain("/person/1"));
+    }
+
+    @Test
+    @DisplayName("无拦截器或未匹配时应返回共享的空链")
+    void should_return_shared_empty_chain() {
+        DesensitizeInterceptorRegistry registry = new DesensitizeInterceptorRegistry();
+        registry.addInterceptor(new RecordingInterceptor("person", new ArrayList<>()))
+                .addPathPatterns("/person/**");
+
+        DesensitizeInterceptorChainResolver resolver = new DesensitizeInterceptorChainResolver(registry, 0);
+        DesensitizeInterceptorChainResolver emptyResolver =
+                new DesensitizeInterceptorChainResolver(new DesensitizeInterceptorRegistry(), 16);
+
+        assertThat(resolver.getChain("/user/1")).isSameAs(resolver.getChain("/order/1"));
+        assertThat(emptyResolver.getChain("/user/1")).isSameAs(resolver.getChain("/user/1"));
+    }
+
+    @Test
+    @DisplayName("未配置路径模式的拦截器不应生效")
+    void should_not_match_registration_without_patterns() {
+        List<String> calls = new ArrayList<>();
+        DesensitizeInterceptorRegistry registry = new DesensitizeInterceptorRegistry();
+        registry.addInterceptor(new RecordingInterceptor("none", calls));
+
+        DesensitizeInterceptorChainResolver resolver = new DesensitizeInterceptorChainResolver(registry, 16);
+
+        assertThat(invoke(resolver, "/person/1", calls)).isEmpty();
+    }
+}
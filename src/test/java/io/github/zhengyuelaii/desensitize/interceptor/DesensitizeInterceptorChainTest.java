@@ -106,6 +106,49 @@ public class DesensitizeInterceptorChainTest {
         verify(interceptor2).onException(ex, body, returnType, request, response);
     }
 
+    @Test
+    @DisplayName("仅实现 postHandle 的拦截器不应参与其他阶段")
+    void should_skip_phases_not_overridden() {
+        PostHandleOnlyInterceptor postOnly = new PostHandleOnlyInterceptor();
+        DesensitizeInterceptorChain chain =
+                new DesensitizeInterceptorChain(Arrays.asList(postOnly, interceptor1));
+        when(interceptor1.preHandle(any(), any(), any(), any(), any())).thenReturn(true);
+
+        assertThat(chain.preHandle(body, context, returnType, request, response)).isTrue();
+        chain.postHandle(body, context, returnType, request, response);
+        chain.onException(new RuntimeException("test"), body, returnType, request, response);
+
+        assertThat(chain.hasPostHandlers()).isTrue();
+        assertThat(postOnly.calls).isEqualTo(1);
+        verify(interceptor1).preHandle(body, context, returnType, request, response);
+        verify(interceptor1).postHandle(body, context, returnType, request, response);
+    }
+
+    @Test
+    @DisplayName("未覆盖任何方法的拦截器应跳过所有阶段")
+    void should_skip_all_phases_for_noop_interceptor() {
+        DesensitizeInterceptorChain chain = new DesensitizeInterceptorChain(
+                Arrays.asList(new EasyDesensitizeInterceptor() {
+                }));
+
+        assertThat(chain.isEmpty()).isFalse();
+        assertThat(chain.hasPostHandlers()).isFalse();
+        assertThat(chain.hasExceptionHandlers()).isFalse();
+        assertThat(chain.preHandle(body, context, returnType, request, response)).isTrue();
+        assertThat(DesensitizeInterceptorChain.of(null)).isSameAs(DesensitizeInterceptorChain.EMPTY);
+    }
+
+    static class PostHandleOnlyInterceptor implements EasyDesensitizeInterceptor {
+
+        int calls;
+
+        @Override
+        public void postHandle(Object body, ResponseMaskingContext context, MethodParameter returnType,
+                               ServerHttpRequest request, ServerHttpResponse response) {
+            calls++;
+        }
+    }
+
     static class DummyController {
         public Object test() {
             return null;
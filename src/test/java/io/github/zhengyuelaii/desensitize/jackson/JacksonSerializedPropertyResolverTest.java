@@ -0,0 +1,153 @@
+package io.github.zhengyuelaii.desensitize.jackson;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.github.zhengyuelaii.desensitize.core.annotation.MaskingField;
+import io.github.zhengyuelaii.desensitize.core.handler.FixedMaskHandler;
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+import io.github.zhengyuelaii.desensitize.plan.MaskingPlanCompiler;
+import io.github.zhengyuelaii.desensitize.plan.MaskingTraversal;
+import io.github.zhengyuelaii.desensitize.plan.PlanMaskingEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 序列化属性剪除测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class JacksonSerializedPropertyResolverTest {
+
+    static final Map<String, MaskingHandler> HANDLERS = Collections.singletonMap("mobile", value -> "***");
+
+    public interface Summary {
+    }
+
+    public interface Detail extends Summary {
+    }
+
+    public static class Contact {
+        @JsonView(Summary.class)
+        public String mobile = "13800138000";
+    }
+
+    public static class Account {
+        public String mobile = "13800138000";
+        @JsonIgnore
+        public Contact secret = new Contact();
+        public transient Contact cache = new Contact();
+        @JsonView(Summary.class)
+        public Contact owner = new Contact();
+        @JsonView(Detail.class)
+        public Contact auditor = new Contact();
+    }
+
+    public static class Profile {
+        @JsonIgnore
+        private Contact primary = new Contact();
+
+        // getter 名称与字段名不一致，无法确定读取的字段
+        public Contact getContact() {
+            return primary;
+        }
+    }
+
+    public static class Customer {
+        @JsonIgnore
+        @MaskingField(typeHandler = FixedMaskHandler.class)
+        private String phone = "13800138000";
+        @JsonIgnore
+        private String mobile = "13800138000";
+
+        // 被忽略的脱敏字段经由其他属性写出
+        public String getContact() {
+            return phone;
+        }
+
+        public String getBackup() {
+            return mobile;
+        }
+    }
+
+    // 与 Spring Boot 默认配置一致，关闭 DEFAULT_VIEW_INCLUSION
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .disable(MapperFeature.DEFAULT_VIEW_INCLUSION).build();
+
+    private PlanMaskingEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        MaskingPlanCompiler compiler = new MaskingPlanCompiler();
+        compiler.setSerializedPropertyResolver(new JacksonSerializedPropertyResolver(objectMapper));
+        engine = new PlanMaskingEngine(compiler);
+    }
+
+    @Test
+    @DisplayName("跳过 @JsonIgnore 与 transient 字段的子树")
+    void should_skip_ignored_and_transient_fields() {
+        Account account = new Account();
+
+        MaskingTraversal traversal = engine.mask(account, HANDLERS, Collections.emptySet());
+
+        assertThat(account.mobile).isEqualTo("***");
+        assertThat(account.owner.mobile).isEqualTo("***");
+        assertThat(account.auditor.mobile).isEqualTo("***");
+        assertThat(account.secret.mobile).isEqualTo("13800138000");
+        assertThat(account.cache.mobile).isEqualTo("13800138000");
+        assertThat(traversal.getVisitedObjects()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("仅遍历当前 @JsonView 中的属性，计划按视图缓存")
+    void should_follow_json_view() {
+        Account summary = new Account();
+        engine.mask(summary, HANDLERS, Collections.emptySet(), null, null, Summary.class);
+
+        assertThat(summary.owner.mobile).isEqualTo("***");
+        assertThat(summary.auditor.mobile).isEqualTo("13800138000");
+        // String 字段不参与剪除
+        assertThat(summary.mobile).isEqualTo("***");
+
+        Account detail = new Account();
+        engine.mask(detail, HANDLERS, Collections.emptySet(), null, null, Detail.class);
+
+        assertThat(detail.owner.mobile).isEqualTo("***");
+        assertThat(detail.auditor.mobile).isEqualTo("***");
+    }
+
+    @Test
+    @DisplayName("getter 属性找不到同名字段时不剪除该类型")
+    void should_not_prune_getter_without_matching_field() {
+        JacksonSerializedPropertyResolver resolver = new JacksonSerializedPropertyResolver(objectMapper);
+        Profile profile = new Profile();
+
+        engine.mask(profile, HANDLERS, Collections.emptySet());
+
+        assertThat(resolver.getSerializedFields(Profile.class, null)).isNull();
+        assertThat(profile.getContact().mobile).isEqualTo("***");
+    }
+
+    @Test
+    @DisplayName("被忽略的注解字段与名称规则字段不剪除，经由其他 getter 写出时仍已脱敏")
+    void should_keep_ignored_masking_fields() throws Exception {
+        Customer customer = new Customer();
+
+        engine.mask(customer, HANDLERS, Collections.emptySet());
+
+        String json = objectMapper.writeValueAsString(customer);
+        assertThat(json).doesNotContain("13800138000");
+        assertThat(customer.getContact()).isNotEqualTo("13800138000");
+        assertThat(customer.getBackup()).isEqualTo("***");
+    }
+}
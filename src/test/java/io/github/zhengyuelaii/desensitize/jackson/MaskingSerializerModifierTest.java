@@ -0,0 +1,217 @@
+package io.github.zhengyuelaii.desensitize.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingContext;
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingDefinition;
+import io.github.zhengyuelaii.desensitize.core.EasyDesensitize;
+import io.github.zhengyuelaii.desensitize.core.annotation.MaskingField;
+import io.github.zhengyuelaii.desensitize.core.handler.FixedMaskHandler;
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+import io.github.zhengyuelaii.desensitize.plan.PlanMaskingEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 序列化脱敏模式测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MaskingSerializerModifierTest {
+
+    public static class User {
+        @MaskingField(typeHandler = FixedMaskHandler.class)
+        private String password = "123456";
+        private String mobile = "13700004586";
+        private String address = "上海";
+
+        public String getPassword() {
+            return password;
+        }
+
+        public String getMobile() {
+            return mobile;
+        }
+
+        public String getAddress() {
+            return address;
+        }
+    }
+
+    public static class Account {
+        private User owner = new User();
+        private User contact = new User();
+        private Map<String, Object> profile = new LinkedHashMap<>();
+
+        Account() {
+            profile.put("mobile", "13700004586");
+        }
+
+        public User getOwner() {
+            return owner;
+        }
+
+        public User getContact() {
+            return contact;
+        }
+
+        public Map<String, Object> getProfile() {
+            return profile;
+        }
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new MaskingJacksonModule());
+
+    private MockHttpServletRequest servletRequest;
+
+    @BeforeEach
+    void setUp() {
+        servletRequest = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private void bind(Map<String, MaskingHandler> handlers, String... excludedFields) {
+        Map<String, MaskingHandler> copy = new HashMap<>(handlers);
+        ResponseMaskingContext context = new ResponseMaskingContext(
+                new ResponseMaskingDefinition(true, copy, new HashSet<>(Arrays.asList(excludedFields))) {
+                });
+        MaskingSerializationContext.bind(new ServletServerHttpRequest(servletRequest), context);
+    }
+
+    @Test
+    @DisplayName("序列化时应按注解与字段名规则脱敏，且不修改原对象")
+    void should_mask_during_serialization_without_mutation() throws Exception {
+        bind(Collections.singletonMap("mobile", value -> "137****4586"));
+        User user = new User();
+
+        String json = objectMapper.writeValueAsString(user);
+
+        assertThat(json).contains("\"password\":\"******\"")
+                .contains("\"mobile\":\"137****4586\"")
+                .contains("\"address\":\"上海\"");
+        assertThat(user.getPassword()).isEqualTo("123456");
+        assertThat(user.getMobile()).isEqualTo("13700004586");
+    }
+
+    @Test
+    @DisplayName("排除字段不应脱敏")
+    void should_skip_excluded_fields() throws Exception {
+        bind(Collections.emptyMap(), "password");
+
+        String json = objectMapper.writeValueAsString(new User());
+
+        assertThat(json).contains("\"password\":\"123456\"");
+    }
+
+    @Test
+    @DisplayName("空字符串与核心库一致交给处理器")
+    void should_pass_empty_string_to_handler() throws Exception {
+        bind(Collections.emptyMap());
+        User user = new User();
+        user.password = "";
+
+        String json = objectMapper.writeValueAsString(user);
+
+        assertThat(json).contains("\"password\":\"******\"");
+    }
+
+    @Test
+    @DisplayName("应按键名脱敏 Map 中的值")
+    void should_mask_map_values() throws Exception {
+        bind(Collections.singletonMap("name", value -> "张*凡"));
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("name", "张小凡");
+        data.put("user", new User());
+
+        String json = objectMapper.writeValueAsString(data);
+
+        assertThat(json).startsWith("{\"name\":\"张*凡\"")
+                .contains("\"password\":\"******\"");
+        assertThat(data.get("name")).isEqualTo("张小凡");
+    }
+
+    @Test
+    @DisplayName("当前请求未开启脱敏时应原样序列化")
+    void should_not_mask_when_context_not_bound() throws Exception {
+        String json = objectMapper.writeValueAsString(new User());
+
+        assertThat(json).contains("\"password\":\"123456\"");
+    }
+
+    @Test
+    @DisplayName("被排除的对象与 Map 属性整个子树不脱敏，与反射模式结果一致")
+    void should_skip_excluded_subtrees_like_reflection_mode() throws Exception {
+        Map<String, MaskingHandler> handlers = Collections.singletonMap("mobile", value -> "137****4586");
+        bind(handlers, "owner", "profile");
+
+        String json = objectMapper.writeValueAsString(new Account());
+
+        Account reflection = new Account();
+        EasyDesensitize.mask(reflection, null, handlers, new HashSet<>(Arrays.asList("owner", "profile")), false);
+        assertThat(json).isEqualTo(new ObjectMapper().writeValueAsString(reflection))
+                .contains("\"owner\":{\"password\":\"123456\",\"mobile\":\"13700004586\"")
+                .contains("\"contact\":{\"password\":\"******\",\"mobile\":\"137****4586\"")
+                .contains("\"profile\":{\"mobile\":\"13700004586\"}");
+    }
+
+    @Test
+    @DisplayName("Map 中被排除的键对应的子树不脱敏，与执行计划模式结果一致")
+    void should_skip_excluded_map_entries_like_plan_mode() throws Exception {
+        Map<String, MaskingHandler> handlers = Collections.singletonMap("mobile", value -> "137****4586");
+        bind(handlers, "owner");
+
+        String json = objectMapper.writeValueAsString(envelope());
+
+        Map<String, Object> plan = envelope();
+        new PlanMaskingEngine().mask(plan, handlers, Collections.singleton("owner"));
+        assertThat(json).isEqualTo(new ObjectMapper().writeValueAsString(plan))
+                .isEqualTo("{\"owner\":{\"mobile\":\"13700004586\"},\"mobile\":\"137****4586\"}");
+    }
+
+    private static Map<String, Object> envelope() {
+        Map<String, Object> owner = new LinkedHashMap<>();
+        owner.put("mobile", "13700004586");
+        Map<String, Object> envelope = new LinkedHashMap<>();
+        envelope.put("owner", owner);
+        envelope.put("mobile", "13700004586");
+        return envelope;
+    }
+
+    @Test
+    @DisplayName("绑定只作用于响应体的序列化，之后同一请求中的序列化不脱敏")
+    void should_apply_binding_to_response_body_only() throws Exception {
+        User body = new User();
+        ResponseMaskingContext context = new ResponseMaskingContext(
+                new ResponseMaskingDefinition(true, new HashMap<>(), new HashSet<>()) {
+                });
+        MaskingSerializationContext.bind(new ServletServerHttpRequest(servletRequest), context, body, null);
+
+        // 其他对象的序列化（如审计日志）既不脱敏也不消费绑定
+        assertThat(objectMapper.writeValueAsString(new User())).contains("\"password\":\"123456\"");
+        assertThat(objectMapper.writeValueAsString(body)).contains("\"password\":\"******\"");
+        assertThat(servletRequest.getAttribute(MaskingSerializationContext.ATTRIBUTE)).isNull();
+        // 响应体写出后的序列化（如错误响应）不再脱敏
+        assertThat(objectMapper.writeValueAsString(body)).contains("\"password\":\"123456\"");
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.zhengyuelaii.desensitize.json;
+
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link JsonMaskingFilter} 测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class JsonMaskingFilterTest {
+
+    static final MaskingHandler STAR = value -> "***";
+
+    private final JsonMaskingFilter filter = new JsonMaskingFilter();
+
+    @Test
+    @DisplayName("按名称与路径规则脱敏 JSON 字符串")
+    void should_mask_by_name_and_path() {
+        String json = "{\"data\":{\"records\":[{\"mobile\":\"13800138000\",\"name\":\"张三\"}],"
+                + "\"owner\":{\"mobile\":\"13800138000\"}},\"email\":\"a@b.com\",\"tags\":[\"email\"]}";
+        Map<String, MaskingHandler> handlers = new HashMap<>();
+        handlers.put("email", STAR);
+        handlers.put("data.records[*].mobile", value -> "###");
+
+        String masked = filter.mask(json, handlers, Collections.emptySet(), null);
+
+        assertThat(masked).isEqualTo("{\"data\":{\"records\":[{\"mobile\":\"###\",\"name\":\"张三\"}],"
+                + "\"owner\":{\"mobile\":\"13800138000\"}},\"email\":\"***\",\"tags\":[\"email\"]}");
+    }
+
+    @Test
+    @DisplayName("字节数组脱敏应保留数值原文并遵循排除规则")
+    void should_keep_numbers_and_excluded_fields() {
+        byte[] json = "{\"id\":12345678901234567890,\"amount\":1.50,\"mobile\":\"138\",\"ok\":true,\"nil\":null}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        byte[] masked = filter.mask(json, Collections.singletonMap("mobile", STAR), Collections.emptySet(), null);
+        byte[] excluded = filter.mask(json, Collections.singletonMap("mobile", STAR),
+                new HashSet<>(Collections.singletonList("$.mobile")), null);
+
+        assertThat(new String(masked, StandardCharsets.UTF_8))
+                .isEqualTo("{\"id\":12345678901234567890,\"amount\":1.50,\"mobile\":\"***\",\"ok\":true,\"nil\":null}");
+        assertThat(excluded).isEqualTo(json);
+    }
+
+    @Test
+    @DisplayName("包装输入流应分块输出完整的脱敏结果")
+    void should_mask_large_stream_in_chunks() throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 2000; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"mobile\":\"13800138000\"}");
+        }
+        json.append(']');
+        byte[] source = json.toString().getBytes(StandardCharsets.UTF_8);
+
+        byte[] head = new byte[16];
+        byte[] masked;
+        try (InputStream input = filter.wrap(new ByteArrayInputStream(source),
+                Collections.singletonMap("mobile", STAR), Collections.emptySet(), null)) {
+            assertThat(input.read(head)).isEqualTo(16);
+            assertThat(input.available()).isLessThanOrEqualTo(JsonMaskingFilter.CHUNK_SIZE + 256);
+            masked = StreamUtils.copyToByteArray(input);
+        }
+
+        String result = new String(head, StandardCharsets.UTF_8) + new String(masked, StandardCharsets.UTF_8);
+        assertThat(result).doesNotContain("13800138000").startsWith("[{\"id\":0,\"mobile\":\"***\"}").endsWith("}]");
+        assertThat(result.split("\\*\\*\\*", -1)).hasSize(2001);
+    }
+
+    @Test
+    @DisplayName("包装输出流应按 token 增量脱敏跨多次写入的 JSON 行")
+    void should_mask_written_bytes_incrementally() throws Exception {
+        byte[] source = ("{\"name\":\"张三\",\"mobile\":\"13800138000\"}\n"
+                + "{\"name\":\"李四\",\"mobile\":\"13900139000\"}\n").getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        OutputStream output = filter.wrap(target, Collections.singletonMap("mobile", STAR),
+                Collections.emptySet(), null);
+        // 逐字节写入，token 与多字节字符均被拆分
+        for (byte b : source) {
+            output.write(b);
+        }
+        output.close();
+
+        assertThat(target.toString("UTF-8")).isEqualTo("{\"name\":\"张三\",\"mobile\":\"***\"}\n"
+                + "{\"name\":\"李四\",\"mobile\":\"***\"}");
+    }
+}
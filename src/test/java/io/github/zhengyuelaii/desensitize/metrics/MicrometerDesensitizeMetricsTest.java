@@ -0,0 +1,101 @@
+package io.github.zhengyuelaii.desensitize.metrics;
+
+import io.github.zhengyuelaii.desensitize.autoconfigure.EasyDesensitizeAutoConfiguration;
+import io.github.zhengyuelaii.desensitize.autoconfigure.EasyDesensitizeMetricsAutoConfiguration;
+import io.github.zhengyuelaii.desensitize.config.FailureStrategy;
+import io.github.zhengyuelaii.desensitize.metrics.DesensitizeMetrics.MaskingObservation;
+import io.github.zhengyuelaii.desensitize.metrics.DesensitizeMetrics.Outcome;
+import io.github.zhengyuelaii.desensitize.metrics.DesensitizeMetrics.Phase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MicrometerDesensitizeMetrics 测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MicrometerDesensitizeMetricsTest {
+
+    static class UserController {
+        public Object list() {
+            return null;
+        }
+    }
+
+    private MethodParameter returnType() throws NoSuchMethodException {
+        return new MethodParameter(UserController.class.getMethod("list"), -1);
+    }
+
+    @Test
+    @DisplayName("应按方法与映射模式记录阶段耗时与处理结果")
+    void should_record_phases_and_outcomes() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerDesensitizeMetrics metrics = new MicrometerDesensitizeMetrics(registry);
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/user/1");
+        servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/user/{id}");
+
+        MaskingObservation observation = metrics.start(returnType(), new ServletServerHttpRequest(servletRequest));
+        observation.mark(Phase.CHAIN);
+        observation.mark(Phase.MASK);
+        observation.outcome(Outcome.MASKED);
+        observation.traversal(10, 3);
+        observation.stop();
+
+        assertThat(registry.get(MicrometerDesensitizeMetrics.DURATION)
+                .tag("method", "UserController#list").tag("uri", "/user/{id}").tag("phase", "total")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get(MicrometerDesensitizeMetrics.DURATION).tag("phase", "mask")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get(MicrometerDesensitizeMetrics.OUTCOMES).tag("outcome", "masked")
+                .counter().count()).isEqualTo(1);
+        assertThat(registry.get(MicrometerDesensitizeMetrics.VISITED_OBJECTS).counter().count()).isEqualTo(10);
+        assertThat(registry.get(MicrometerDesensitizeMetrics.MASKED_FIELDS).counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("应按失败策略记录失败次数")
+    void should_record_failures() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerDesensitizeMetrics metrics = new MicrometerDesensitizeMetrics(registry);
+
+        MaskingObservation observation = metrics.start(returnType(),
+                new ServletServerHttpRequest(new MockHttpServletRequest("GET", "/user/1")));
+        observation.failure(FailureStrategy.FAIL_CLOSE);
+        observation.stop();
+        metrics.recordIgnored(returnType());
+
+        assertThat(registry.get(MicrometerDesensitizeMetrics.FAILURES).tag("strategy", "FAIL_CLOSE")
+                .tag("uri", "UNKNOWN").counter().count()).isEqualTo(1);
+        assertThat(registry.get(MicrometerDesensitizeMetrics.OUTCOMES).tag("outcome", "failed")
+                .counter().count()).isEqualTo(1);
+        assertThat(registry.get(MicrometerDesensitizeMetrics.OUTCOMES).tag("outcome", "ignored")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("存在 MeterRegistry 时应自动配置指标")
+    void should_auto_configure_with_meter_registry() {
+        ApplicationContextRunner runner = new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(
+                        EasyDesensitizeAutoConfiguration.class, EasyDesensitizeMetricsAutoConfiguration.class));
+
+        runner.run(context -> assertThat(context).doesNotHaveBean(DesensitizeMetrics.class));
+        runner.withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .run(context -> assertThat(context).hasSingleBean(MicrometerDesensitizeMetrics.class));
+        runner.withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .withPropertyValues("easy.desensitize.metrics.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(DesensitizeMetrics.class));
+    }
+}
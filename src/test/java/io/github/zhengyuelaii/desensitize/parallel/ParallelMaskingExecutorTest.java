@@ -0,0 +1,163 @@
+package io.github.zhengyuelaii.desensitize.parallel;
+
+import io.github.zhengyuelaii.desensitize.config.TraversalLimitAction;
+import io.github.zhengyuelaii.desensitize.plan.PlanMaskingEngine;
+import io.github.zhengyuelaii.desensitize.plan.SharedTraversalState;
+import io.github.zhengyuelaii.desensitize.plan.TraversalLimits;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ParallelMaskingExecutor 测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class ParallelMaskingExecutorTest {
+
+    private final ParallelMaskingExecutor executor = new ParallelMaskingExecutor(1000, 4, "mask-test");
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    static class Dept {
+        String mobile = "13800138000";
+    }
+
+    static class Employee {
+        Dept dept;
+
+        Employee(Dept dept) {
+            this.dept = dept;
+        }
+    }
+
+    private static List<Integer> range(int size) {
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Test
+    @DisplayName("仅集合或对象数组且达到阈值时并行")
+    void should_support_large_collections_only() {
+        assertThat(executor.supports(range(999))).isFalse();
+        assertThat(executor.supports(range(1000))).isTrue();
+        assertThat(executor.supports(new Object[1000])).isTrue();
+        assertThat(executor.supports(new int[1000])).isFalse();
+        assertThat(executor.supports("data")).isFalse();
+    }
+
+    @Test
+    @DisplayName("每个元素恰好处理一次，并在专用线程池上执行")
+    void should_process_each_element_once() {
+        List<Integer> data = new LinkedList<>(range(10000));
+        AtomicInteger total = new AtomicInteger();
+        Set<Integer> seen = ConcurrentHashMap.newKeySet();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        executor.execute(data, chunk -> {
+            threads.add(Thread.currentThread().getName());
+            for (Object element : chunk) {
+                seen.add((Integer) element);
+                total.incrementAndGet();
+            }
+        });
+
+        assertThat(total.get()).isEqualTo(10000);
+        assertThat(seen).hasSize(10000);
+        assertThat(threads).allMatch(name -> name.startsWith("mask-test-"));
+    }
+
+    @Test
+    @DisplayName("分片共享访问记录，共同引用的实例只脱敏一次，对象数限制按整个响应计算")
+    void should_share_visited_objects_and_limits_across_chunks() {
+        PlanMaskingEngine engine = new PlanMaskingEngine();
+        Dept dept = new Dept();
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            employees.add(new Employee(dept));
+        }
+        AtomicInteger calls = new AtomicInteger();
+        SharedTraversalState shared = engine.share(employees);
+
+        executor.execute(employees, chunk -> engine.maskElements(chunk, shared,
+                Collections.singletonMap("mobile", value -> value + calls.incrementAndGet()),
+                Collections.emptySet(), null, TraversalLimits.NONE, null));
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(shared.getVisitedObjects()).isEqualTo(5002);
+
+        TraversalLimits limits = TraversalLimits.of(0, 100, 0, TraversalLimitAction.SKIP);
+        SharedTraversalState limited = engine.share(employees);
+        executor.execute(employees, chunk -> engine.maskElements(chunk, limited,
+                Collections.emptyMap(), Collections.emptySet(), null, limits, null));
+
+        assertThat(limited.getVisitedObjects()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("分片异常在调用线程重新抛出")
+    void should_propagate_chunk_failure() {
+        assertThatThrownBy(() -> executor.execute(range(5000), chunk -> {
+            if (chunk.contains(4999)) {
+                throw new IllegalArgumentException("boom");
+            }
+        })).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("boom");
+
+        // 异常后线程池仍可用
+        AtomicInteger total = new AtomicInteger();
+        executor.execute(Collections.nCopies(2000, "x"), chunk -> total.addAndGet(chunk.size()));
+        assertThat(total.get()).isEqualTo(2000);
+    }
+
+    @Test
+    @DisplayName("分片执行期间可访问请求线程的 RequestAttributes 与 LocaleContext，结束后恢复")
+    void should_propagate_request_context_to_chunks() {
+        RequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+        LocaleContextHolder.setLocale(Locale.CHINA);
+        Set<Object> seenAttributes = ConcurrentHashMap.newKeySet();
+        Set<Locale> seenLocales = ConcurrentHashMap.newKeySet();
+        try {
+            executor.execute(range(5000), chunk -> {
+                seenAttributes.add(RequestContextHolder.getRequestAttributes());
+                seenLocales.add(LocaleContextHolder.getLocale());
+            });
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+            LocaleContextHolder.resetLocaleContext();
+        }
+
+        assertThat(seenAttributes).containsExactly(attributes);
+        assertThat(seenLocales).containsExactly(Locale.CHINA);
+
+        // 工作线程上不残留上一请求的上下文
+        Set<Boolean> cleared = ConcurrentHashMap.newKeySet();
+        executor.execute(range(5000), chunk -> cleared.add(RequestContextHolder.getRequestAttributes() == null));
+        assertThat(cleared).containsExactly(true);
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.zhengyuelaii.desensitize.plan;
+
+import io.github.zhengyuelaii.desensitize.core.annotation.MaskingField;
+import io.github.zhengyuelaii.desensitize.core.handler.FixedMaskHandler;
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 路径规则测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class FieldPathAutomatonTest {
+
+    static final MaskingHandler STAR = value -> "***";
+
+    static class Contact {
+        String mobile;
+        @MaskingField(typeHandler = FixedMaskHandler.class)
+        String password;
+
+        Contact(String mobile, String password) {
+            this.mobile = mobile;
+            this.password = password;
+        }
+    }
+
+    static class Page {
+        List<Contact> records;
+        Contact owner;
+    }
+
+    static class Result {
+        Page data;
+        Contact operator;
+    }
+
+    static final class AuditLog {
+        String action;
+        String operatorMobile;
+    }
+
+    static final class Audit {
+        String mobile;
+        List<AuditLog> logs;
+    }
+
+    static class Wide {
+        Map<String, String> profile;
+        Audit audit;
+    }
+
+    private final PlanMaskingEngine engine = new PlanMaskingEngine();
+
+    @Test
+    @DisplayName("路径规则仅命中对应位置的字段")
+    void should_mask_only_matching_path() {
+        Result result = result();
+
+        engine.mask(result, Collections.singletonMap("data.records[*].mobile", STAR), Collections.emptySet());
+
+        assertThat(result.data.records).extracting(contact -> contact.mobile).containsOnly("***");
+        assertThat(result.data.owner.mobile).isEqualTo("13800138000");
+        assertThat(result.operator.mobile).isEqualTo("13800138000");
+        // 字段注解在任意深度仍然生效
+        assertThat(result.operator.password).isEqualTo("******");
+    }
+
+    @Test
+    @DisplayName("通配片段与路径排除优先于名称规则")
+    void should_support_wildcard_and_path_exclusion() {
+        Result result = result();
+        Map<String, MaskingHandler> handlers = new HashMap<>();
+        handlers.put("mobile", STAR);
+        handlers.put("$.data.*.mobile", value -> "###");
+
+        engine.mask(result, handlers, new HashSet<>(Collections.singletonList("data.owner.mobile")));
+
+        assertThat(result.data.records).extracting(contact -> contact.mobile).containsOnly("###");
+        assertThat(result.data.owner.mobile).isEqualTo("13800138000");
+        assertThat(result.operator.mobile).isEqualTo("***");
+    }
+
+    @Test
+    @DisplayName("无关分支不进入遍历，Map 键按路径转移")
+    void should_prune_dead_branches_and_follow_map_keys() {
+        Wide wide = new Wide();
+        wide.profile = new HashMap<>(Collections.singletonMap("mobile", "13800138000"));
+        wide.audit = new Audit();
+        wide.audit.mobile = "13800138000";
+        wide.audit.logs = Arrays.asList(new AuditLog(), new AuditLog());
+
+        MaskingTraversal traversal = engine.mask(wide,
+                Collections.singletonMap("profile.mobile", STAR), Collections.emptySet());
+
+        assertThat(wide.profile.get("mobile")).isEqualTo("***");
+        assertThat(wide.audit.mobile).isEqualTo("13800138000");
+        // 仅访问根对象与 profile
+        assertThat(traversal.getVisitedObjects()).isEqualTo(2);
+        assertThat(FieldPathAutomaton.compile(Arrays.asList("data.records[*].mobile", "data.*.mobile"),
+                Collections.emptySet()).getStateCount()).isEqualTo(6);
+        assertThatThrownBy(() -> FieldPathAutomaton.compile(Collections.singleton("data.records[0].mobile"),
+                Collections.emptySet())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Result result() {
+        Page page = new Page();
+        page.records = Arrays.asList(new Contact("13800138000", "p1"), new Contact("13800138000", "p2"));
+        page.owner = new Contact("13800138000", "p3");
+        Result result = new Result();
+        result.data = page;
+        result.operator = new Contact("13800138000", "p4");
+        return result;
+    }
+}
@@ -0,0 +1,269 @@
+package io.github.zhengyuelaii.desensitize.plan;
+
+import io.github.zhengyuelaii.desensitize.config.TraversalLimitAction;
+import io.github.zhengyuelaii.desensitize.core.annotation.MaskingField;
+import io.github.zhengyuelaii.desensitize.core.handler.FixedMaskHandler;
+import io.github.zhengyuelaii.desensitize.core.handler.MaskingHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PlanMaskingEngine 测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class PlanMaskingEngineTest {
+
+    static final MaskingHandler STAR = value -> "***";
+
+    static class User {
+        String name;
+        String mobile;
+        @MaskingField(typeHandler = FixedMaskHandler.class)
+        String password;
+        Integer age;
+        LocalDateTime createTime;
+        List<String> tags;
+
+        User(String name, String mobile, String password) {
+            this.name = name;
+            this.mobile = mobile;
+            this.password = password;
+        }
+    }
+
+    static class Result<T> {
+        T data;
+
+        Result(T data) {
+            this.data = data;
+        }
+    }
+
+    static class Node {
+        String mobile;
+        Node next;
+
+        Node(String mobile) {
+            this.mobile = mobile;
+        }
+    }
+
+    static final class Stats {
+        Long total;
+        List<LocalDateTime> times;
+    }
+
+    static class Holder {
+        Stats stats;
+        List<User> users;
+    }
+
+    static class Base {
+        String name;
+    }
+
+    static class Sub extends Base {
+        @MaskingField(typeHandler = FixedMaskHandler.class)
+        String mobile = "13800138000";
+    }
+
+    static class Account {
+        Base item = new Sub();
+        User owner = new User("张三", "13800138000", "abcdefgh");
+    }
+
+    /**
+     * 模拟 ORM 的延迟加载集合，未初始化时遍历会触发加载
+     */
+    static class LazyList<E> extends ArrayList<E> {
+        final boolean initialized;
+        int loads;
+
+        LazyList(boolean initialized, List<E> elements) {
+            super(elements);
+            this.initialized = initialized;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            if (!initialized) {
+                loads++;
+            }
+            return super.iterator();
+        }
+    }
+
+    private final PlanMaskingEngine engine = new PlanMaskingEngine();
+
+    @Test
+    @DisplayName("按字段名称和 @MaskingField 注解脱敏")
+    void should_mask_by_name_and_annotation() {
+        User user = new User("张三", "13800138000", "secret");
+
+        MaskingTraversal traversal = engine.mask(new Result<>(Arrays.asList(user)),
+                Collections.singletonMap("mobile", STAR), Collections.emptySet());
+
+        assertThat(user.name).isEqualTo("张三");
+        assertThat(user.mobile).isEqualTo("***");
+        assertThat(user.password).isEqualTo("******");
+        assertThat(traversal.getMaskedFields()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("排除字段不脱敏")
+    void should_skip_excluded_fields() {
+        User user = new User("张三", "13800138000", "secret");
+
+        engine.mask(user, Collections.singletonMap("mobile", STAR), Collections.singleton("mobile"));
+
+        assertThat(user.mobile).isEqualTo("13800138000");
+        assertThat(user.password).isEqualTo("******");
+    }
+
+    @Test
+    @DisplayName("Map 按键名脱敏并继续遍历值")
+    void should_mask_map_entries() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("mobile", "13800138000");
+        map.put("user", new User("张三", "13900139000", null));
+
+        engine.mask(map, Collections.singletonMap("mobile", STAR), Collections.emptySet());
+
+        assertThat(map.get("mobile")).isEqualTo("***");
+        assertThat(((User) map.get("user")).mobile).isEqualTo("***");
+    }
+
+    @Test
+    @DisplayName("循环引用只访问一次")
+    void should_handle_cycles() {
+        Node first = new Node("13800138000");
+        Node second = new Node("13900139000");
+        first.next = second;
+        second.next = first;
+
+        MaskingTraversal traversal = engine.mask(first, Collections.singletonMap("mobile", STAR),
+                Collections.emptySet());
+
+        assertThat(first.mobile).isEqualTo("***");
+        assertThat(second.mobile).isEqualTo("***");
+        assertThat(traversal.getVisitedObjects()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("超出深度限制时跳过更深的子树")
+    void should_skip_subtree_beyond_max_depth() {
+        Node head = new Node("13800138000");
+        Node node = head;
+        for (int i = 0; i < 4; i++) {
+            node.next = new Node("13800138000");
+            node = node.next;
+        }
+
+        MaskingTraversal traversal = engine.mask(head, Collections.singletonMap("mobile", STAR),
+                Collections.emptySet(), null, TraversalLimits.of(3, 0, 0, TraversalLimitAction.SKIP));
+
+        assertThat(head.mobile).isEqualTo("***");
+        assertThat(head.next.next.mobile).isEqualTo("***");
+        assertThat(head.next.next.next.mobile).isEqualTo("13800138000");
+        assertThat(traversal.getVisitedObjects()).isEqualTo(3);
+        assertThat(traversal.getTruncation()).isEqualTo(TraversalLimits.Limit.DEPTH);
+    }
+
+    @Test
+    @DisplayName("超出集合大小限制时按处理方式停止或抛出异常")
+    void should_stop_or_fail_beyond_max_collection_size() {
+        List<User> users = Arrays.asList(new User("张三", "13800138000", null),
+                new User("李四", "13900139000", null), new User("王五", "13700137000", null));
+
+        MaskingTraversal traversal = engine.mask(users, Collections.singletonMap("mobile", STAR),
+                Collections.emptySet(), null, TraversalLimits.of(0, 0, 2, TraversalLimitAction.STOP));
+
+        assertThat(users).extracting(user -> user.mobile).containsExactly("***", "***", "13700137000");
+        assertThat(traversal.getTruncation()).isEqualTo(TraversalLimits.Limit.COLLECTION_SIZE);
+        assertThatThrownBy(() -> engine.mask(users, Collections.singletonMap("name", STAR), Collections.emptySet(),
+                null, TraversalLimits.of(0, 2, 0, TraversalLimitAction.FAIL)))
+                .isInstanceOf(TraversalLimitExceededException.class)
+                .extracting("limit").isEqualTo(TraversalLimits.Limit.OBJECTS);
+        assertThat(TraversalLimits.of(0, 0, 0, TraversalLimitAction.FAIL)).isSameAs(TraversalLimits.NONE);
+    }
+
+    @Test
+    @DisplayName("遍历守卫拒绝的节点及其子树不再遍历")
+    void should_skip_nodes_rejected_by_guard() {
+        Holder lazy = new Holder();
+        lazy.users = new LazyList<>(false, Collections.singletonList(new User("张三", "13800138000", null)));
+        Holder loaded = new Holder();
+        loaded.users = new LazyList<>(true, Collections.singletonList(new User("李四", "13900139000", null)));
+        PlanMaskingEngine guarded = new PlanMaskingEngine();
+        guarded.setTraversalGuard(TraversalGuard.composite(Arrays.asList(TraversalGuard.NONE,
+                value -> !(value instanceof LazyList) || ((LazyList<?>) value).initialized)));
+
+        MaskingTraversal traversal = guarded.mask(Arrays.asList(lazy, loaded),
+                Collections.singletonMap("mobile", STAR), Collections.emptySet());
+
+        assertThat(((LazyList<?>) lazy.users).loads).isZero();
+        assertThat(lazy.users.get(0).mobile).isEqualTo("13800138000");
+        assertThat(loaded.users.get(0).mobile).isEqualTo("***");
+        assertThat(traversal.getSkippedNodes()).isEqualTo(1);
+        assertThat(guarded.hasTraversalGuard()).isTrue();
+        assertThat(engine.hasTraversalGuard()).isFalse();
+    }
+
+    @Test
+    @DisplayName("编译期剪除不包含脱敏字段的子树")
+    void should_prune_static_subtrees() {
+        MaskingPlanCompiler.PlanSet plans = engine.getCompiler()
+                .getPlans(Collections.singleton("mobile"), Collections.emptySet());
+
+        MaskingPlan userPlan = plans.get(User.class);
+        assertThat(userPlan.getMaskedFieldCount()).isEqualTo(2);
+        // age、createTime、tags 均被剪除
+        assertThat(userPlan.getChildCount()).isZero();
+
+        assertThat(plans.get(Stats.class).isEmpty()).isTrue();
+        MaskingPlan holderPlan = plans.get(Holder.class);
+        assertThat(holderPlan.getChildCount()).isEqualTo(1);
+
+        // 泛型字段按运行时类型分派，不剪除
+        assertThat(plans.get(Result.class).getChildCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("非 final 声明类型按运行时类型脱敏，排除的对象字段跳过整个子树")
+    void should_dispatch_subclasses_and_skip_excluded_objects() {
+        Account account = new Account();
+
+        engine.mask(account, Collections.emptyMap(), Collections.singleton("owner"));
+
+        assertThat(((Sub) account.item).mobile).isEqualTo("******");
+        assertThat(account.owner.password).isEqualTo("abcdefgh");
+    }
+
+    @Test
+    @DisplayName("相同规则复用执行计划")
+    void should_reuse_plans_for_same_rules() {
+        MaskingPlanCompiler compiler = engine.getCompiler();
+        MaskingPlanCompiler.PlanSet first = compiler.getPlans(Collections.singleton("mobile"), Collections.emptySet());
+        MaskingPlanCompiler.PlanSet second = compiler.getPlans(Collections.singleton("mobile"), Collections.emptySet());
+        MaskingPlanCompiler.PlanSet other = compiler.getPlans(Collections.singleton("name"), Collections.emptySet());
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.get(User.class)).isSameAs(second.get(User.class));
+        assertThat(other).isNotSameAs(first);
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.zhengyuelaii.desensitize.prewarm;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingDefinitionCache;
+import io.github.zhengyuelaii.desensitize.annotation.IgnoreResponseMasking;
+import io.github.zhengyuelaii.desensitize.annotation.ResponseMasking;
+import io.github.zhengyuelaii.desensitize.core.annotation.MaskingField;
+import io.github.zhengyuelaii.desensitize.core.handler.KeepFirstAndLastHandler;
+import io.github.zhengyuelaii.desensitize.plan.PlanMaskingEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * MaskingMetadataPrewarmer 测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MaskingMetadataPrewarmerTest {
+
+    static class UserVO {
+        String name;
+        String mobile;
+    }
+
+    static class Page<T> {
+        List<T> records;
+    }
+
+    static class Result<T> {
+        T data;
+    }
+
+    static class UserController {
+
+        @ResponseMasking(fields = @MaskingField(name = "name", typeHandler = KeepFirstAndLastHandler.class))
+        public Result<Page<UserVO>> page() {
+            return null;
+        }
+
+        @ResponseMasking
+        @IgnoreResponseMasking
+        public UserVO ignored() {
+            return null;
+        }
+
+        public UserVO plain() {
+            return null;
+        }
+    }
+
+    interface Summary {
+    }
+
+    static class ViewController {
+
+        @JsonView(Summary.class)
+        @ResponseMasking(fields = @MaskingField(name = "name", typeHandler = KeepFirstAndLastHandler.class))
+        public UserVO summary() {
+            return null;
+        }
+    }
+
+    private static Collection<HandlerMethod> handlerMethods() {
+        UserController controller = new UserController();
+        return Arrays.stream(UserController.class.getDeclaredMethods())
+                .map(method -> new HandlerMethod(controller, method))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("从泛型返回类型中解析实体类型")
+    void should_resolve_entity_types_from_generic_return_type() throws Exception {
+        MethodParameter returnType = new MethodParameter(UserController.class.getMethod("page"), -1);
+
+        assertThat(MaskingMetadataPrewarmer.resolveEntityTypes(returnType))
+                .containsExactly(Result.class, Page.class, UserVO.class);
+    }
+
+    @Test
+    @DisplayName("仅预热标注 @ResponseMasking 且未被忽略的接口，并编译执行计划")
+    void should_prewarm_masked_endpoints_only() {
+        ResponseMaskingDefinitionCache cache = new ResponseMaskingDefinitionCache(true, 16);
+        PlanMaskingEngine engine = new PlanMaskingEngine();
+        MaskingMetadataPrewarmer prewarmer = new MaskingMetadataPrewarmer(
+                MaskingMetadataPrewarmerTest::handlerMethods, cache, engine, false, Duration.ofSeconds(1));
+
+        assertThat(prewarmer.prewarm()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(engine.getCompiler().getMetadataCache().size()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("开启等待时应用就绪事件阻塞至预热完成")
+    void should_wait_for_completion_when_configured() {
+        ResponseMaskingDefinitionCache cache = new ResponseMaskingDefinitionCache(true, 16);
+        MaskingMetadataPrewarmer prewarmer = new MaskingMetadataPrewarmer(
+                MaskingMetadataPrewarmerTest::handlerMethods, cache, null, true, Duration.ofSeconds(10));
+
+        prewarmer.onApplicationEvent(new ApplicationReadyEvent(new SpringApplication(), new String[0], null, null));
+
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("按定义的 @JsonView 编译执行计划")
+    void should_warm_up_with_serialization_view() throws Exception {
+        PlanMaskingEngine engine = mock(PlanMaskingEngine.class);
+        HandlerMethod handlerMethod = new HandlerMethod(new ViewController(),
+                ViewController.class.getMethod("summary"));
+        MaskingMetadataPrewarmer prewarmer = new MaskingMetadataPrewarmer(
+                () -> Collections.singletonList(handlerMethod), new ResponseMaskingDefinitionCache(true, 16),
+                engine, false, Duration.ofSeconds(1));
+
+        prewarmer.prewarm();
+
+        verify(engine).warmUp(eq(UserVO.class), eq(Collections.singleton("name")), any(), eq(Summary.class));
+    }
+
+    @Test
+    @DisplayName("接口不会使用执行计划引擎时只预热脱敏定义")
+    void should_skip_plans_when_plan_engine_is_not_used() {
+        ResponseMaskingDefinitionCache cache = new ResponseMaskingDefinitionCache(true, 16);
+        PlanMaskingEngine engine = new PlanMaskingEngine();
+        MaskingMetadataPrewarmer prewarmer = new MaskingMetadataPrewarmer(
+                MaskingMetadataPrewarmerTest::handlerMethods, cache, engine, definition -> false, false,
+                Duration.ofSeconds(1));
+
+        assertThat(prewarmer.prewarm()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(engine.getCompiler().getMetadataCache().size()).isZero();
+    }
+}
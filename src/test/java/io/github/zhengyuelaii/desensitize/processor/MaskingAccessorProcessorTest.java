@@ -0,0 +1,154 @@
+package io.github.zhengyuelaii.desensitize.processor;
+
+import io.github.zhengyuelaii.desensitize.plan.GeneratedMaskingAccessors;
+import io.github.zhengyuelaii.desensitize.plan.MaskingPlanCompiler;
+import io.github.zhengyuelaii.desensitize.plan.PlanMaskingEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 字段访问器生成测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class MaskingAccessorProcessorTest {
+
+    private static final String USER_SOURCE = "package demo;\n"
+            + "import io.github.zhengyuelaii.desensitize.core.annotation.MaskingField;\n"
+            + "import io.github.zhengyuelaii.desensitize.core.handler.FixedMaskHandler;\n"
+            + "public class User {\n"
+            + "    @MaskingField(typeHandler = FixedMaskHandler.class)\n"
+            + "    private String password = \"123456\";\n"
+            + "    String mobile = \"13800138000\";\n"
+            + "    private String address = \"上海\";\n"
+            + "    public Contact contact = new Contact();\n"
+            + "    private Object code = \"A\";\n"
+            + "    private String nickname = \"张三\";\n"
+            + "    public int setterCalls;\n"
+            + "    public String getCode() { return String.valueOf(code); }\n"
+            + "    public String getNickname() { return nickname; }\n"
+            + "    public void setNickname(Object nickname) { this.nickname = String.valueOf(nickname); }\n"
+            + "    public String getPassword() { return password; }\n"
+            + "    public void setPassword(String password) { this.password = password; setterCalls++; }\n"
+            + "    private static class Hidden {\n"
+            + "        @MaskingField(typeHandler = FixedMaskHandler.class)\n"
+            + "        String secret;\n"
+            + "    }\n"
+            + "}\n";
+
+    private static final String CONTACT_SOURCE = "package demo;\n"
+            + "public class Contact {\n"
+            + "    public String mobile = \"13800138000\";\n"
+            + "}\n";
+
+    private static final String ADDRESS_SOURCE = "package demo;\n"
+            + "import io.github.zhengyuelaii.desensitize.core.annotation.MaskingField;\n"
+            + "import io.github.zhengyuelaii.desensitize.core.handler.FixedMaskHandler;\n"
+            + "public class Address {\n"
+            + "    @MaskingField(typeHandler = FixedMaskHandler.class)\n"
+            + "    public String detail = \"上海\";\n"
+            + "}\n";
+
+    @Test
+    @DisplayName("生成的访问器经 ServiceLoader 加载，缺少访问器的字段与类型回退到反射")
+    void should_generate_accessors_and_fall_back(@TempDir Path dir) throws Exception {
+        Path sources = Files.createDirectories(dir.resolve("src/demo"));
+        Files.write(sources.resolve("User.java"), USER_SOURCE.getBytes(StandardCharsets.UTF_8));
+        Files.write(sources.resolve("Contact.java"), CONTACT_SOURCE.getBytes(StandardCharsets.UTF_8));
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+
+        compile(classes, sources.resolve("User.java"), sources.resolve("Contact.java"));
+
+        String generated = new String(Files.readAllBytes(classes.resolve("demo/User_MaskingAccessor.java")),
+                StandardCharsets.UTF_8);
+        assertThat(generated)
+                .contains("((demo.User) target).getPassword()")
+                .contains("((demo.User) target).mobile = value")
+                // private 字段没有 getter，不生成
+                .doesNotContain("\"address\"")
+                // getter 返回类型或 setter 参数类型与字段类型不一致，不生成
+                .doesNotContain("\"code\"")
+                .doesNotContain("\"nickname\"");
+        assertThat(classes.resolve("demo/User_Hidden_MaskingAccessor.java")).doesNotExist();
+        assertThat(new String(Files.readAllBytes(classes.resolve(MaskingAccessorProcessor.SERVICE_FILE)),
+                StandardCharsets.UTF_8)).isEqualTo("demo.User_MaskingAccessor\n");
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()},
+                getClass().getClassLoader())) {
+            GeneratedMaskingAccessors accessors = GeneratedMaskingAccessors.load(loader);
+            assertThat(accessors.size()).isEqualTo(1);
+
+            MaskingPlanCompiler compiler = new MaskingPlanCompiler();
+            compiler.setGeneratedAccessors(accessors);
+            Class<?> userType = loader.loadClass("demo.User");
+            Object user = userType.getConstructor().newInstance();
+            new PlanMaskingEngine(compiler).mask(user,
+                    Collections.singletonMap("mobile", value -> "***"), Collections.emptySet());
+
+            assertThat(read(user, "password")).isEqualTo("******");
+            assertThat(read(user, "setterCalls")).isEqualTo(1);
+            assertThat(read(user, "mobile")).isEqualTo("***");
+            // Contact 没有生成访问器，通过反射脱敏
+            assertThat(read(read(user, "contact"), "mobile")).isEqualTo("***");
+        }
+    }
+
+    @Test
+    @DisplayName("增量编译时合并已有的服务文件登记")
+    void should_merge_service_file_on_incremental_compile(@TempDir Path dir) throws Exception {
+        Path sources = Files.createDirectories(dir.resolve("src/demo"));
+        Files.write(sources.resolve("User.java"), USER_SOURCE.getBytes(StandardCharsets.UTF_8));
+        Files.write(sources.resolve("Contact.java"), CONTACT_SOURCE.getBytes(StandardCharsets.UTF_8));
+        Files.write(sources.resolve("Address.java"), ADDRESS_SOURCE.getBytes(StandardCharsets.UTF_8));
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+
+        compile(classes, sources.resolve("User.java"), sources.resolve("Contact.java"));
+        // 第二次只编译修改过的 Address
+        compile(classes, sources.resolve("Address.java"));
+
+        assertThat(new String(Files.readAllBytes(classes.resolve(MaskingAccessorProcessor.SERVICE_FILE)),
+                StandardCharsets.UTF_8)).isEqualTo("demo.Address_MaskingAccessor\ndemo.User_MaskingAccessor\n");
+    }
+
+    private static void compile(Path classes, Path... sources) {
+        JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        assumeTrue(javac != null, "requires a JDK");
+        List<String> arguments = new ArrayList<>(Arrays.asList("-encoding", "UTF-8",
+                "-classpath", System.getProperty("java.class.path") + File.pathSeparator + classes,
+                "-processor", MaskingAccessorProcessor.class.getName(),
+                "-d", classes.toString(), "-s", classes.toString()));
+        for (Path source : sources) {
+            arguments.add(source.toString());
+        }
+        ByteArrayOutputStream diagnostics = new ByteArrayOutputStream();
+        int status = javac.run(null, null, diagnostics, arguments.toArray(new String[0]));
+        assertThat(status).as(diagnostics.toString()).isZero();
+    }
+
+    private static Object read(Object target, String name) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+}
@@ -0,0 +1,324 @@
+package io.github.zhengyuelaii.desensitize.reactive;
+
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingContext;
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingDefinitionCache;
+import io.github.zhengyuelaii.desensitize.advice.ResponseMaskingProcessor;
+import io.github.zhengyuelaii.desensitize.annotation.ResponseMasking;
+import io.github.zhengyuelaii.desensitize.config.EasyDesensitizeProperties;
+import io.github.zhengyuelaii.desensitize.config.TraversalLimitAction;
+import io.github.zhengyuelaii.desensitize.core.annotation.MaskingField;
+import io.github.zhengyuelaii.desensitize.core.handler.KeepFirstAndLastHandler;
+import io.github.zhengyuelaii.desensitize.interceptor.DesensitizeInterceptorChainResolver;
+import io.github.zhengyuelaii.desensitize.interceptor.DesensitizeInterceptorRegistry;
+import io.github.zhengyuelaii.desensitize.interceptor.EasyDesensitizeInterceptor;
+import io.github.zhengyuelaii.desensitize.plan.PlanMaskingEngine;
+import io.github.zhengyuelaii.desensitize.resolver.AbstractMaskingDataResolver;
+import io.github.zhengyuelaii.desensitize.resolver.GlobalMaskingResolverComposite;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.codec.CharSequenceEncoder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.HandlerResult;
+import org.springframework.web.reactive.accept.RequestedContentTypeResolver;
+import org.springframework.web.reactive.accept.RequestedContentTypeResolverBuilder;
+import org.springframework.web.reactive.result.method.annotation.ResponseBodyResultHandler;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityResultHandler;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReactiveResponseMaskingResultHandler 测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class ReactiveResponseMaskingResultHandlerTest {
+
+    public static class User {
+        private String name;
+
+        public User(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    @RestController
+    static class UserController {
+
+        @ResponseMasking(fields = @MaskingField(name = "name", typeHandler = KeepFirstAndLastHandler.class))
+        public Mono<User> one() {
+            return null;
+        }
+
+        @ResponseMasking(fields = @MaskingField(name = "name", typeHandler = KeepFirstAndLastHandler.class))
+        public Flux<User> all() {
+            return null;
+        }
+
+        @ResponseMasking(fields = @MaskingField(name = "name", typeHandler = KeepFirstAndLastHandler.class))
+        public List<User> list() {
+            return null;
+        }
+
+        @ResponseMasking(fields = @MaskingField(name = "name", typeHandler = KeepFirstAndLastHandler.class))
+        public ResponseEntity<User> entity() {
+            return null;
+        }
+
+        @ResponseMasking(fields = @MaskingField(name = "name", typeHandler = KeepFirstAndLastHandler.class))
+        public Mono<ResponseEntity<User>> monoEntity() {
+            return null;
+        }
+
+        @ResponseMasking(fields = @MaskingField(name = "name", typeHandler = KeepFirstAndLastHandler.class))
+        public Result<List<User>> envelope() {
+            return null;
+        }
+
+        @ResponseMasking(fields = @MaskingField(name = "name", typeHandler = KeepFirstAndLastHandler.class))
+        public Flux<Result<List<User>>> envelopes() {
+            return null;
+        }
+
+        public Mono<User> plain() {
+            return null;
+        }
+    }
+
+    public static class Result<T> {
+        private final T data;
+
+        public Result(T data) {
+            this.data = data;
+        }
+
+        public T getData() {
+            return data;
+        }
+    }
+
+    static class ResultResolver extends AbstractMaskingDataResolver<Result<?>> {
+        private final AtomicInteger calls;
+
+        ResultResolver(AtomicInteger calls) {
+            this.calls = calls;
+        }
+
+        @Override
+        protected Object resolveInternal(Result<?> source) {
+            calls.incrementAndGet();
+            return source.getData();
+        }
+    }
+
+    private final DesensitizeInterceptorRegistry registry = new DesensitizeInterceptorRegistry();
+
+    private final AtomicInteger resolutions = new AtomicInteger();
+
+    private final EasyDesensitizeProperties properties = new EasyDesensitizeProperties();
+
+    private ReactiveResponseMaskingResultHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        ResponseMaskingProcessor processor = new ResponseMaskingProcessor();
+        ReflectionTestUtils.setField(processor, "properties", properties);
+        GlobalMaskingResolverComposite resolverComposite = new GlobalMaskingResolverComposite();
+        resolverComposite.addResolver(new ResultResolver(resolutions));
+        ReflectionTestUtils.setField(processor, "globalMaskingDataResolver", resolverComposite);
+        ReflectionTestUtils.setField(processor, "definitionCache", new ResponseMaskingDefinitionCache(true, 16));
+        ReflectionTestUtils.setField(processor, "interceptorChainResolver",
+                new DesensitizeInterceptorChainResolver(registry, 16));
+        ReflectionTestUtils.setField(processor, "planMaskingEngine", new PlanMaskingEngine());
+
+        List<HttpMessageWriter<?>> writers = Arrays.asList(
+                new EncoderHttpMessageWriter<>(CharSequenceEncoder.textPlainOnly()),
+                new EncoderHttpMessageWriter<>(new Jackson2JsonEncoder()));
+        RequestedContentTypeResolver contentTypeResolver = new RequestedContentTypeResolverBuilder().build();
+        ResponseBodyResultHandler delegate = new ResponseBodyResultHandler(writers, contentTypeResolver);
+        ResponseEntityResultHandler entityDelegate = new ResponseEntityResultHandler(writers, contentTypeResolver);
+        handler = new ReactiveResponseMaskingResultHandler(processor, delegate, entityDelegate,
+                Schedulers.boundedElastic(), 2);
+    }
+
+    private static HandlerResult result(String methodName, Object value) throws NoSuchMethodException {
+        UserController controller = new UserController();
+        Method method = UserController.class.getMethod(methodName);
+        return new HandlerResult(new HandlerMethod(controller, method), value,
+                new MethodParameter(method, -1), new BindingContext());
+    }
+
+    private String write(HandlerResult result, MockServerWebExchange exchange) {
+        assertThat(handler.supports(result)).isTrue();
+        handler.handleResult(exchange, result).block();
+        return exchange.getResponse().getBodyAsString().block();
+    }
+
+    @Test
+    @DisplayName("仅处理标注 @ResponseMasking 的接口，且排在 ResponseEntityResultHandler 与 ResponseBodyResultHandler 之前")
+    void should_support_annotated_handlers_only() throws Exception {
+        assertThat(handler.supports(result("plain", Mono.empty()))).isFalse();
+        assertThat(handler.supports(result("one", Mono.empty()))).isTrue();
+        assertThat(handler.supports(result("entity", null))).isTrue();
+        assertThat(handler.getOrder()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Mono 响应体脱敏")
+    void should_mask_mono() throws Exception {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/users/1"));
+
+        String body = write(result("one", Mono.just(new User("李小龙"))), exchange);
+
+        assertThat(body).isEqualTo("{\"name\":\"李*龙\"}");
+    }
+
+    @Test
+    @DisplayName("Flux 元素逐个脱敏，拦截器只执行一次并可获取 ServerWebExchange")
+    void should_mask_flux_elements_and_expose_exchange() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicReference<ServerWebExchange> seen = new AtomicReference<>();
+        registry.addInterceptor(new EasyDesensitizeInterceptor() {
+            @Override
+            public boolean preHandle(Object body, ResponseMaskingContext context, MethodParameter returnType,
+                                     ServerHttpRequest request, ServerHttpResponse response) {
+                calls.incrementAndGet();
+                seen.set(((ExchangeServerHttpRequest) request).getExchange());
+                return true;
+            }
+        }).addPathPatterns("/**");
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/users"));
+
+        String body = write(result("all", Flux.just(new User("李小龙"), new User("张三丰"))), exchange);
+
+        assertThat(body).isEqualTo("[{\"name\":\"李*龙\"},{\"name\":\"张*丰\"}]");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(seen.get()).isSameAs(exchange);
+    }
+
+    @Test
+    @DisplayName("超过阈值的负载切换到调度器线程脱敏")
+    void should_offload_large_payloads() throws Exception {
+        AtomicReference<String> thread = new AtomicReference<>();
+        registry.addInterceptor(new EasyDesensitizeInterceptor() {
+            @Override
+            public void postHandle(Object body, ResponseMaskingContext context, MethodParameter returnType,
+                                   ServerHttpRequest request, ServerHttpResponse response) {
+                thread.set(Thread.currentThread().getName());
+            }
+        }).addPathPatterns("/**");
+        List<User> users = new ArrayList<>(Arrays.asList(new User("李小龙"), new User("张三丰")));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/users"));
+
+        String body = write(result("list", users), exchange);
+
+        assertThat(body).isEqualTo("[{\"name\":\"李*龙\"},{\"name\":\"张*丰\"}]");
+        assertThat(thread.get()).startsWith("boundedElastic");
+    }
+
+    @Test
+    @DisplayName("ResponseEntity 响应体脱敏，状态码与响应头原样保留")
+    void should_mask_response_entity_body() throws Exception {
+        ResponseEntity<User> entity = ResponseEntity.status(HttpStatus.CREATED).header("X-Trace", "1")
+                .body(new User("李小龙"));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/users/1"));
+
+        String body = write(result("entity", entity), exchange);
+
+        assertThat(body).isEqualTo("{\"name\":\"李*龙\"}");
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(exchange.getResponse().getHeaders().getFirst("X-Trace")).isEqualTo("1");
+
+        MockServerWebExchange monoExchange = MockServerWebExchange.from(MockServerHttpRequest.get("/users/2"));
+        assertThat(write(result("monoEntity", Mono.just(ResponseEntity.ok(new User("张三丰")))), monoExchange))
+                .isEqualTo("{\"name\":\"张*丰\"}");
+    }
+
+    @Test
+    @DisplayName("包装结构按全局解析器解析后的数据计算负载大小")
+    void should_offload_envelopes_by_resolved_payload() throws Exception {
+        AtomicReference<String> thread = new AtomicReference<>();
+        registry.addInterceptor(new EasyDesensitizeInterceptor() {
+            @Override
+            public void postHandle(Object body, ResponseMaskingContext context, MethodParameter returnType,
+                                   ServerHttpRequest request, ServerHttpResponse response) {
+                thread.set(Thread.currentThread().getName());
+            }
+        }).addPathPatterns("/**");
+        Result<List<User>> envelope = new Result<>(Arrays.asList(new User("李小龙"), new User("张三丰")));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/users"));
+
+        String body = write(result("envelope", envelope), exchange);
+
+        assertThat(body).isEqualTo("{\"data\":[{\"name\":\"李*龙\"},{\"name\":\"张*丰\"}]}");
+        assertThat(thread.get()).startsWith("boundedElastic");
+    }
+
+    @Test
+    @DisplayName("全局解析器对每个响应体与 Flux 元素只执行一次，解析结果同时用于判断负载大小与脱敏")
+    void should_resolve_payload_once() throws Exception {
+        Result<List<User>> envelope = new Result<>(Arrays.asList(new User("李小龙"), new User("张三丰")));
+        write(result("envelope", envelope), MockServerWebExchange.from(MockServerHttpRequest.get("/users")));
+
+        assertThat(resolutions.get()).isEqualTo(1);
+        assertThat(envelope.getData().get(0).getName()).isEqualTo("李*龙");
+
+        resolutions.set(0);
+        Flux<Result<List<User>>> envelopes = Flux.just(
+                new Result<>(Arrays.asList(new User("李小龙"), new User("张三丰"))),
+                new Result<>(Arrays.asList(new User("王五"))));
+        String body = write(result("envelopes", envelopes),
+                MockServerWebExchange.from(MockServerHttpRequest.get("/users")));
+
+        assertThat(resolutions.get()).isEqualTo(2);
+        assertThat(body).contains("李*龙", "张*丰");
+    }
+
+    @Test
+    @ExtendWith(OutputCaptureExtension.class)
+    @DisplayName("遍历按 SKIP 截断时记录告警，包含触发的限制与处理方法")
+    void should_warn_when_traversal_truncated(CapturedOutput output) throws Exception {
+        properties.setMaxCollectionSize(1);
+        properties.setLimitAction(TraversalLimitAction.SKIP);
+        List<User> users = new ArrayList<>(Arrays.asList(new User("李小龙"), new User("张三丰")));
+
+        write(result("list", users), MockServerWebExchange.from(MockServerHttpRequest.get("/users")));
+
+        assertThat(output).contains("WARN", "Masking traversal truncated by COLLECTION_SIZE limit",
+                "UserController.list()");
+    }
+}
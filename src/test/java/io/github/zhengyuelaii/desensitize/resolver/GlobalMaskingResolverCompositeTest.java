@@ -0,0 +1,153 @@
+package io.github.zhengyuelaii.desensitize.resolver;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.Order;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GlobalMaskingResolverComposite 测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class GlobalMaskingResolverCompositeTest {
+
+    static class Result<T> {
+        final T data;
+
+        Result(T data) {
+            this.data = data;
+        }
+    }
+
+    static class Page<T> {
+        final List<T> records;
+
+        Page(List<T> records) {
+            this.records = records;
+        }
+    }
+
+    static class ResultResolver extends AbstractMaskingDataResolver<Result<?>> {
+        @Override
+        protected Object resolveInternal(Result<?> source) {
+            return source.data;
+        }
+    }
+
+    static class PageResolver extends AbstractMaskingDataResolver<Page<?>> {
+        @Override
+        protected Object resolveInternal(Page<?> source) {
+            return source.records;
+        }
+    }
+
+    @Order(1)
+    static class FirstResultResolver extends AbstractMaskingDataResolver<Result<?>> {
+        @Override
+        protected Object resolveInternal(Result<?> source) {
+            return "first";
+        }
+    }
+
+    /**
+     * 根据数据内容判断是否支持的解析器
+     */
+    static class NonEmptyPageResolver extends AbstractMaskingDataResolver<Page<?>> {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public boolean supports(Object source) {
+            calls.incrementAndGet();
+            return super.supports(source) && !((Page<?>) source).records.isEmpty();
+        }
+
+        @Override
+        protected Object resolveInternal(Page<?> source) {
+            return source.records;
+        }
+    }
+
+    @Order(0)
+    static class FailingResultResolver extends AbstractMaskingDataResolver<Result<?>> {
+        @Override
+        protected Object resolveInternal(Result<?> source) {
+            throw new IllegalStateException("failed");
+        }
+    }
+
+    /**
+     * 始终返回新包装对象的解析器
+     */
+    static class EndlessResolver extends AbstractMaskingDataResolver<Result<?>> {
+        @Override
+        protected Object resolveInternal(Result<?> source) {
+            return new Result<>(source);
+        }
+    }
+
+    @Test
+    @DisplayName("应逐层解析嵌套的统一响应结构")
+    void should_unwrap_nested_envelopes() {
+        GlobalMaskingResolverComposite composite = new GlobalMaskingResolverComposite();
+        composite.addResolvers(Arrays.asList(new ResultResolver(), new PageResolver()));
+        List<String> records = Collections.singletonList("row");
+
+        Object resolved = composite.resolve(new Result<>(new Page<>(records)));
+
+        assertThat(resolved).isSameAs(records);
+        assertThat(composite.resolve(new Result<>(new Page<>(records)))).isSameAs(records);
+    }
+
+    @Test
+    @DisplayName("应按 @Order 顺序选择解析器")
+    void should_respect_order() {
+        GlobalMaskingResolverComposite composite = new GlobalMaskingResolverComposite();
+        composite.addResolver(new ResultResolver());
+        composite.addResolver(new FirstResultResolver());
+
+        assertThat(composite.resolve(new Result<>("data"))).isEqualTo("first");
+    }
+
+    @Test
+    @DisplayName("重写 supports 的解析器不应按类型缓存")
+    void should_not_cache_value_based_resolvers() {
+        NonEmptyPageResolver resolver = new NonEmptyPageResolver();
+        GlobalMaskingResolverComposite composite = new GlobalMaskingResolverComposite();
+        composite.addResolver(resolver);
+        Page<String> empty = new Page<>(Collections.emptyList());
+        Page<String> page = new Page<>(Collections.singletonList("row"));
+
+        assertThat(composite.resolve(empty)).isSameAs(empty);
+        assertThat(composite.resolve(page)).isSameAs(page.records);
+        assertThat(resolver.calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("解析器失败时应尝试后续匹配的解析器")
+    void should_try_next_resolver_on_failure() {
+        GlobalMaskingResolverComposite composite = new GlobalMaskingResolverComposite();
+        composite.addResolver(new FailingResultResolver());
+        composite.addResolver(new ResultResolver());
+
+        assertThat(composite.resolve(new Result<>("data"))).isEqualTo("data");
+    }
+
+    @Test
+    @DisplayName("超过最大解析层数时应停止解析")
+    void should_stop_at_max_depth() {
+        GlobalMaskingResolverComposite composite = new GlobalMaskingResolverComposite();
+        composite.addResolver(new EndlessResolver());
+
+        assertThat(composite.resolve(new Result<>("data"))).isInstanceOf(Result.class);
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.zhengyuelaii.desensitize.streaming;
+
+import io.github.zhengyuelaii.desensitize.json.JsonMaskingFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StreamingMaskingSupport 测试
+ *
+ * @author zhengyuelaii
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class StreamingMaskingSupportTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final ElementMasker masker = element -> {
+        calls.incrementAndGet();
+        return "*" + element;
+    };
+
+    @Test
+    @DisplayName("识别流式响应体与不经过 ResponseBodyAdvice 的返回类型")
+    void should_detect_streaming_bodies() {
+        assertThat(StreamingMaskingSupport.isStreaming(Stream.of("a"))).isTrue();
+        assertThat(StreamingMaskingSupport.isStreaming(Flux.just("a"))).isTrue();
+        assertThat(StreamingMaskingSupport.isStreaming("a")).isFalse();
+
+        assertThat(StreamingMaskingSupport.isDeferredStreamingType(StreamingResponseBody.class)).isTrue();
+        assertThat(StreamingMaskingSupport.isDeferredStreamingType(Flux.class)).isTrue();
+        assertThat(StreamingMaskingSupport.isDeferredStreamingType(Stream.class)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Stream 与 Flux 在元素发出时才脱敏")
+    @SuppressWarnings("unchecked")
+    void should_mask_lazily() {
+        Stream<Object> stream = (Stream<Object>) StreamingMaskingSupport.wrap(Stream.of("a", "b"), masker);
+        assertThat(calls.get()).isZero();
+        assertThat(stream.collect(Collectors.toList())).containsExactly("*a", "*b");
+
+        Flux<Object> flux = (Flux<Object>) StreamingMaskingSupport.wrap(Flux.just("c"), masker);
+        assertThat(calls.get()).isEqualTo(2);
+        List<Object> masked = flux.collectList().block();
+        assertThat(masked).containsExactly("*c");
+    }
+
+    @Test
+    @DisplayName("StreamingResponseBody 写出期间绑定当前响应的脱敏规则")
+    void should_bind_masker_while_writing() throws Exception {
+        StreamingResponseBody body = out -> out.write(
+                StreamingResponseMasker.mask("a").getBytes(StandardCharsets.UTF_8));
+
+        StreamingResponseBody wrapped = (StreamingResponseBody) StreamingMaskingSupport.wrap(body, masker);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        wrapped.writeTo(out);
+
+        assertThat(out.toString("UTF-8")).isEqualTo("*a");
+        // 写出结束后解绑
+        assertThat(StreamingResponseMasker.mask("b")).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("StreamingResponseBody 输出为 JSON 时自动脱敏写出的字节")
+    void should_mask_written_json_automatically() throws Exception {
+        StreamingResponseBody body = out -> {
+            out.write("[{\"mobile\":\"138".getBytes(StandardCharsets.UTF_8));
+            // 业务代码手动调用时不再重复脱敏
+            out.write(StreamingResponseMasker.mask("00138000\"}]").getBytes(StandardCharsets.UTF_8));
+        };
+        OutputMasker outputMasker = output -> new JsonMaskingFilter().wrap(output,
+                Collections.singletonMap("mobile", value -> "***"), Collections.emptySet(), null);
+
+        StreamingResponseBody wrapped = (StreamingResponseBody) StreamingMaskingSupport.wrap(body, masker,
+                outputMasker);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        wrapped.writeTo(out);
+
+        assertThat(out.toString("UTF-8")).isEqualTo("[{\"mobile\":\"***\"}]");
+        assertThat(calls.get()).isZero();
+    }
+}